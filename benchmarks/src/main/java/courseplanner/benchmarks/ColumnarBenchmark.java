@@ -0,0 +1,136 @@
+package courseplanner.benchmarks;
+
+import courseplanner.ColumnarPlanner;
+import courseplanner.Course;
+import courseplanner.FullPlannerException;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The <code>ColumnarBenchmark</code> class compares scans over the columns of a
+ * <code>ColumnarPlanner</code> with the same scans over an array of <code>Course</code> objects, the
+ * layout the planner used to store its courses in.
+ * <br>Three scans are measured in both layouts: counting the courses of a department, looking for a
+ * course the planner doesn't hold, as done by exists, and comparing two equal planners, as done by
+ * equals. The benchmarks of the object layout end in Objects and those of the columns in Columns.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnarBenchmark {
+
+    //The departments the courses are drawn from
+    private static final String[] DEPARTMENTS = {"CSE", "AMS", "MAT", "PHY", "CHE", "BIO",
+            "ECO", "ESE", "MEC", "ISE", "WRT", "PSY"};
+
+    //The number of courses in each layout
+    @Param({"1000", "100000"})
+    public int size;
+
+    //The courses as objects, and an equal copy of them
+    private Course[] objects;
+    private Course[] others;
+
+    //The same courses in columns, and an equal copy of them
+    private ColumnarPlanner columns;
+    private ColumnarPlanner otherColumns;
+
+    //A course neither layout holds
+    private Course missing;
+
+    /**
+     * This method fills both layouts with the same courses
+     * @throws FullPlannerException
+     *  Never, the planners are made large enough
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws FullPlannerException {
+        objects = new Course[size];
+        others = new Course[size];
+        columns = new ColumnarPlanner(size);
+        otherColumns = new ColumnarPlanner(size);
+        for (int i = 0; i < size; i++) {
+            objects[i] = new Course("Course " + (i % 2000), DEPARTMENTS[i % DEPARTMENTS.length],
+                    100 + i % 400, (byte) (i % 5), "Instructor " + (i * 7919 % 300));
+            others[i] = (Course) objects[i].clone();
+            columns.addCourse(objects[i]);
+            otherColumns.addCourse(others[i]);
+        }
+        missing = new Course("Course 0", "CSE", 999, (byte) 9, "Instructor 0");
+    }
+
+    /**
+     * Counts the courses of a department one course object at a time
+     */
+    @Benchmark
+    public int filterCountObjects() {
+        int count = 0;
+        for (Course course : objects)
+            count += course.getDepartment().equals("CSE") ? 1 : 0;
+        return count;
+    }
+
+    /**
+     * Counts the courses of a department over the department column
+     */
+    @Benchmark
+    public int filterCountColumns() {
+        return columns.count("CSE");
+    }
+
+    /**
+     * Looks for a missing course comparing each course object with equals
+     */
+    @Benchmark
+    public int existsMissObjects() {
+        for (int i = 0; i < objects.length; i++) {
+            if (objects[i].equals(missing))
+                return i + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Looks for a missing course over the columns
+     */
+    @Benchmark
+    public int existsMissColumns() {
+        return columns.indexOf(missing);
+    }
+
+    /**
+     * Compares two equal arrays of course objects
+     */
+    @Benchmark
+    public boolean equalsObjects() {
+        return Arrays.equals(objects, others);
+    }
+
+    /**
+     * Compares two equal columnar planners
+     */
+    @Benchmark
+    public boolean equalsColumns() {
+        return columns.equals(otherColumns);
+    }
+}
@@ -0,0 +1,98 @@
+package courseplanner.benchmarks;
+
+import courseplanner.Course;
+import courseplanner.FullPlannerException;
+import courseplanner.Planner;
+import courseplanner.SymbolTable;
+
+/**
+ * The <code>FootprintReport</code> class compares the heap taken by a planner of N courses with the
+ * department and instructor dictionary encoded, as done by <code>Course</code>, and without it, where
+ * every course read from a file or typed in holds its own copy of both strings.
+ * <br>The courses are drawn from a catalog of 12 departments and 300 instructors. Both layouts are
+ * estimated for a 64-bit JVM with compressed references and compact strings, and the heap actually
+ * taken by the encoded planner is measured as a check of the estimate. The measured heap also holds
+ * the label indexes of the planner, which the estimates leave out as they don't change with the layout.
+ * <br>Usage: java -cp benchmarks/target/benchmarks.jar courseplanner.benchmarks.FootprintReport [courses]
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class FootprintReport {
+
+    //The departments and the number of instructors of the catalog the courses are drawn from
+    private static final String[] DEPARTMENTS = {"CSE", "AMS", "MAT", "PHY", "CHE", "BIO",
+            "ECO", "ESE", "MEC", "ISE", "WRT", "PSY"};
+    private static final int INSTRUCTORS = 300;
+
+    //The estimated size of a course object, the same for both layouts as an id takes as much room
+    //as a compressed reference: the saving comes from the strings no longer copied. The columns a
+    //course keeps once printed are left out, as the planner is never printed here
+    private static final long COURSE = SymbolTable.align(12 + 4 + 4 + 4 + 1 + 4 + 4);
+
+    //The estimated size of a node of the course sequence, the same for both layouts
+    private static final long NODE = SymbolTable.align(12 + 4 + 4 + 4 + 8 + 4 + 4 + 4 + 4);
+
+    /**
+     * The main method builds the planner and prints the report
+     * @param args
+     *  The number of courses in the planner, 100000 by default
+     * @throws FullPlannerException
+     *  Never, the planner is made large enough
+     */
+    public static void main(String[] args) throws FullPlannerException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        long before = usedHeap();
+        Planner planner = new Planner(n);
+        long names = 0;
+        long unencodedStrings = 0;
+        for (int i = 0; i < n; i++) {
+            //New strings for every course, as made when reading a file or the console
+            String name = new String(("Course " + (i % 2000)).toCharArray());
+            String department = new String(DEPARTMENTS[i % DEPARTMENTS.length].toCharArray());
+            String instructor = new String(("Instructor " + (i * 7919 % INSTRUCTORS)).toCharArray());
+            planner.addCourse(new Course(name, department, 100 + i % 400, (byte) (i % 5), instructor));
+            names += SymbolTable.stringFootprint(name);
+            unencodedStrings += SymbolTable.stringFootprint(department)
+                    + SymbolTable.stringFootprint(instructor);
+        }
+        long measured = usedHeap() - before;
+
+        long shared = n * (NODE + COURSE) + names;
+        long unencoded = n * (NODE + COURSE) + names + unencodedStrings;
+        long dictionaries = Course.DEPARTMENTS.footprint() + Course.INSTRUCTORS.footprint();
+        long encoded = shared + dictionaries;
+
+        System.out.printf("Planner of %,d courses, %d departments, %d instructors%n", n,
+                Course.DEPARTMENTS.size(), Course.INSTRUCTORS.size());
+        System.out.printf("%-34s %15s %15s%n", "", "Unencoded", "Encoded");
+        row("Sequence nodes", n * NODE, n * NODE);
+        row("Course objects", n * COURSE, n * COURSE);
+        row("Course names", names, names);
+        row("Department and instructor strings", unencodedStrings, 0);
+        row("Symbol dictionaries", 0, dictionaries);
+        row("Total (estimated)", unencoded, encoded);
+        System.out.printf("%-34s %15s %,15d%n", "Measured, with the label indexes", "", measured);
+        System.out.printf("Dictionary encoding saves %,d bytes (%.1f%%), %.1f bytes per course%n",
+                unencoded - encoded, 100.0 * (unencoded - encoded) / unencoded,
+                (double) (unencoded - encoded) / n);
+        if (planner.size() != n)
+            throw new IllegalStateException("The planner lost courses");
+    }
+
+    private static void row(String label, long unencoded, long encoded) {
+        System.out.printf("%-34s %,15d %,15d%n", label, unencoded, encoded);
+    }
+
+    //Returns the heap in use after collecting the garbage, as well as it can be told
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,212 @@
+package courseplanner.benchmarks;
+
+import courseplanner.Course;
+import courseplanner.EmptyPlannerException;
+import courseplanner.FullPlannerException;
+import courseplanner.Planner;
+import courseplanner.PlannerEntry;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The <code>PlannerBenchmark</code> class measures the hot paths of a <code>Planner</code> holding
+ * a given number of courses.
+ * <br>The benchmarks changing the planner undo their change in the same invocation, so the planner
+ * keeps its size: addHead, addMiddle and addTail add a course and remove it again, and removeMiddle
+ * removes a course and adds it back. The lookups cycle through precomputed positions and courses so
+ * that they don't hit the same one every time.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlannerBenchmark {
+
+    //The departments the courses are drawn from
+    private static final String[] DEPARTMENTS = {"CSE", "AMS", "MAT", "PHY", "CHE", "BIO",
+            "ECO", "ESE", "MEC", "ISE", "WRT", "PSY"};
+
+    //The number of precomputed positions and courses the lookups cycle through, a power of 2
+    private static final int LOOKUPS = 1024;
+
+    //The number of courses in the planner
+    @Param({"50", "1000", "100000"})
+    public int size;
+
+    //The planner measured and an equal copy of it
+    private Planner planner;
+    private Planner copy;
+
+    //The course added by the add benchmarks
+    private Course added;
+
+    //The positions read by getCourse, and the courses looked up by exists
+    private int[] positions;
+    private Course[] hits;
+    private Course[] misses;
+
+    //The index of the next lookup
+    private int next;
+
+    //The destination of writeFull, reused by every invocation
+    private StringBuilder table;
+
+    /**
+     * This method fills the planner and the lookups
+     * @throws FullPlannerException
+     *  Never, the planner is made large enough
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws FullPlannerException {
+        planner = new Planner(size + 1);
+        for (int i = 0; i < size; i++)
+            planner.addCourse(course(i));
+        copy = (Planner) planner.clone();
+        added = new Course("Added Course", "CSE", 999, (byte) 1, "Instructor");
+        table = new StringBuilder();
+
+        positions = new int[LOOKUPS];
+        hits = new Course[LOOKUPS];
+        misses = new Course[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            int index = (int) ((i * 2654435761L) % size);
+            positions[i] = index + 1;
+            hits[i] = course(index);
+            misses[i] = new Course("Missing " + i, DEPARTMENTS[i % DEPARTMENTS.length], 100 + i,
+                    (byte) 1, "Instructor 0");
+        }
+    }
+
+    /**
+     * Adds a course at position 1 and removes it
+     */
+    @Benchmark
+    public Course addHead() throws FullPlannerException, EmptyPlannerException {
+        planner.addCourse(added, 1);
+        planner.removeCourse(1);
+        return added;
+    }
+
+    /**
+     * Adds a course in the middle of the planner and removes it
+     */
+    @Benchmark
+    public Course addMiddle() throws FullPlannerException, EmptyPlannerException {
+        int middle = size / 2 + 1;
+        planner.addCourse(added, middle);
+        planner.removeCourse(middle);
+        return added;
+    }
+
+    /**
+     * Adds a course at the end of the planner and removes it
+     */
+    @Benchmark
+    public Course addTail() throws FullPlannerException, EmptyPlannerException {
+        planner.addCourse(added);
+        planner.removeCourse(size + 1);
+        return added;
+    }
+
+    /**
+     * Removes the course in the middle of the planner and adds it back
+     */
+    @Benchmark
+    public Course removeMiddle() throws FullPlannerException, EmptyPlannerException {
+        int middle = size / 2 + 1;
+        Course removed = planner.getCourse(middle);
+        planner.removeCourse(middle);
+        planner.addCourse(removed, middle);
+        return removed;
+    }
+
+    /**
+     * Reads the course at the next lookup position
+     */
+    @Benchmark
+    public Course getCourse() throws EmptyPlannerException {
+        return planner.getCourse(positions[next++ & (LOOKUPS - 1)]);
+    }
+
+    /**
+     * Looks up the next course held by the planner
+     */
+    @Benchmark
+    public boolean existsHit() throws EmptyPlannerException {
+        return planner.exists(hits[next++ & (LOOKUPS - 1)]);
+    }
+
+    /**
+     * Looks up the next course the planner doesn't hold
+     */
+    @Benchmark
+    public boolean existsMiss() throws EmptyPlannerException {
+        return planner.exists(misses[next++ & (LOOKUPS - 1)]);
+    }
+
+    /**
+     * Lists the courses of the next department
+     */
+    @Benchmark
+    public List<PlannerEntry> filter() {
+        return planner.filter(DEPARTMENTS[next++ % DEPARTMENTS.length]);
+    }
+
+    /**
+     * Deep copies the planner
+     */
+    @Benchmark
+    public Object cloneFull() {
+        return planner.clone();
+    }
+
+    /**
+     * Compares the planner with an equal copy of it
+     */
+    @Benchmark
+    public boolean equalsFull() {
+        return planner.equals(copy);
+    }
+
+    /**
+     * Renders the table of the planner
+     */
+    @Benchmark
+    public String toStringFull() {
+        return planner.toString();
+    }
+
+    /**
+     * Renders the table of the planner again into the same buffer, as done by printing it
+     */
+    @Benchmark
+    public StringBuilder writeFull() {
+        table.setLength(0);
+        planner.writeTo(table);
+        return table;
+    }
+
+    private static Course course(int i) {
+        return new Course("Course " + i, DEPARTMENTS[i % DEPARTMENTS.length], 100 + i % 400,
+                (byte) (i % 5), "Instructor " + (i * 7919 % 300));
+    }
+}
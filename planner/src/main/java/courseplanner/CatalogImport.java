@@ -0,0 +1,309 @@
+package courseplanner;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * The <code>CatalogImport</code> class loads a catalog of courses from a CSV file into a planner in
+ * bulk. Each line holds the name, department, code, section and instructor of one course, in the order
+ * of their positions, optionally followed by its meeting times, and a first line starting with
+ * <code>name,</code> is taken for a header:
+ * <pre>
+ * name,department,code,section,instructor,meetings
+ * Data Structures,CSE,214,1,"Smith, Jane","MW 10:00-11:20, F 13:00-13:53"
+ * </pre>
+ * Fields may be quoted to hold commas, with <code>""</code> standing for a quote, but a field can't
+ * span lines. The rows are checked with the rules of <code>Course.setDepartment</code>,
+ * <code>setCode</code> and <code>setSection</code>, and the bad ones are left out and reported with
+ * their line numbers.
+ * <br>The file is memory-mapped and split at line breaks into chunks that are parsed in parallel on a
+ * fork-join pool. The parsed courses are then handed to the planner in one go, which builds its
+ * storage in a single pass instead of adding them one at a time.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class CatalogImport {
+
+    //Files smaller than this are parsed as a single chunk
+    private static final int MIN_CHUNK_BYTES = 1 << 20;
+
+    //The planner holding the imported courses
+    private final Planner planner;
+
+    //The bad rows, as messages starting with their line numbers
+    private final List<String> errors;
+
+    //The number of rows read, header excluded
+    private final int rows;
+
+    private CatalogImport(Planner planner, List<String> errors, int rows) {
+        this.planner = planner;
+        this.errors = errors;
+        this.rows = rows;
+    }
+
+    /**
+     * This method imports a catalog on the common fork-join pool
+     * @param csv
+     *  The path of the CSV file
+     * @param maxCourses
+     *  The least max limit for the number of courses of the planner, it is raised to the number of
+     *  good rows when there are more
+     * @return
+     *  The result of the import
+     * @throws IOException
+     *  When the file can't be read, or is larger than 2 GB
+     */
+    public static CatalogImport load(Path csv, int maxCourses) throws IOException {
+        return load(csv, maxCourses, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * This method imports a catalog
+     * @param csv
+     *  The path of the CSV file
+     * @param maxCourses
+     *  The least max limit for the number of courses of the planner, it is raised to the number of
+     *  good rows when there are more
+     * @param pool
+     *  The pool parsing the chunks of the file
+     * @return
+     *  The result of the import
+     * @throws IOException
+     *  When the file can't be read, or is larger than 2 GB
+     */
+    public static CatalogImport load(Path csv, int maxCourses, ForkJoinPool pool) throws IOException {
+        return load(csv, maxCourses, pool, MIN_CHUNK_BYTES);
+    }
+
+    /**
+     * This method imports a catalog, splitting it into chunks of at least the given size
+     * @param csv
+     *  The path of the CSV file
+     * @param maxCourses
+     *  The least max limit for the number of courses of the planner
+     * @param pool
+     *  The pool parsing the chunks of the file
+     * @param minChunkBytes
+     *  The least number of bytes of a chunk, only the last chunk and chunks holding a longer line differ
+     * @return
+     *  The result of the import
+     * @throws IOException
+     *  When the file can't be read, or is larger than 2 GB
+     */
+    static CatalogImport load(Path csv, int maxCourses, ForkJoinPool pool, int minChunkBytes) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(csv, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new IOException("Catalog is larger than 2 GB: " + csv);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        List<Chunk> chunks = split(buffer, pool.getParallelism(), minChunkBytes);
+        List<ForkJoinTask<Chunk>> tasks = new ArrayList<>(chunks.size());
+        for (Chunk chunk : chunks)
+            tasks.add(pool.submit(chunk::parse));
+
+        int count = 0;
+        for (ForkJoinTask<Chunk> task : tasks)
+            count += task.join().courses.size();
+        Course[] courses = new Course[count];
+        List<String> errors = new ArrayList<>();
+        int firstLine = 1;
+        int rows = 0;
+        int at = 0;
+        for (Chunk chunk : chunks) {
+            for (Course course : chunk.courses)
+                courses[at++] = course;
+            for (int i = 0; i < chunk.errorLines.size(); i++)
+                errors.add("line " + (firstLine + chunk.errorLines.get(i)) + ": " + chunk.errorMessages.get(i));
+            firstLine += chunk.lines;
+            rows += chunk.rows;
+        }
+
+        Planner planner = new Planner(Math.max(maxCourses, count));
+        try {
+            planner.setCourses(i -> courses[i], count);
+        } catch (FullPlannerException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return new CatalogImport(planner, errors, rows);
+    }
+
+    /**
+     * This is a getter method for the planner holding the imported courses
+     * @return
+     *  The planner
+     */
+    public Planner getPlanner() {
+        return planner;
+    }
+
+    /**
+     * This is a getter method for the bad rows that were left out
+     * @return
+     *  The messages describing the bad rows, each starting with its line number
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * This is a getter method for the number of rows read, the header excluded
+     * @return
+     *  The number of rows, good and bad
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    //Splits the file into about 4 chunks per thread of the pool, each ending with a line break
+    private static List<Chunk> split(MappedByteBuffer buffer, int parallelism, int minChunkBytes) {
+        int size = buffer.limit();
+        int target = Math.max(minChunkBytes, size / Math.max(1, parallelism * 4) + 1);
+        List<Chunk> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < size) {
+            int end = Math.min(size, start + target);
+            while (end < size && buffer.get(end - 1) != '\n')
+                end++;
+            chunks.add(new Chunk(buffer, start, end, start == 0));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * A range of whole lines of the file and the courses parsed from it
+     */
+    private static class Chunk {
+
+        //The file, and the range of bytes of the chunk
+        private final MappedByteBuffer buffer;
+        private final int start;
+        private final int end;
+
+        //Whether the chunk starts the file, so that its first line may be a header
+        private final boolean first;
+
+        //The courses parsed, in the order of their lines
+        private final List<Course> courses = new ArrayList<>();
+
+        //The lines of the bad rows, counted from 0 within the chunk, and what is wrong with them
+        private final List<Integer> errorLines = new ArrayList<>();
+        private final List<String> errorMessages = new ArrayList<>();
+
+        //The number of lines and rows of the chunk, rows leaving out the header and blank lines
+        private int lines;
+        private int rows;
+
+        Chunk(MappedByteBuffer buffer, int start, int end, boolean first) {
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+            this.first = first;
+        }
+
+        //Parses every line of the chunk
+        Chunk parse() {
+            byte[] bytes = new byte[end - start];
+            buffer.slice(start, end - start).get(bytes);
+            int from = 0;
+            while (from < bytes.length) {
+                int to = from;
+                while (to < bytes.length && bytes[to] != '\n')
+                    to++;
+                int length = to - from;
+                if (length > 0 && bytes[to - 1] == '\r')
+                    length--;
+                String line = new String(bytes, from, length, StandardCharsets.UTF_8);
+                if (!line.isBlank() && !(first && lines == 0 && line.regionMatches(true, 0, "name,", 0, 5))) {
+                    rows++;
+                    try {
+                        courses.add(parseRow(line));
+                    } catch (IllegalArgumentException ex) {
+                        errorLines.add(lines);
+                        errorMessages.add(ex.getMessage());
+                    }
+                }
+                lines++;
+                from = to + 1;
+            }
+            return this;
+        }
+    }
+
+    /**
+     * This method builds the course of a row, checking it with the rules of the Course setters
+     * @param line
+     *  The row, without its line break
+     * @return
+     *  The course
+     * @throws IllegalArgumentException
+     *  When the row is bad
+     */
+    static Course parseRow(String line) {
+        List<String> fields = splitRow(line);
+        if (fields.size() != 5 && fields.size() != 6)
+            throw new IllegalArgumentException("Expected 5 or 6 fields but found " + fields.size());
+        String department = fields.get(1);
+        Course.checkDepartment(department);
+        int code;
+        byte section;
+        try {
+            code = Integer.parseInt(fields.get(2).trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid course code!! Please enter an integer");
+        }
+        try {
+            section = Byte.parseByte(fields.get(3).trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid course section!! Please enter an " +
+                    "integer from 1 to 127");
+        }
+        Course.checkCode(code);
+        Course.checkSection(section);
+        Course course = new Course(fields.get(0), department, code, section, fields.get(4));
+        if (fields.size() == 6)
+            course.setMeetings(MeetingTime.parseAll(fields.get(5)));
+        return course;
+    }
+
+    //Splits a row into its fields, removing the quotes around quoted fields
+    private static List<String> splitRow(String line) {
+        List<String> fields = new ArrayList<>(5);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"')
+                    field.append(c);
+                else if (i + 1 < line.length() && line.charAt(i + 1) == '"')
+                    field.append(line.charAt(++i));
+                else
+                    quoted = false;
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted)
+            throw new IllegalArgumentException("Unterminated quoted field");
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,116 @@
+package courseplanner;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * The <code>CodeIndex</code> class is a navigable index from the department and code of the courses
+ * to the labels they hold in a <code>CourseSequence</code>. Each department keeps its codes sorted, so
+ * the courses of a department whose codes fall in a range are found in O(log n + k) for k courses.
+ * <br>Like a <code>LabelIndex</code>, a concurrent index can be read while it is being changed.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class CodeIndex {
+
+    //The labels of the courses of every code of every department, the codes sorted
+    private final Map<String, NavigableMap<Integer, NavigableSet<Long>>> departments;
+
+    //Whether the index can be read while it is being changed
+    private final boolean concurrent;
+
+    /**
+     * This is the default constructor used to create an empty CodeIndex object
+     */
+    public CodeIndex() {
+        this(false);
+    }
+
+    /**
+     * This is a constructor used to create an empty CodeIndex object
+     * @param concurrent
+     *  Whether the index can be read while it is being changed
+     */
+    public CodeIndex(boolean concurrent) {
+        this.departments = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+        this.concurrent = concurrent;
+    }
+
+    /**
+     * This method records that a course holds a label
+     * @param department
+     *  The department of the course
+     * @param code
+     *  The code of the course
+     * @param label
+     *  The label held by the course
+     */
+    public void add(String department, int code, long label) {
+        departments.computeIfAbsent(department, d -> concurrent ? new ConcurrentSkipListMap<>()
+                        : new TreeMap<>())
+                .computeIfAbsent(code, c -> concurrent ? new ConcurrentSkipListSet<>() : new TreeSet<>())
+                .add(label);
+    }
+
+    /**
+     * This method forgets that a course holds a label
+     * @param department
+     *  The department of the course
+     * @param code
+     *  The code of the course
+     * @param label
+     *  The label that was held by the course
+     */
+    public void remove(String department, int code, long label) {
+        NavigableMap<Integer, NavigableSet<Long>> codes = departments.get(department);
+        if (codes == null)
+            return;
+        NavigableSet<Long> held = codes.get(code);
+        if (held == null)
+            return;
+        held.remove(label);
+        if (held.isEmpty()) {
+            codes.remove(code);
+            if (codes.isEmpty())
+                departments.remove(department);
+        }
+    }
+
+    /**
+     * This method visits the courses of a department whose codes are in a range, by ascending code and
+     * then ascending label
+     * @param department
+     *  The department of the courses
+     * @param lo
+     *  The lowest code, included
+     * @param hi
+     *  The highest code, included
+     * @param action
+     *  The action given the code and the label of each course
+     */
+    public void forEachInRange(String department, int lo, int hi, ObjLongConsumer<Integer> action) {
+        NavigableMap<Integer, NavigableSet<Long>> codes = departments.get(department);
+        if (codes == null || lo > hi)
+            return;
+        for (Map.Entry<Integer, NavigableSet<Long>> entry : codes.subMap(lo, true, hi, true).entrySet()) {
+            for (long label : entry.getValue())
+                action.accept(entry.getKey(), label);
+        }
+    }
+
+    /**
+     * This method forgets every course
+     */
+    public void clear() {
+        departments.clear();
+    }
+}
@@ -0,0 +1,434 @@
+package courseplanner;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The <code>ColumnarPlanner</code> class is a planner storing its courses column by column instead of
+ * as <code>Course</code> objects: an int array of codes, a byte array of sections and int arrays of
+ * the dictionary ids of the names, departments and instructors, position p being at index p - 1 of
+ * every column. The meeting times of each course are kept in a column of their own, which no scan
+ * reads.
+ * <br>A scan reads only the columns it needs, one primitive array after the other, so filter, exists
+ * and equals run as tight loops without a pointer to follow per course. Course objects are only built
+ * when one is asked for. Adding or removing a course shifts the columns after it, which is a few
+ * array copies of primitives.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class ColumnarPlanner {
+
+    //The shared dictionary of course names, names are only encoded by columnar planners
+    static final SymbolTable NAMES = new SymbolTable();
+
+    //The max limit for the number of courses that can be in the planner
+    public final int MAX_COURSES;
+
+    //The columns of the courses, only the first size entries of each are used
+    private int[] codes;
+    private byte[] sections;
+    private int[] names;
+    private int[] departments;
+    private int[] instructors;
+    private List<MeetingTime>[] meetings;
+
+    //The number of courses in the planner
+    private int size;
+
+    /**
+     * This the default constructor used to create a new ColumnarPlanner object
+     */
+    public ColumnarPlanner() {
+        this(Planner.DEFAULT_MAX_COURSES);
+    }
+
+    /**
+     * This is a constructor used to create a new ColumnarPlanner object with no courses in it
+     * @param maxCourses
+     *  The max limit for the number of courses that can be in the planner
+     * @throws IllegalArgumentException
+     *  When the limit is negative
+     */
+    public ColumnarPlanner(int maxCourses) {
+        if (maxCourses < 0)
+            throw new IllegalArgumentException("Max courses can't be negative");
+        this.MAX_COURSES = maxCourses;
+        int capacity = Math.min(maxCourses, 16);
+        this.codes = new int[capacity];
+        this.sections = new byte[capacity];
+        this.names = new int[capacity];
+        this.departments = new int[capacity];
+        this.instructors = new int[capacity];
+        this.meetings = newMeetings(capacity);
+    }
+
+    /**
+     * This is a constructor used to create a new ColumnarPlanner object holding the courses of a planner
+     * @param source
+     *  The planner whose courses are copied, it isn't changed
+     */
+    public ColumnarPlanner(Planner source) {
+        this(source.getMaxCourses());
+        ensureCapacity(source.size());
+        for (Course course : source.courses())
+            set(size++, course);
+    }
+
+    /**
+     * This method determines the number of courses currently in the planner
+     * @return
+     *  The number of courses in the planner
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * This is a getter method for the max limit for the number of courses in the planner
+     * @return
+     *  The max limit for the number of courses
+     */
+    public int getMaxCourses() {
+        return MAX_COURSES;
+    }
+
+    /**
+     * This method adds a new course to the planner
+     * @param newCourse
+     *  The Course object to be added, only its fields are kept
+     * @param position
+     *  The position at which the course should be added
+     * @throws FullPlannerException
+     *  when the planner is full
+     * @throws IllegalArgumentException
+     *  when the position is not within valid range
+     */
+    public void addCourse(Course newCourse, int position) throws FullPlannerException {
+        if (size >= MAX_COURSES)
+            throw new FullPlannerException("Indicates that there is no more " +
+                    "room in the Planner to record an additional course");
+
+        if (position < 1 || position > size + 1)
+            throw new IllegalArgumentException("Position is not within valid" +
+                    "range");
+
+        ensureCapacity(size + 1);
+        int index = position - 1;
+        int moved = size - index;
+        System.arraycopy(codes, index, codes, index + 1, moved);
+        System.arraycopy(sections, index, sections, index + 1, moved);
+        System.arraycopy(names, index, names, index + 1, moved);
+        System.arraycopy(departments, index, departments, index + 1, moved);
+        System.arraycopy(instructors, index, instructors, index + 1, moved);
+        System.arraycopy(meetings, index, meetings, index + 1, moved);
+        set(index, newCourse);
+        size++;
+    }
+
+    /**
+     * This method adds a new course to the end of the planner
+     * @param newCourse
+     *  The course to be added
+     * @throws FullPlannerException
+     *  When the planner is full
+     */
+    public void addCourse(Course newCourse) throws FullPlannerException {
+        addCourse(newCourse, size + 1);
+    }
+
+    /**
+     * This method removes the course at a position of the planner
+     * @param position
+     *  The position from which a course should be removed
+     * @throws EmptyPlannerException
+     *  When there are no courses in the planner
+     * @throws IllegalArgumentException
+     *  When the position is not within valid range
+     */
+    public void removeCourse(int position) throws EmptyPlannerException {
+        if (size == 0)
+            throw new EmptyPlannerException("No items in list");
+
+        if (position < 1 || position > size)
+            throw new IllegalArgumentException("Position is not within valid" +
+                    "range");
+
+        int index = position - 1;
+        int moved = size - position;
+        System.arraycopy(codes, position, codes, index, moved);
+        System.arraycopy(sections, position, sections, index, moved);
+        System.arraycopy(names, position, names, index, moved);
+        System.arraycopy(departments, position, departments, index, moved);
+        System.arraycopy(instructors, position, instructors, index, moved);
+        System.arraycopy(meetings, position, meetings, index, moved);
+        meetings[--size] = null;
+    }
+
+    /**
+     * This method builds the course stored at a position of the planner
+     * @param position
+     *  The position where the course is stored
+     * @return
+     *  A new Course object holding the fields of the course at the position
+     * @throws EmptyPlannerException
+     *  when the planner is empty
+     * @throws IllegalArgumentException
+     *  when the position is not within valid range
+     */
+    public Course getCourse(int position) throws EmptyPlannerException {
+        if (size == 0)
+            throw new EmptyPlannerException("No items in list");
+
+        if (position < 1 || position > size)
+            throw new IllegalArgumentException("Position is not within valid" +
+                    "range");
+
+        return course(position - 1);
+    }
+
+    /**
+     * This method returns all the courses that are within the specified department, scanning only
+     * the department column
+     * @param department
+     *  the 3 letter department code for a Course
+     * @return
+     *  The matching courses with their positions, in ascending order of position
+     */
+    public List<PlannerEntry> filter(String department) {
+        int id = Course.DEPARTMENTS.find(department);
+        int[] matches = new int[Math.min(size, 16)];
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (departments[i] == id) {
+                if (found == matches.length)
+                    matches = Arrays.copyOf(matches, found * 2);
+                matches[found++] = i;
+            }
+        }
+        return entries(matches, found);
+    }
+
+    /**
+     * This method returns all the courses of a department whose code is within a range, scanning
+     * only the department and code columns
+     * @param department
+     *  the 3 letter department code for a Course
+     * @param minCode
+     *  The lowest code included
+     * @param maxCode
+     *  The highest code included
+     * @return
+     *  The matching courses with their positions, in ascending order of position
+     */
+    public List<PlannerEntry> filter(String department, int minCode, int maxCode) {
+        int id = Course.DEPARTMENTS.find(department);
+        int[] matches = new int[Math.min(size, 16)];
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            int code = codes[i];
+            if (departments[i] == id && code >= minCode && code <= maxCode) {
+                if (found == matches.length)
+                    matches = Arrays.copyOf(matches, found * 2);
+                matches[found++] = i;
+            }
+        }
+        return entries(matches, found);
+    }
+
+    /**
+     * This method counts the courses within the specified department without building any of them
+     * @param department
+     *  the 3 letter department code for a Course
+     * @return
+     *  The number of courses of the department
+     */
+    public int count(String department) {
+        int id = Course.DEPARTMENTS.find(department);
+        int count = 0;
+        for (int i = 0; i < size; i++)
+            count += departments[i] == id ? 1 : 0;
+        return count;
+    }
+
+    /**
+     * This method checks whether a certain course is already in the planner
+     * @param course
+     *  The course we are looking for
+     * @return
+     *  True if the planner contains this Course, false otherwise
+     * @throws EmptyPlannerException
+     *  When there are no courses in the planner
+     */
+    public boolean exists(Course course) throws EmptyPlannerException {
+        if (size == 0)
+            throw new EmptyPlannerException("No items in list");
+        return indexOf(course) != -1;
+    }
+
+    /**
+     * This method finds the position of a course in the planner, comparing the code column first
+     * and the other columns only where the code matches
+     * @param course
+     *  The course we are looking for
+     * @return
+     *  The position of the first course equal to the given one, -1 if the planner doesn't contain it
+     */
+    public int indexOf(Course course) {
+        int name = NAMES.find(course.getName());
+        if (name == SymbolTable.MISSING_ID)
+            return -1;
+        int code = course.getCode();
+        for (int i = 0; i < size; i++) {
+            if (codes[i] == code && sections[i] == course.getSection()
+                    && departments[i] == course.getDepartmentId()
+                    && instructors[i] == course.getInstructorId() && names[i] == name)
+                return i + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * This method returns a read-only list of the courses in the order of their positions, every
+     * course is built when it is read
+     * @return
+     *  The courses of the planner, the element at index i is the course at position i + 1
+     */
+    public List<Course> courses() {
+        return new AbstractList<Course>() {
+            @Override
+            public Course get(int index) {
+                if (index < 0 || index >= size)
+                    throw new IndexOutOfBoundsException("Index " + index + " out of bounds");
+                return course(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * This method copies the courses into a planner storing Course objects
+     * @return
+     *  A Planner holding the courses of this planner
+     */
+    public Planner toPlanner() {
+        Planner planner = new Planner(MAX_COURSES);
+        Course[] copied = new Course[size];
+        for (int i = 0; i < size; i++)
+            copied[i] = course(i);
+        try {
+            planner.setCourses(i -> copied[i], size);
+        } catch (FullPlannerException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return planner;
+    }
+
+    /**
+     * This method prints a neatly formatted table of each course in the planner with its position
+     */
+    public void printAllCourses() {
+        CourseTableWriter table = CourseTableWriter.console();
+        table.writeTable(courses()).writeLine("");
+        table.flush();
+    }
+
+    /**
+     * Gets the String representation of this planner, the same table as shown by a Planner
+     * @return
+     *  The String representation of the courses
+     */
+    public String toString() {
+        StringBuilder ret = new StringBuilder();
+        new CourseTableWriter(ret).writeTable(courses()).flush();
+        return ret.toString();
+    }
+
+    /**
+     * This method checks whether the courses in the planner being compared are the same, comparing
+     * the planners column by column
+     * @param o
+     *  The planner being compared
+     * @return
+     *  true if they are equal, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ColumnarPlanner planner = (ColumnarPlanner) o;
+        return size == planner.size
+                && Arrays.equals(codes, 0, size, planner.codes, 0, size)
+                && Arrays.equals(sections, 0, size, planner.sections, 0, size)
+                && Arrays.equals(departments, 0, size, planner.departments, 0, size)
+                && Arrays.equals(instructors, 0, size, planner.instructors, 0, size)
+                && Arrays.equals(names, 0, size, planner.names, 0, size);
+    }
+
+    /**
+     * This method computes the hash code of the planner from the same columns compared by equals
+     * @return
+     *  The hash code of the planner
+     */
+    @Override
+    public int hashCode() {
+        int hash = size;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + codes[i];
+            hash = 31 * hash + sections[i];
+            hash = 31 * hash + names[i];
+            hash = 31 * hash + departments[i];
+            hash = 31 * hash + instructors[i];
+        }
+        return hash;
+    }
+
+    //Builds the course stored at an index of the columns
+    private Course course(int index) {
+        Course course = new Course(NAMES.symbol(names[index]), departments[index], codes[index],
+                sections[index], instructors[index]);
+        course.setMeetings(meetings[index]);
+        return course;
+    }
+
+    //Stores the fields of a course at an index of the columns
+    private void set(int index, Course course) {
+        codes[index] = course.getCode();
+        sections[index] = course.getSection();
+        names[index] = NAMES.id(course.getName());
+        departments[index] = course.getDepartmentId();
+        instructors[index] = course.getInstructorId();
+        meetings[index] = course.getMeetings();
+    }
+
+    private List<PlannerEntry> entries(int[] matches, int found) {
+        List<PlannerEntry> ret = new ArrayList<>(found);
+        for (int i = 0; i < found; i++)
+            ret.add(new PlannerEntry(matches[i] + 1, course(matches[i])));
+        return ret;
+    }
+
+    //Grows the columns so they can hold the given number of courses
+    private void ensureCapacity(int capacity) {
+        if (capacity <= codes.length)
+            return;
+        int grown = (int) Math.min(MAX_COURSES, Math.max(capacity, codes.length * 2L));
+        codes = Arrays.copyOf(codes, grown);
+        sections = Arrays.copyOf(sections, grown);
+        names = Arrays.copyOf(names, grown);
+        departments = Arrays.copyOf(departments, grown);
+        instructors = Arrays.copyOf(instructors, grown);
+        meetings = Arrays.copyOf(meetings, grown);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<MeetingTime>[] newMeetings(int capacity) {
+        return (List<MeetingTime>[]) new List<?>[capacity];
+    }
+}
@@ -0,0 +1,356 @@
+package courseplanner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * The <code>ConcurrentPlanner</code> class is a thread-safe <code>Planner</code>. Writes are serialized
+ * by a <code>StampedLock</code>, while reads run without taking any lock: they read optimistically
+ * and only retry under the read lock when a write happened in the meantime.
+ * <br>Optimistic reads are safe because the planner never changes in place what a reader may be
+ * looking at: the storage is frozen after every write, so the next write copies the O(log n) nodes it
+ * changes, and the indexes are concurrent maps that can be read while they change. The interval trees
+ * of the meeting times are the exception, so schedule conflicts are looked up under the read lock.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class ConcurrentPlanner {
+
+    //The planner holding the courses, only changed while holding the write lock
+    private final Planner planner;
+
+    //The lock serializing the writes and validating the reads
+    private final StampedLock lock;
+
+    /**
+     * This the default constructor used to create a new ConcurrentPlanner object
+     */
+    public ConcurrentPlanner() {
+        this(Planner.DEFAULT_MAX_COURSES);
+    }
+
+    /**
+     * This is a constructor used to create a new ConcurrentPlanner object with no course objects in it
+     * @param maxCourses
+     *  The max limit for the number of courses that can be in the planner
+     */
+    public ConcurrentPlanner(int maxCourses) {
+        this.planner = new Planner(maxCourses, true);
+        this.lock = new StampedLock();
+        planner.freeze();
+    }
+
+    /**
+     * This is a constructor used to create a new ConcurrentPlanner object holding the courses of a planner
+     * @param source
+     *  The planner whose courses are copied, it isn't changed
+     */
+    public ConcurrentPlanner(Planner source) {
+        this(source.getMaxCourses());
+        planner.setCourses(source.getCourses());
+        planner.ensureIndexed();
+        planner.freeze();
+    }
+
+    /**
+     * This method determines the number of courses currently in the list
+     * @return
+     *  The number of courses in the list
+     */
+    public int size() {
+        return read(planner::size);
+    }
+
+    /**
+     * This is a getter method for the max limit for the number of courses in the planner
+     * @return
+     *  The max limit for the number of courses
+     */
+    public int getMaxCourses() {
+        return planner.getMaxCourses();
+    }
+
+    /**
+     * This method returns the course stored in a particular position in the planner
+     * @param position
+     *  The position where the course is stored
+     * @return
+     *  The course at the specified position, shared with every thread reading the planner so it must
+     *  not be changed
+     * @throws EmptyPlannerException
+     *  when the planner is empty
+     * @throws IllegalArgumentException
+     *  when the input position is not within valid range
+     */
+    public Course getCourse(int position) throws EmptyPlannerException {
+        return read(() -> planner.getCourse(position));
+    }
+
+    /**
+     * This method checks whether a certain course is already in the list
+     * @param course
+     *  The course we are looking for
+     * @return
+     *  True if the Planner contains this Course, false otherwise
+     * @throws EmptyPlannerException
+     *  When there are no courses in the list
+     */
+    public boolean exists(Course course) throws EmptyPlannerException {
+        return read(() -> planner.exists(course));
+    }
+
+    /**
+     * This method finds the position of a course in the planner
+     * @param course
+     *  The course we are looking for
+     * @return
+     *  The position of the first course equal to the given one, -1 if the planner doesn't contain it
+     */
+    public int indexOf(Course course) {
+        return read(() -> planner.indexOf(course));
+    }
+
+    /**
+     * This method returns all the courses that are within the specified department
+     * @param department
+     *  the 3 letter department code for a Course
+     * @return
+     *  The matching courses with their positions, in ascending order of position
+     */
+    public List<PlannerEntry> filter(String department) {
+        return read(() -> planner.filter(department));
+    }
+
+    /**
+     * This method returns the courses of a department whose codes are within a range
+     * @param department
+     *  the 3 letter department code for a Course
+     * @param lo
+     *  The lowest course code, included
+     * @param hi
+     *  The highest course code, included
+     * @return
+     *  The matching courses with their positions, by ascending code and then ascending position
+     */
+    public List<PlannerEntry> rangeQuery(String department, int lo, int hi) {
+        return read(() -> planner.rangeQuery(department, lo, hi));
+    }
+
+    /**
+     * This method finds the courses whose name starts with or contains the given text, ignoring case
+     * @param text
+     *  The text we are looking for
+     * @param prefix
+     *  True to match the start of the names only, false to match anywhere in them
+     * @return
+     *  The matching courses with their positions, in ascending order of position
+     */
+    public List<PlannerEntry> searchNames(String text, boolean prefix) {
+        return read(() -> planner.searchNames(text, prefix));
+    }
+
+    /**
+     * This method finds the courses whose instructor starts with or contains the given text, ignoring case
+     * @param text
+     *  The text we are looking for
+     * @param prefix
+     *  True to match the start of the instructors only, false to match anywhere in them
+     * @return
+     *  The matching courses with their positions, in ascending order of position
+     */
+    public List<PlannerEntry> searchInstructors(String text, boolean prefix) {
+        return read(() -> planner.searchInstructors(text, prefix));
+    }
+
+    /**
+     * This method finds the courses of the planner meeting at the same time as a course
+     * @param course
+     *  The course whose meeting times are checked, it is left out of the result if it is in the planner
+     * @return
+     *  The conflicting courses with their positions, in ascending order of position
+     */
+    public List<PlannerEntry> conflicts(Course course) {
+        return readLocked(() -> planner.conflicts(course));
+    }
+
+    /**
+     * This method finds every pair of courses of the planner meeting at the same time
+     * @return
+     *  The conflicting pairs of courses, each pair once with the first day and time they overlap
+     */
+    public List<CourseConflict> conflictReport() {
+        return readLocked(planner::conflictReport);
+    }
+
+    /**
+     * This method returns the courses in the given order without sorting them, the sorted view of an
+     * order is built the first time it is asked for and kept up to date from then on
+     * @param order
+     *  The order of the courses
+     * @return
+     *  The courses with their positions as they are now, in the given order
+     */
+    public List<PlannerEntry> sorted(CourseOrder order) {
+        if (!planner.hasSortedView(order)) {
+            long stamp = lock.writeLock();
+            try {
+                planner.addSortedView(order);
+            } finally {
+                publish(stamp);
+            }
+        }
+        return read(() -> {
+            List<PlannerEntry> ret = new ArrayList<>(planner.size());
+            for (PlannerEntry entry : planner.sorted(order))
+                ret.add(entry);
+            return ret;
+        });
+    }
+
+    /**
+     * This method returns an order-sensitive fingerprint of the courses in the planner, equal planners
+     * have equal fingerprints
+     * @return
+     *  The fingerprint of the courses as they are now
+     */
+    public long fingerprint() {
+        return read(planner::fingerprint);
+    }
+
+    /**
+     * This method returns a read-only list of the courses as they are now, taken in O(1). Later changes
+     * to the planner don't show in the list, the element at index i is the course at position i + 1
+     * @return
+     *  The courses of the planner
+     */
+    public List<Course> view() {
+        return read(planner::frozenView);
+    }
+
+    /**
+     * This method adds a new course to the planner
+     * @param newCourse
+     *  The Course object to be added, readers may see it as soon as it is added so it must not be
+     *  changed afterwards
+     * @param position
+     *  The position at which the course should be added
+     * @throws FullPlannerException
+     *  when the planner is full
+     * @throws IllegalArgumentException
+     *  when the position is not within valid range
+     */
+    public void addCourse(Course newCourse, int position) throws FullPlannerException {
+        long stamp = lock.writeLock();
+        try {
+            planner.addCourse(newCourse, position);
+        } finally {
+            publish(stamp);
+        }
+    }
+
+    /**
+     * This method adds a new course to the end of the list of courses currently in the planner
+     * @param newCourse
+     *  The course to be added
+     * @throws FullPlannerException
+     *  When the planner is full
+     */
+    public void addCourse(Course newCourse) throws FullPlannerException {
+        long stamp = lock.writeLock();
+        try {
+            planner.addCourse(newCourse);
+        } finally {
+            publish(stamp);
+        }
+    }
+
+    /**
+     * This method removes the course at a position of the planner
+     * @param position
+     *  The position from which a course should be removed
+     * @return
+     *  The removed course
+     * @throws EmptyPlannerException
+     *  When there are no courses in the planner
+     * @throws IllegalArgumentException
+     *  When the position is not within valid range
+     */
+    public Course removeCourse(int position) throws EmptyPlannerException {
+        long stamp = lock.writeLock();
+        try {
+            Course removed = planner.getCourse(position);
+            planner.removeCourse(position);
+            return removed;
+        } finally {
+            publish(stamp);
+        }
+    }
+
+    /**
+     * Creates a snapshot of this planner in O(1), changes to the snapshot will not affect this planner
+     * and vice versa
+     * @return
+     *  A single-threaded Planner holding the courses of this planner
+     */
+    public Planner snapshot() {
+        return read(planner::frozenSnapshot);
+    }
+
+    /**
+     * Gets the String representation of this planner, the same table as shown by a Planner
+     * @return
+     *  The String representation of the courses as they are now
+     */
+    public String toString() {
+        StringBuilder ret = new StringBuilder();
+        new CourseTableWriter(ret).writeTable(view());
+        return ret.toString();
+    }
+
+    /**
+     * A read of the planner, which may throw a checked exception
+     * @param <T>
+     *  The type of the result
+     * @param <E>
+     *  The type of the checked exception
+     */
+    private interface Read<T, E extends Exception> {
+        T read() throws E;
+    }
+
+    //Runs a read optimistically, and again under the read lock if a write got in the way
+    private <T, E extends Exception> T read(Read<T, E> read) throws E {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                T result = read.read();
+                if (lock.validate(stamp))
+                    return result;
+            } catch (Exception ex) {
+                //A failure of a read no write got in the way of is real, it is neither retried nor recorded twice
+                if (lock.validate(stamp))
+                    throw ex;
+            }
+        }
+        return readLocked(read);
+    }
+
+    //Runs a read under the read lock, so no write can happen in the meantime
+    private <T, E extends Exception> T readLocked(Read<T, E> read) throws E {
+        long stamp = lock.readLock();
+        try {
+            return read.read();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    //Makes the planner safe for the next optimistic reads and releases the write lock
+    private void publish(long stamp) {
+        planner.ensureIndexed();
+        planner.freeze();
+        lock.unlockWrite(stamp);
+    }
+}
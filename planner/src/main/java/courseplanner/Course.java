@@ -0,0 +1,413 @@
+package courseplanner;
+
+import java.util.List;
+
+/**
+ * The <code>Course</code> class constructs and contains all the methods to
+ * manipulate <code>Course</code> objects. It represents a course which has a name, department,
+ * code, section and instructor.
+ * <br>The department and instructor are dictionary encoded: a course only holds their ids in the
+ * shared symbol tables, so every course of a department or instructor shares one copy of the string.
+ * <br>A course may have weekly meeting times, which the planner uses to find schedule conflicts. They
+ * aren't compared by equals, as two sections of a course are already told apart by their section.
+ * <br>The fixed-width columns of a course are rendered the first time they are asked for and kept until
+ * a setter changes the course, so printing an unchanged course again is a single copy.
+ * <br>A planner stores the course objects it is given, not copies, and indexes them by their fields,
+ * and its snapshots, backups and undo history share the same objects. Once a course is stored in a
+ * planner its setters therefore throw an IllegalStateException: to edit a stored course, change a clone
+ * of it and put the clone in its place.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class Course implements Cloneable{
+    //The shared dictionary of department codes
+    public static final SymbolTable DEPARTMENTS = new SymbolTable();
+
+    //The shared dictionary of instructor names
+    public static final SymbolTable INSTRUCTORS = new SymbolTable();
+
+    private String name;
+    private int departmentId;
+    private int code;
+    private byte section;
+    private int instructorId;
+
+    //The weekly meeting times of the course, empty when they aren't known
+    private List<MeetingTime> meetings = List.of();
+
+    //The rendered columns of the course, null until they are first asked for or after a setter
+    //changes them. A String is safe to share with other threads without a lock, as its contents
+    //are final
+    private String row;
+
+    //Whether the course was stored in a planner, after which the setters refuse to change it as the
+    //indexes of the planner, its snapshots, backups and undo history all hold this very object
+    private boolean stored;
+
+    /**
+     * This is a constructor used to create a new Course object
+     * @param name
+     *  The name of the course
+     * @param department
+     *  The department to which the course belongs
+     * @param code
+     *  The course code
+     * @param section
+     *  The course section
+     * @param instructor
+     *  The instructor for the course
+     */
+    public Course (String name, String department, int code, byte section,
+                   String instructor){
+        this.name = name;
+        this.departmentId = DEPARTMENTS.id(department);
+        this.code = code;
+        this.section = section;
+        this.instructorId = INSTRUCTORS.id(instructor);
+    }
+
+    /**
+     * This is a constructor used to create a new Course object from dictionary ids
+     * @param name
+     *  The name of the course
+     * @param departmentId
+     *  The id of the department in the DEPARTMENTS dictionary
+     * @param code
+     *  The course code
+     * @param section
+     *  The course section
+     * @param instructorId
+     *  The id of the instructor in the INSTRUCTORS dictionary
+     */
+    Course (String name, int departmentId, int code, byte section, int instructorId){
+        this.name = name;
+        this.departmentId = departmentId;
+        this.code = code;
+        this.section = section;
+        this.instructorId = instructorId;
+    }
+
+    /**
+     * This method creates a shallow copy of a Course object, which can be changed even if this course
+     * is stored in a planner
+     * @return
+     * A copy of the course object it was invoked by
+     */
+    public Object clone(){
+        Course copy = new Course(this.name, this.departmentId, this.code,
+                this.section, this.instructorId);
+        copy.row = this.row;
+        copy.meetings = this.meetings;
+        return copy;
+    }
+
+    /**
+     * This method checks whether 2 course objects are equal
+     * @param obj
+     * The object to be compared
+     * @return boolean
+     * The parameter determining whether they are equal
+     */
+    @Override
+    public boolean equals(Object obj) {
+
+        if (obj == this)
+            return true;
+
+        if(obj instanceof Course){
+
+            Course myCourse = (Course)obj;
+
+            return ((departmentId == myCourse.departmentId) &&
+            (instructorId == myCourse.instructorId) &&
+            (name.equals(myCourse.getName())) &&
+            (code == myCourse.getCode()) &&
+            (section == myCourse.getSection()));
+
+        }
+
+        return false;
+    }
+
+    /**
+     * This method computes the hash code of a course from the same fields compared by equals
+     * @return
+     * The hash code of the course
+     */
+    @Override
+    public int hashCode() {
+        int hash = name == null ? 0 : name.hashCode();
+        hash = 31 * hash + departmentId;
+        hash = 31 * hash + code;
+        hash = 31 * hash + section;
+        return 31 * hash + instructorId;
+    }
+
+    /**
+     * This is the toString method of the Course class
+     * <br> it is overridden to show the declared output, the fixed-width columns of a table row.
+     * They are rendered once and kept until the course is changed
+     * @return
+     * A string representation of the Course's data
+     */
+    public String toString(){
+        String ret = row;
+        if (ret == null) {
+            ret = CourseTableWriter.formatCourse(this);
+            row = ret;
+        }
+        return ret;
+    }
+
+    /**
+     * This is a getter method for the course name
+     * @return
+     * The course name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * This is a getter method for the course department
+     * @return
+     * The department to which the course belongs
+     */
+    public String getDepartment() {
+        return DEPARTMENTS.symbol(departmentId);
+    }
+
+    /**
+     * This is a getter method for the id of the course department in the DEPARTMENTS dictionary
+     * @return
+     * The id of the department
+     */
+    public int getDepartmentId() {
+        return departmentId;
+    }
+
+    /**
+     * This is a getter method for the course code
+     * @return
+     * The course code
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * This is a getter method for the course section
+     * @return
+     * The course section
+     */
+    public byte getSection() {
+        return section;
+    }
+
+    /**
+     * This is a getter method for the instructor name
+     * @return
+     * The instructor name
+     */
+    public String getInstructor() {
+        return INSTRUCTORS.symbol(instructorId);
+    }
+
+    /**
+     * This is a getter method for the id of the instructor in the INSTRUCTORS dictionary
+     * @return
+     * The id of the instructor
+     */
+    public int getInstructorId() {
+        return instructorId;
+    }
+
+    /**
+     * This is a getter method for the weekly meeting times of the course
+     * @return
+     * The meeting times, empty when they aren't known, the list can't be changed
+     */
+    public List<MeetingTime> getMeetings() {
+        return meetings;
+    }
+
+    /**
+     * Sets the weekly meeting times of the course
+     * @param meetings
+     *  The meeting times of the course, empty when they aren't known
+     * @throws IllegalStateException
+     *  When the course is stored in a planner
+     */
+    public void setMeetings(List<MeetingTime> meetings) {
+        checkNotStored();
+        this.meetings = List.copyOf(meetings);
+    }
+
+    /**
+     * Sets course name
+     * @param name
+     *  The name of the course
+     * @throws IllegalStateException
+     *  When the course is stored in a planner
+     */
+    public void setName(String name) {
+        checkNotStored();
+        this.name = name;
+        this.row = null;
+    }
+
+    /**
+     * Sets course department
+     * @param department
+     *  The department to which the course belongs
+     * @throws IllegalArgumentException
+     *  when the department code is greater than 3 letters
+     * @throws IllegalStateException
+     *  When the course is stored in a planner
+     */
+    public void setDepartment(String department) {
+        checkNotStored();
+        checkDepartment(department);
+        this.departmentId = DEPARTMENTS.id(department);
+        this.row = null;
+    }
+
+    /**
+     * Sets course instructor
+     * @param instructor
+     *  The instructor of the course
+     * @throws IllegalStateException
+     *  When the course is stored in a planner
+     */
+    public void setInstructor(String instructor) {
+        checkNotStored();
+        this.instructorId = INSTRUCTORS.id(instructor);
+        this.row = null;
+    }
+
+    /**
+     * Sets course code
+     * @param code
+     *  The course code
+     * @throws IllegalArgumentException
+     *  When the course code is negative
+     * @throws IllegalStateException
+     *  When the course is stored in a planner
+     */
+    public void setCode(int code) {
+        checkNotStored();
+        checkCode(code);
+        this.code = code;
+        this.row = null;
+    }
+
+    /**
+     * Sets the course section
+     * @param section
+     *  The course section
+     * @throws IllegalArgumentException
+     *  when the course section is negative
+     * @throws IllegalStateException
+     *  When the course is stored in a planner
+     */
+    public void setSection(byte section) {
+        checkNotStored();
+        checkSection(section);
+        this.section = section;
+        this.row = null;
+    }
+
+    /**
+     * This method checks a department code with the rule of setDepartment
+     * @param department
+     *  The department code to be checked
+     * @throws IllegalArgumentException
+     *  when the department code is greater than 3 letters
+     */
+    public static void checkDepartment(String department) {
+        if(department.length() > 3)
+            throw new IllegalArgumentException("Invalid department code");
+    }
+
+    /**
+     * This method builds a course to look up in a planner without adding its department and instructor to
+     * the dictionaries, so lookups of courses that were never stored don't make them grow
+     * @param name
+     *  The name of the course
+     * @param department
+     *  The department to which the course belongs
+     * @param code
+     *  The course code
+     * @param section
+     *  The course section
+     * @param instructor
+     *  The instructor for the course
+     * @return
+     *  The course, null if the dictionaries don't hold its department or instructor as then no course
+     *  in any planner can be equal to it
+     */
+    static Course probe(String name, String department, int code, byte section, String instructor) {
+        int departmentId = DEPARTMENTS.find(department);
+        int instructorId = INSTRUCTORS.find(instructor);
+        if (departmentId == SymbolTable.MISSING_ID || instructorId == SymbolTable.MISSING_ID)
+            return null;
+        return new Course(name, departmentId, code, section, instructorId);
+    }
+
+    /**
+     * This method marks the course as stored in a planner, after which its setters refuse to change it
+     */
+    void markStored() {
+        stored = true;
+    }
+
+    //Refuses a change of a course stored in a planner, whose indexes would no longer find it
+    private void checkNotStored() {
+        if (stored)
+            throw new IllegalStateException("Course is stored in a planner!! Please change a clone of it instead");
+    }
+
+    /**
+     * This method checks a course code with the rule of setCode
+     * @param code
+     *  The course code to be checked
+     * @throws IllegalArgumentException
+     *  When the course code is negative
+     */
+    public static void checkCode(int code) {
+        if (code < 0)
+            throw new IllegalArgumentException("input can't be negative");
+    }
+
+    /**
+     * This method checks a course section with the rule of setSection
+     * @param section
+     *  The course section to be checked
+     * @throws IllegalArgumentException
+     *  when the course section is negative
+     */
+    public static void checkSection(byte section) {
+        if(section < 0)
+            throw new IllegalArgumentException("input can't be negative");
+    }
+
+    /**
+     * This method throws an exception if input is negative
+     * @param inputNumber
+     *  The number to be checked
+     * @return isNegative
+     *  Shows whether the input is negative
+     * @throws IllegalArgumentException
+     *  When the input is negative
+     */
+    public static boolean isNegative(int inputNumber){
+        if (inputNumber < 0){
+            throw new IllegalArgumentException("Input cannot be negative");
+        }
+        return true;
+    }
+
+
+}
+
@@ -0,0 +1,84 @@
+package courseplanner;
+
+import java.time.DayOfWeek;
+
+/**
+ * The <code>CourseConflict</code> class describes two courses of a <code>Planner</code> meeting at the
+ * same time, with the positions they held when the conflict was found.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class CourseConflict {
+    private final PlannerEntry first;
+    private final PlannerEntry second;
+    private final DayOfWeek day;
+    private final int start;
+    private final int end;
+
+    /**
+     * This is a constructor used to create a new CourseConflict object
+     * @param first
+     *  The course with the lower position
+     * @param second
+     *  The course with the higher position
+     * @param day
+     *  The first day both courses meet at the same time
+     * @param start
+     *  The start of the overlap on that day in minutes from midnight
+     * @param end
+     *  The end of the overlap on that day in minutes from midnight
+     */
+    public CourseConflict(PlannerEntry first, PlannerEntry second, DayOfWeek day, int start, int end) {
+        this.first = first;
+        this.second = second;
+        this.day = day;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * This is a getter method for the course with the lower position
+     * @return
+     *  The course and its position
+     */
+    public PlannerEntry getFirst() {
+        return first;
+    }
+
+    /**
+     * This is a getter method for the course with the higher position
+     * @return
+     *  The course and its position
+     */
+    public PlannerEntry getSecond() {
+        return second;
+    }
+
+    /**
+     * This is a getter method for the first day both courses meet at the same time
+     * @return
+     *  The day of the week
+     */
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    /**
+     * This is a getter method for the start of the overlap
+     * @return
+     *  The start in minutes from midnight
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * This is a getter method for the end of the overlap
+     * @return
+     *  The end in minutes from midnight
+     */
+    public int getEnd() {
+        return end;
+    }
+}
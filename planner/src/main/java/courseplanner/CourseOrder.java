@@ -0,0 +1,89 @@
+package courseplanner;
+
+import java.util.Comparator;
+
+/**
+ * The <code>CourseOrder</code> enum names the orders in which the courses of a <code>Planner</code>
+ * can be listed besides the order of their positions. Courses that are equal in an order keep the
+ * order of their positions.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public enum CourseOrder {
+
+    //By department, then course code, then section
+    DEPARTMENT("D", "department, code and section", Comparator
+            .comparing(Course::getDepartment, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparingInt(Course::getCode)
+            .thenComparingInt(Course::getSection)),
+
+    //By instructor, then department, code and section
+    INSTRUCTOR("I", "instructor", Comparator
+            .comparing(Course::getInstructor, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(DEPARTMENT.comparator)),
+
+    //By course name, then department, code and section
+    NAME("N", "course name", Comparator
+            .comparing(Course::getName, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(DEPARTMENT.comparator));
+
+    //The letter selecting the order in the menu
+    private final String letter;
+
+    //The description shown in the menu
+    private final String description;
+
+    //The comparator of the courses
+    private final Comparator<Course> comparator;
+
+    CourseOrder(String letter, String description, Comparator<Course> comparator) {
+        this.letter = letter;
+        this.description = description;
+        this.comparator = comparator;
+    }
+
+    /**
+     * This is a getter method for the letter selecting the order in the menu
+     * @return
+     *  The letter
+     */
+    public String getLetter() {
+        return letter;
+    }
+
+    /**
+     * This is a getter method for the description of the order
+     * @return
+     *  The description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * This is a getter method for the comparator of the courses in this order
+     * @return
+     *  The comparator
+     */
+    public Comparator<Course> comparator() {
+        return comparator;
+    }
+
+    /**
+     * This method finds the order selected by a letter, ignoring case
+     * @param letter
+     *  The letter of the order
+     * @return
+     *  The order
+     * @throws IllegalArgumentException
+     *  When no order has this letter
+     */
+    public static CourseOrder fromLetter(String letter) {
+        for (CourseOrder order : values()) {
+            if (order.letter.equalsIgnoreCase(letter))
+                return order;
+        }
+        throw new IllegalArgumentException("Invalid input!!! unknown sort order " + letter);
+    }
+}
@@ -0,0 +1,868 @@
+package courseplanner;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * The <code>CourseSequence</code> class is the storage behind a <code>Planner</code>. It keeps
+ * <code>Course</code> objects in an indexed sequence backed by a size-balanced (AVL) tree, so
+ * inserting, removing and getting a course at any position costs O(log n) instead of shifting
+ * every course that comes after it.
+ * <br>Positions are 0-based here, the <code>Planner</code> is in charge of its 1-based positions.
+ * <br>Every course also gets a label, a <code>long</code> that only grows from the first course to
+ * the last one. Labels don't move when other courses are added or removed, so indexes can keep
+ * labels and turn them back into positions in O(log n). When there is no room left between two
+ * labels, only the courses of the smallest range of labels around them that is sparse enough are
+ * spread out again, as done by order-maintenance lists: the range holding 2^i labels may keep at most
+ * (10/7)^i courses. Repeated adds at the same spot then relabel O(log n) courses each on average
+ * instead of every course, and the new labels are handed to a <code>Relabeled</code> receiver so
+ * indexes can update just those. Only filling the sequence in bulk relabels every course and changes
+ * the label epoch.
+ * <br>Runs of courses are added and removed in bulk by splitting the tree at a position and joining
+ * the parts back, so adding k courses takes O(k + log n) and removing a range O(log n), while removing
+ * every course matching a condition takes a single O(n) pass that rebuilds the tree.
+ * <br>A sequence can be snapshot in O(1). The snapshot and the sequence share all their nodes and
+ * each of them copies a shared node the first time it changes it, so an edit after a snapshot only
+ * copies the O(log n) nodes on its path.
+ * <br>A sequence can also be filled from records, such as the ones of a planner file, in which case
+ * each course is only decoded the first time it is needed.
+ * <br>The sequence has an order-sensitive fingerprint, a polynomial hash of the hash codes of its courses.
+ * Each node keeps the fingerprint of its subtree once it is computed, and a change forgets it only on the
+ * O(log n) nodes on its path, so the fingerprint is found again in O(log n) after a change and in O(1)
+ * otherwise.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class CourseSequence implements Iterable<Course> {
+
+    /**
+     * The receiver of the labels changed to make room for a new course
+     */
+    public interface Relabeled {
+
+        /**
+         * This method is called once all the labels of a range of courses have changed, before the new
+         * course is added
+         * @param courses
+         *  The courses given new labels, in order
+         * @param from
+         *  The labels the courses held before
+         * @param to
+         *  The labels the courses hold now
+         */
+        void relabeled(Course[] courses, long[] from, long[] to);
+    }
+
+    //The distance left between a new label and its only neighbour
+    private static final long LABEL_GAP = 1L << 32;
+
+    //The growth of the number of courses a range of labels may hold when its size doubles, a range of 2^i
+    //labels may hold (10/7)^i courses, which leaves room for 8 billion courses in the whole long range
+    private static final double LABEL_DENSITY = 10.0 / 7.0;
+
+    //The base of the polynomial hash behind the fingerprints
+    private static final long FINGERPRINT_BASE = 0x9E3779B97F4A7C15L;
+
+    //The root of the tree holding the courses in order
+    private Node root;
+
+    //The number of times every course was relabeled
+    private int labelEpoch;
+
+    //The token marking the nodes this sequence may change in place
+    private Object edit;
+
+    //Decodes the courses of nodes built by setAll from records, null when there are none
+    private IntFunction<Course> records;
+
+    /**
+     * This is the default constructor used to create an empty CourseSequence object
+     */
+    public CourseSequence() {
+        this.root = null;
+        this.edit = new Object();
+    }
+
+    /**
+     * This method creates a snapshot of the sequence in O(1). Subsequent changes to the snapshot
+     * will not affect this sequence and vice versa, the courses themselves are shared
+     * @return
+     *  A sequence holding the same courses with the same labels
+     */
+    public CourseSequence snapshot() {
+        freeze();
+        return frozenCopy();
+    }
+
+    /**
+     * This method freezes the nodes of the sequence: they are never changed in place again, and the
+     * next change copies the nodes on its path instead. A reader holding the root of a frozen sequence
+     * can keep reading it while other changes are made
+     */
+    public void freeze() {
+        this.edit = new Object();
+    }
+
+    /**
+     * This method creates a read-only copy of the sequence in O(1) without changing it, the sequence
+     * must have been frozen since its last change
+     * @return
+     *  A sequence holding the same courses with the same labels
+     */
+    public CourseSequence frozenCopy() {
+        CourseSequence copy = new CourseSequence();
+        copy.root = this.root;
+        copy.labelEpoch = this.labelEpoch;
+        copy.records = this.records;
+        return copy;
+    }
+
+    /**
+     * This method determines the number of courses in the sequence
+     * @return
+     *  The number of courses in the sequence
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * This method returns the course stored at an index of the sequence
+     * @param index
+     *  The 0-based index of the course
+     * @return
+     *  The course at the given index
+     * @throws IndexOutOfBoundsException
+     *  When the index is not within valid range
+     */
+    public Course get(int index) {
+        return course(nodeAt(index));
+    }
+
+    /**
+     * This method returns the label of the course stored at an index of the sequence
+     * @param index
+     *  The 0-based index of the course
+     * @return
+     *  The label of the course at the given index
+     * @throws IndexOutOfBoundsException
+     *  When the index is not within valid range
+     */
+    public long labelAt(int index) {
+        return nodeAt(index).label;
+    }
+
+    /**
+     * This method returns the course holding a label
+     * @param label
+     *  The label of the course
+     * @return
+     *  The course holding the label, null if no course holds it
+     */
+    public Course getByLabel(long label) {
+        Node node = root;
+        while (node != null) {
+            if (label < node.label)
+                node = node.left;
+            else if (label > node.label)
+                node = node.right;
+            else
+                return course(node);
+        }
+        return null;
+    }
+
+    /**
+     * This method finds the index of the course holding a label
+     * @param label
+     *  The label of the course
+     * @return
+     *  The 0-based index of the course holding the label, -1 if no course holds it
+     */
+    public int indexOfLabel(long label) {
+        Node node = root;
+        int index = 0;
+        while (node != null) {
+            if (label < node.label) {
+                node = node.left;
+            } else if (label > node.label) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * This method computes the fingerprint of the sequence, equal sequences of courses have equal
+     * fingerprints. The courses must not be changed while they are in the sequence
+     * @return
+     *  The fingerprint of the courses in order
+     */
+    public long fingerprint() {
+        return fingerprint(root);
+    }
+
+    /**
+     * This method determines how many times the courses were relabeled, labels handed out
+     * before the last change of the epoch are no longer valid
+     * @return
+     *  The label epoch
+     */
+    public int labelEpoch() {
+        return labelEpoch;
+    }
+
+    /**
+     * This method inserts a course at an index of the sequence, moving the courses at and after
+     * that index one index up
+     * @param index
+     *  The 0-based index at which the course is inserted
+     * @param course
+     *  The course to be inserted
+     * @return
+     *  The label given to the course
+     * @throws IndexOutOfBoundsException
+     *  When the index is not within valid range
+     */
+    public long add(int index, Course course) {
+        return add(index, course, null);
+    }
+
+    /**
+     * This method inserts a course at an index of the sequence, moving the courses at and after
+     * that index one index up. When there is no room between the labels of its neighbours, the
+     * courses of the smallest sparse enough range of labels around them are relabeled first
+     * @param index
+     *  The 0-based index at which the course is inserted
+     * @param course
+     *  The course to be inserted
+     * @param relabeled
+     *  The receiver of the courses given new labels, null when nobody keeps their labels
+     * @return
+     *  The label given to the course
+     * @throws IndexOutOfBoundsException
+     *  When the index is not within valid range
+     */
+    public long add(int index, Course course, Relabeled relabeled) {
+        checkIndex(index, size() + 1);
+        long label = freeLabel(index);
+        if (label == Long.MIN_VALUE) {
+            relabelAround(index > 0 ? labelAt(index - 1) : labelAt(index), relabeled);
+            label = freeLabel(index);
+        }
+        course.markStored();
+        root = insert(root, index, course, label);
+        return label;
+    }
+
+    //Returns a label between the labels of the courses around an index, Long.MIN_VALUE if there is no
+    //room. Long.MIN_VALUE and Long.MAX_VALUE are never given to a course, they stand for the ends
+    private long freeLabel(int index) {
+        boolean hasBefore = index > 0;
+        boolean hasAfter = index < size();
+        if (!hasBefore && !hasAfter)
+            return 0;
+        long before = hasBefore ? labelAt(index - 1) : Long.MIN_VALUE;
+        long after = hasAfter ? labelAt(index) : Long.MAX_VALUE;
+        //Courses added at either end are spaced out, so adding one after the other never runs out of room
+        if (!hasAfter && before < Long.MAX_VALUE - LABEL_GAP)
+            return before + LABEL_GAP;
+        if (!hasBefore && after > Long.MIN_VALUE + LABEL_GAP)
+            return after - LABEL_GAP;
+        long label = before + ((after - before) >>> 1);
+        return label == before ? Long.MIN_VALUE : label;
+    }
+
+    //Spreads out the labels of the smallest range of labels around a label that is sparse enough to hold
+    //one more course. Ranges are aligned on their size, seeing the labels as unsigned from Long.MIN_VALUE
+    private void relabelAround(long label, Relabeled relabeled) {
+        long unsigned = label ^ Long.MIN_VALUE;
+        for (int bits = 1; bits <= 64; bits++) {
+            long low = bits == 64 ? 0 : unsigned >>> bits << bits;
+            long high = bits == 64 ? -1L : low + (1L << bits) - 1;
+            int from = countBelow(low ^ Long.MIN_VALUE);
+            int to = high == -1L ? size() : countBelow((high + 1) ^ Long.MIN_VALUE);
+            int count = to - from;
+            //The step between the new labels, at least 3 so there is room around each of them
+            long step = bits == 64 ? Long.divideUnsigned(-1L, count + 1L)
+                    : Long.divideUnsigned(1L << bits, count + 1L);
+            if (bits == 64 || (count + 1 <= Math.pow(LABEL_DENSITY, bits) && step >= 3)) {
+                relabel(from, to, low ^ Long.MIN_VALUE, step, relabeled);
+                return;
+            }
+        }
+    }
+
+    //Gives the courses from one index up to another one the labels first + step, first + 2 step and so on
+    private void relabel(int from, int to, long first, long step, Relabeled relabeled) {
+        Course[] courses = relabeled == null ? null : new Course[to - from];
+        long[] oldLabels = new long[to - from];
+        long[] newLabels = new long[to - from];
+        for (int i = 0; i < newLabels.length; i++)
+            newLabels[i] = first + step * (i + 1);
+        root = relabel(root, 0, from, to, courses, oldLabels, newLabels);
+        if (relabeled != null)
+            relabeled.relabeled(courses, oldLabels, newLabels);
+    }
+
+    private Node relabel(Node node, int offset, int from, int to, Course[] courses, long[] oldLabels,
+                         long[] newLabels) {
+        if (node == null || offset >= to || offset + node.size <= from)
+            return node;
+        node = editable(node);
+        node.left = relabel(node.left, offset, from, to, courses, oldLabels, newLabels);
+        int index = offset + size(node.left);
+        if (index >= from && index < to) {
+            if (courses != null)
+                courses[index - from] = course(node);
+            oldLabels[index - from] = node.label;
+            node.label = newLabels[index - from];
+        }
+        node.right = relabel(node.right, index + 1, from, to, courses, oldLabels, newLabels);
+        return node;
+    }
+
+    //Returns the number of courses whose label is lower than a label
+    private int countBelow(long label) {
+        Node node = root;
+        int count = 0;
+        while (node != null) {
+            if (node.label < label) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * This method removes the course at an index of the sequence, moving the courses after that
+     * index one index down
+     * @param index
+     *  The 0-based index of the course to be removed
+     * @return
+     *  The removed course
+     * @throws IndexOutOfBoundsException
+     *  When the index is not within valid range
+     */
+    public Course remove(int index) {
+        Course removed = get(index);
+        root = delete(root, index);
+        return removed;
+    }
+
+    /**
+     * This method inserts courses at an index of the sequence, moving the courses at and after that
+     * index up by their number. The courses are spread evenly over the labels between their neighbours,
+     * and every course is relabeled if there is no room left
+     * @param index
+     *  The 0-based index at which the first course is inserted
+     * @param courses
+     *  The courses in the order they should be stored
+     * @param count
+     *  The number of courses to take from the start of the array
+     * @return
+     *  The labels given to the courses in order, null if every course was relabeled
+     * @throws IndexOutOfBoundsException
+     *  When the index is not within valid range
+     */
+    public long[] addAll(int index, Course[] courses, int count) {
+        checkIndex(index, size() + 1);
+        Node[] parts = split(root, index);
+        long before = parts[0] == null ? Long.MIN_VALUE : nodeAt(parts[0], size(parts[0]) - 1).label;
+        long after = parts[1] == null ? Long.MAX_VALUE : nodeAt(parts[1], 0).label;
+        long step = Long.divideUnsigned(after - before, count + 1L);
+        Node added = build(courses, 0, count);
+        long[] labels = null;
+        if (step > 0) {
+            added = relabel(added, new long[] {before}, step);
+            labels = new long[count];
+            for (int i = 0; i < count; i++)
+                labels[i] = before + step * (i + 1);
+        }
+        root = join(join(parts[0], added), parts[1]);
+        if (step == 0)
+            relabel();
+        return labels;
+    }
+
+    /**
+     * This method removes the courses from one index up to another one, moving the courses after them
+     * down by their number
+     * @param from
+     *  The 0-based index of the first course to be removed
+     * @param to
+     *  The 0-based index after the last course to be removed
+     * @return
+     *  A sequence holding the removed courses with their labels
+     * @throws IndexOutOfBoundsException
+     *  When the indexes are not within valid range
+     */
+    public CourseSequence removeRange(int from, int to) {
+        if (from < 0 || to > size() || from > to)
+            throw new IndexOutOfBoundsException("Range " + from + " to " + to +
+                    " is not within valid range");
+        Node[] after = split(root, to);
+        Node[] before = split(after[0], from);
+        root = join(before[0], after[1]);
+        CourseSequence removed = new CourseSequence();
+        removed.root = before[1];
+        removed.labelEpoch = labelEpoch;
+        removed.records = records;
+        return removed;
+    }
+
+    /**
+     * This method removes every course matching a condition in a single pass, the remaining courses
+     * keep their order and their labels. The sequence is only changed once every course was tested, so
+     * it is left as it was if the condition throws
+     * @param filter
+     *  The condition, it is called once for every course in order
+     * @param removed
+     *  The action performed on each removed course and its label, in order, once they are all removed
+     * @return
+     *  The number of courses removed
+     */
+    public int removeIf(Predicate<Course> filter, ObjLongConsumer<Course> removed) {
+        int size = size();
+        Course[] kept = new Course[size];
+        long[] labels = new long[size];
+        int count = 0;
+        //The removed courses and their labels fill the arrays from the end, in reverse order
+        int gone = size;
+        Node[] stack = new Node[height(root) + 1];
+        int top = 0;
+        Node node = root;
+        while (node != null || top > 0) {
+            for (; node != null; node = node.left)
+                stack[top++] = node;
+            node = stack[--top];
+            Course course = course(node);
+            if (filter.test(course)) {
+                kept[--gone] = course;
+                labels[gone] = node.label;
+            } else {
+                kept[count] = course;
+                labels[count++] = node.label;
+            }
+            node = node.right;
+        }
+        if (count == size)
+            return 0;
+        root = build(kept, 0, count);
+        records = null;
+        setLabels(root, labels, new int[1]);
+        for (int i = size - 1; i >= count; i--)
+            removed.accept(kept[i], labels[i]);
+        return size - count;
+    }
+
+    /**
+     * This method removes every course from the sequence
+     */
+    public void clear() {
+        root = null;
+        records = null;
+    }
+
+    /**
+     * This method replaces the content of the sequence with the given courses, building a
+     * balanced tree in O(n)
+     * @param courses
+     *  The courses in the order they should be stored
+     * @param count
+     *  The number of courses to take from the start of the array
+     */
+    public void setAll(Course[] courses, int count) {
+        root = build(courses, 0, count);
+        records = null;
+        relabel();
+    }
+
+    /**
+     * This method replaces the content of the sequence with courses that are only decoded the first
+     * time they are needed, building a balanced tree in O(n)
+     * @param records
+     *  The function decoding the course stored in a 0-based record
+     * @param count
+     *  The number of records, record i is stored at index i
+     */
+    public void setAll(IntFunction<Course> records, int count) {
+        root = build(null, 0, count);
+        this.records = records;
+        relabel();
+    }
+
+    /**
+     * This method decodes every course of the sequence that wasn't decoded yet. Reading the sequence
+     * then never writes to its nodes, so a frozen copy can be handed to another thread while the nodes
+     * it shares are still read here
+     */
+    public void decodeAll() {
+        if (records == null)
+            return;
+        decodeAll(root);
+        records = null;
+    }
+
+    private void decodeAll(Node node) {
+        if (node == null)
+            return;
+        decodeAll(node.left);
+        course(node);
+        decodeAll(node.right);
+    }
+
+    /**
+     * This method copies the courses of the sequence into an array in order
+     * @return
+     *  An array holding the courses of the sequence
+     */
+    public Course[] toArray() {
+        Course[] ret = new Course[size()];
+        int i = 0;
+        for (Course course : this)
+            ret[i++] = course;
+        return ret;
+    }
+
+    /**
+     * This method visits every course of the sequence in order together with its label
+     * @param action
+     *  The action to be performed on each course and its label
+     */
+    public void forEachLabeled(ObjLongConsumer<Course> action) {
+        Node[] stack = new Node[height(root) + 1];
+        int top = 0;
+        Node node = root;
+        while (node != null || top > 0) {
+            for (; node != null; node = node.left)
+                stack[top++] = node;
+            node = stack[--top];
+            action.accept(course(node), node.label);
+            node = node.right;
+        }
+    }
+
+    /**
+     * This method returns an in-order iterator over the courses of the sequence, it uses
+     * O(log n) extra memory
+     * @return
+     *  An iterator over the courses in order
+     */
+    @Override
+    public Iterator<Course> iterator() {
+        return new Iterator<Course>() {
+            //The nodes whose course and right subtree are still to be visited
+            private final Node[] stack = new Node[height(root) + 1];
+            private int top = pushLeft(root, 0);
+
+            private int pushLeft(Node node, int top) {
+                for (; node != null; node = node.left)
+                    stack[top++] = node;
+                return top;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return top > 0;
+            }
+
+            @Override
+            public Course next() {
+                if (top == 0)
+                    throw new NoSuchElementException();
+                Node node = stack[--top];
+                top = pushLeft(node.right, top);
+                return course(node);
+            }
+        };
+    }
+
+    //Returns the course of a node, decoding it from its record the first time
+    private Course course(Node node) {
+        if (node.course == null) {
+            Course course = records.apply(node.record);
+            course.markStored();
+            node.course = course;
+        }
+        return node.course;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound)
+            throw new IndexOutOfBoundsException("Index " + index +
+                    " is not within valid range");
+    }
+
+    private Node nodeAt(int index) {
+        checkIndex(index, size());
+        return nodeAt(root, index);
+    }
+
+    private static Node nodeAt(Node node, int index) {
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+    }
+
+    //Returns the fingerprint of a subtree, the polynomial hash of its courses in order, and keeps it in
+    //the nodes that didn't have it yet
+    private long fingerprint(Node node) {
+        if (node == null)
+            return 0;
+        Long known = node.fingerprint;
+        if (known != null)
+            return known;
+        long hash = (fingerprint(node.left) * FINGERPRINT_BASE + mix(course(node).hashCode()))
+                * power(node.right) + fingerprint(node.right);
+        node.fingerprint = hash;
+        return hash;
+    }
+
+    //Spreads the bits of a hash code over a long
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    //Spreads the labels evenly over the whole long range, keeping their order
+    private void relabel() {
+        long step = Long.divideUnsigned(-1L, size() + 2L);
+        root = relabel(root, new long[] {Long.MIN_VALUE}, step);
+        labelEpoch++;
+    }
+
+    private Node relabel(Node node, long[] label, long step) {
+        if (node == null)
+            return null;
+        node = editable(node);
+        node.left = relabel(node.left, label, step);
+        label[0] += step;
+        node.label = label[0];
+        node.right = relabel(node.right, label, step);
+        return node;
+    }
+
+    //Returns the node itself if this sequence owns it, or a copy owned by this sequence otherwise
+    private Node editable(Node node) {
+        if (node.owner == edit)
+            return node;
+        Node copy = new Node(node.course, node.label, edit);
+        copy.record = node.record;
+        copy.left = node.left;
+        copy.right = node.right;
+        copy.height = node.height;
+        copy.size = node.size;
+        copy.power = node.power;
+        copy.fingerprint = node.fingerprint;
+        return copy;
+    }
+
+    private Node insert(Node node, int index, Course course, long label) {
+        if (node == null)
+            return new Node(course, label, edit);
+        node = editable(node);
+        int leftSize = size(node.left);
+        if (index <= leftSize)
+            node.left = insert(node.left, index, course, label);
+        else
+            node.right = insert(node.right, index - leftSize - 1, course, label);
+        return balance(node);
+    }
+
+    private Node delete(Node node, int index) {
+        node = editable(node);
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            node.left = delete(node.left, index);
+        } else if (index > leftSize) {
+            node.right = delete(node.right, index - leftSize - 1);
+        } else {
+            if (node.left == null)
+                return node.right;
+            if (node.right == null)
+                return node.left;
+            Node successor = node.right;
+            while (successor.left != null)
+                successor = successor.left;
+            node.course = course(successor);
+            node.label = successor.label;
+            node.right = delete(node.right, 0);
+        }
+        return balance(node);
+    }
+
+    private Node build(Course[] courses, int from, int to) {
+        if (from >= to)
+            return null;
+        int mid = (from + to) >>> 1;
+        Node node = new Node(courses == null ? null : courses[mid], 0, edit);
+        if (courses != null)
+            courses[mid].markStored();
+        node.record = mid;
+        node.left = build(courses, from, mid);
+        node.right = build(courses, mid + 1, to);
+        update(node);
+        return node;
+    }
+
+    //Gives the nodes of a subtree the labels of an array in order
+    private static void setLabels(Node node, long[] labels, int[] next) {
+        if (node == null)
+            return;
+        setLabels(node.left, labels, next);
+        node.label = labels[next[0]++];
+        setLabels(node.right, labels, next);
+    }
+
+    //Splits a tree into the trees of its first index courses and of the others
+    private Node[] split(Node node, int index) {
+        if (node == null)
+            return new Node[2];
+        node = editable(node);
+        int leftSize = size(node.left);
+        Node[] parts;
+        if (index <= leftSize) {
+            parts = split(node.left, index);
+            parts[1] = join(parts[1], node, node.right);
+        } else {
+            parts = split(node.right, index - leftSize - 1);
+            parts[0] = join(node.left, node, parts[0]);
+        }
+        return parts;
+    }
+
+    //Joins two trees, the courses of the left one coming first
+    private Node join(Node left, Node right) {
+        if (left == null)
+            return right;
+        if (right == null)
+            return left;
+        Node last = nodeAt(left, size(left) - 1);
+        Node middle = new Node(last.course, last.label, edit);
+        middle.record = last.record;
+        return join(delete(left, size(left) - 1), middle, right);
+    }
+
+    //Joins two trees around a node this sequence owns, in O(difference of their heights)
+    private Node join(Node left, Node middle, Node right) {
+        if (height(left) > height(right) + 1) {
+            Node node = editable(left);
+            node.right = join(node.right, middle, right);
+            return balance(node);
+        }
+        if (height(right) > height(left) + 1) {
+            Node node = editable(right);
+            node.left = join(left, middle, node.left);
+            return balance(node);
+        }
+        middle.left = left;
+        middle.right = right;
+        update(middle);
+        return middle;
+    }
+
+    //Rebalances a node this sequence already owns
+    private Node balance(Node node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right))
+                node.left = rotateLeft(node.left);
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left))
+                node.right = rotateRight(node.right);
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateRight(Node node) {
+        node = editable(node);
+        Node pivot = editable(node.left);
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node rotateLeft(Node node) {
+        node = editable(node);
+        Node pivot = editable(node.right);
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+        node.power = power(node.left) * power(node.right) * FINGERPRINT_BASE;
+        node.fingerprint = null;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    //Returns the base of the fingerprints raised to the size of a subtree
+    private static long power(Node node) {
+        return node == null ? 1 : node.power;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, holding one course with its label and the size, height and fingerprint of its
+     * subtree. Only the sequence whose edit token owns a node may change it, any other sequence copies it
+     * first. The fingerprint is null until it is computed, it is an immutable Long so a frozen node
+     * shared with other threads can be given its fingerprint safely
+     */
+    private static class Node {
+        private final Object owner;
+        private Course course;
+        private int record;
+        private long label;
+        private Node left;
+        private Node right;
+        private int height;
+        private int size;
+        private long power;
+        private Long fingerprint;
+
+        private Node(Course course, long label, Object owner) {
+            this.owner = owner;
+            this.course = course;
+            this.label = label;
+            this.height = 1;
+            this.size = 1;
+            this.power = FINGERPRINT_BASE;
+        }
+    }
+}
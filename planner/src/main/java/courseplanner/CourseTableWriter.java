@@ -0,0 +1,322 @@
+package courseplanner;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * The <code>CourseTableWriter</code> class renders the table of courses shown by a
+ * <code>Planner</code> straight to an <code>Appendable</code>. The position starting each row is laid
+ * out in one reused buffer, and the fixed-width columns of the course are those kept by the course
+ * once rendered, so writing a row is a few bulk copies. Printing n courses takes O(n) time, and
+ * printing them again while they are unchanged allocates nothing for the rows.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class CourseTableWriter {
+
+    //The width of each column: position, name, department, code, section and instructor
+    private static final int POSITION_WIDTH = 3;
+    private static final int NAME_WIDTH = 30;
+    private static final int DEPARTMENT_WIDTH = 15;
+    private static final int CODE_WIDTH = 5;
+    private static final int SECTION_WIDTH = 10;
+    private static final int INSTRUCTOR_WIDTH = 30;
+
+    //The two header lines printed above the rows
+    private static final String HEADER = String.format("%-3s %-30s %-15s %-5s %-10s %-30s" +
+                    "%n---------------------------------------------------------------------------------- %n",
+            "No.", "Course Name", "Department", "Code", "Section", "Instructor");
+
+    //The two header lines printed above the rows of changes between two planners
+    private static final String CHANGE_HEADER = String.format("%-7s %-4s %-4s %-30s %-15s %-5s %-10s %-30s" +
+                    "%n------------------------------------------------------------------------------------------- %n",
+            "Change", "From", "To", "Course Name", "Department", "Code", "Section", "Instructor");
+
+    //The destination of the table
+    private final Appendable out;
+
+    //The buffer holding the row being rendered
+    private char[] row;
+
+    //The number of characters of the row rendered so far
+    private int length;
+
+    /**
+     * This is a constructor used to create a new CourseTableWriter object
+     * @param out
+     *  The destination of the table
+     */
+    public CourseTableWriter(Appendable out) {
+        this.out = out;
+        this.row = new char[128];
+    }
+
+    /**
+     * This method creates a CourseTableWriter writing to the console through a buffer, the
+     * console is only written when the writer is flushed
+     * @return
+     *  A CourseTableWriter writing to System.out
+     */
+    public static CourseTableWriter console() {
+        return new CourseTableWriter(new BufferedWriter(new OutputStreamWriter(System.out)));
+    }
+
+    /**
+     * This method writes the header of the table
+     * @return
+     *  This writer
+     */
+    public CourseTableWriter writeHeader() {
+        append(HEADER);
+        return this;
+    }
+
+    /**
+     * This method writes the row of a course with its position
+     * @param position
+     *  The position of the course in the planner
+     * @param course
+     *  The course to be written
+     * @return
+     *  This writer
+     */
+    public CourseTableWriter writeRow(int position, Course course) {
+        length = 0;
+        putPadded(position, POSITION_WIDTH, true);
+        put(' ');
+        flushRow(course);
+        return this;
+    }
+
+    /**
+     * This method writes the row of a planner entry
+     * @param entry
+     *  The course and its position
+     * @return
+     *  This writer
+     */
+    public CourseTableWriter writeRow(PlannerEntry entry) {
+        return writeRow(entry.getPosition(), entry.getCourse());
+    }
+
+    /**
+     * This method writes the header of a table of changes between two planners
+     * @return
+     *  This writer
+     */
+    public CourseTableWriter writeChangeHeader() {
+        append(CHANGE_HEADER);
+        return this;
+    }
+
+    /**
+     * This method writes the row of a change between two planners
+     * @param change
+     *  The kind of change, such as Added
+     * @param from
+     *  The position of the course in the first planner, 0 if it isn't there
+     * @param to
+     *  The position of the course in the second planner, 0 if it isn't there
+     * @param course
+     *  The course that changed
+     * @return
+     *  This writer
+     */
+    public CourseTableWriter writeChange(String change, int from, int to, Course course) {
+        length = 0;
+        putPadded(change, 7);
+        put(' ');
+        putPosition(from);
+        put(' ');
+        putPosition(to);
+        put(' ');
+        flushRow(course);
+        return this;
+    }
+
+    /**
+     * This method writes a header followed by a row for every course, numbered from 1
+     * @param courses
+     *  The courses in the order they should be written
+     * @return
+     *  This writer
+     */
+    public CourseTableWriter writeTable(Iterable<Course> courses) {
+        writeHeader();
+        int position = 1;
+        for (Course course : courses)
+            writeRow(position++, course);
+        return this;
+    }
+
+    /**
+     * This method writes a header followed by a row for every entry
+     * @param entries
+     *  The courses with their positions
+     * @return
+     *  This writer
+     */
+    public CourseTableWriter writeEntries(Iterable<PlannerEntry> entries) {
+        writeHeader();
+        for (PlannerEntry entry : entries)
+            writeRow(entry);
+        return this;
+    }
+
+    /**
+     * This method writes a line of text
+     * @param line
+     *  The text to be written, without a line separator
+     * @return
+     *  This writer
+     */
+    public CourseTableWriter writeLine(String line) {
+        append(line);
+        append(System.lineSeparator());
+        return this;
+    }
+
+    /**
+     * This method flushes the destination if it can be flushed
+     */
+    public void flush() {
+        if (out instanceof Flushable) {
+            try {
+                ((Flushable) out).flush();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    /**
+     * This method renders the columns of a course without its position, as kept by the course and
+     * returned by Course.toString
+     * @param course
+     *  The course to be rendered
+     * @return
+     *  The fixed-width columns of the course
+     */
+    public static String formatCourse(Course course) {
+        CourseTableWriter writer = new CourseTableWriter(null);
+        writer.putCourse(course);
+        return new String(writer.row, 0, writer.length);
+    }
+
+    /**
+     * This method renders the row of a course with its position
+     * @param position
+     *  The position of the course in the planner
+     * @param course
+     *  The course to be rendered
+     * @return
+     *  The row, without a line separator
+     */
+    public static String formatRow(int position, Course course) {
+        CourseTableWriter writer = new CourseTableWriter(null);
+        writer.putPadded(position, POSITION_WIDTH, true);
+        writer.put(' ');
+        writer.putPadded(course.toString(), 0);
+        return new String(writer.row, 0, writer.length);
+    }
+
+    private void putCourse(Course course) {
+        putPadded(course.getName(), NAME_WIDTH);
+        put(' ');
+        putPadded(course.getDepartment(), DEPARTMENT_WIDTH);
+        put(' ');
+        putPadded(course.getCode(), CODE_WIDTH, false);
+        put(' ');
+        putPadded(course.getSection(), SECTION_WIDTH, false);
+        put(' ');
+        putPadded(course.getInstructor(), INSTRUCTOR_WIDTH);
+        put(' ');
+    }
+
+    //Puts a position right aligned, or spaces for position 0
+    private void putPosition(int position) {
+        if (position > 0)
+            putPadded(position, POSITION_WIDTH + 1, true);
+        else
+            putPadded("", POSITION_WIDTH + 1);
+    }
+
+    //Puts the text followed by spaces up to the width, longer text is kept whole
+    private void putPadded(String text, int width) {
+        String value = String.valueOf(text);
+        int size = value.length();
+        ensureRoom(Math.max(size, width));
+        value.getChars(0, size, row, length);
+        length += size;
+        for (; size < width; size++)
+            row[length++] = ' ';
+    }
+
+    //Puts the decimal digits of the number padded with spaces up to the width
+    private void putPadded(long number, int width, boolean alignRight) {
+        int digits = 1;
+        for (long rest = Math.abs(number / 10); rest > 0; rest /= 10)
+            digits++;
+        int size = number < 0 ? digits + 1 : digits;
+        ensureRoom(Math.max(size, width));
+        if (alignRight)
+            for (int i = size; i < width; i++)
+                row[length++] = ' ';
+        if (number < 0)
+            row[length++] = '-';
+        for (int i = length + digits - 1; i >= length; i--) {
+            row[i] = (char) ('0' + Math.abs(number % 10));
+            number /= 10;
+        }
+        length += digits;
+        if (!alignRight)
+            for (int i = size; i < width; i++)
+                row[length++] = ' ';
+    }
+
+    private void put(char c) {
+        ensureRoom(1);
+        row[length++] = c;
+    }
+
+    private void ensureRoom(int extra) {
+        if (length + extra > row.length) {
+            char[] grown = new char[Math.max(row.length * 2, length + extra)];
+            System.arraycopy(row, 0, grown, 0, length);
+            row = grown;
+        }
+    }
+
+    //Writes the start of the row laid out so far, then the columns kept by the course and a line break
+    private void flushRow(Course course) {
+        String columns = course.toString();
+        try {
+            if (out instanceof Writer) {
+                Writer writer = (Writer) out;
+                writer.write(row, 0, length);
+                writer.write(columns);
+                writer.write('\n');
+            } else if (out instanceof StringBuilder) {
+                ((StringBuilder) out).append(row, 0, length).append(columns).append('\n');
+            } else {
+                out.append(CharBuffer.wrap(row, 0, length)).append(columns).append('\n');
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void append(String text) {
+        try {
+            out.append(text);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
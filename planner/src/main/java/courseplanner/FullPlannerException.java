@@ -1,3 +1,5 @@
+package courseplanner;
+
 /**
  * The <code>FullPlannerException</code> class is a custom exception class which throws an exception when the planner is full
  *
@@ -0,0 +1,120 @@
+package courseplanner;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * The <code>LabelIndex</code> class is a hash index from keys to the labels held in a
+ * <code>CourseSequence</code> by the courses with that key. A planner keys one index by the
+ * <code>Course</code> itself and another one by department. Courses with an equal key share one
+ * entry which keeps all their labels in order, so duplicates are supported and the first one is
+ * found in O(1) expected time.
+ * <br>A concurrent index can be read while it is being changed without failing or looping, which is
+ * what the optimistic reads of a <code>ConcurrentPlanner</code> rely on.
+ * @param <K>
+ *  The type of the key
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class LabelIndex<K> {
+
+    //The labels of every course, sorted from the first position to the last
+    private final Map<K, NavigableSet<Long>> labels;
+
+    //Whether the index can be read while it is being changed
+    private final boolean concurrent;
+
+    /**
+     * This is the default constructor used to create an empty LabelIndex object
+     */
+    public LabelIndex() {
+        this(false);
+    }
+
+    /**
+     * This is a constructor used to create an empty LabelIndex object
+     * @param concurrent
+     *  Whether the index can be read while it is being changed
+     */
+    public LabelIndex(boolean concurrent) {
+        this.labels = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+        this.concurrent = concurrent;
+    }
+
+    /**
+     * This method records that a course with the given key holds a label
+     * @param key
+     *  The key of the course
+     * @param label
+     *  The label held by the course
+     */
+    public void add(K key, long label) {
+        labels.computeIfAbsent(key, k -> concurrent ? new ConcurrentSkipListSet<>()
+                : new TreeSet<>()).add(label);
+    }
+
+    /**
+     * This method forgets that a course with the given key holds a label
+     * @param key
+     *  The key of the course
+     * @param label
+     *  The label that was held by the course
+     */
+    public void remove(K key, long label) {
+        NavigableSet<Long> held = labels.get(key);
+        if (held == null)
+            return;
+        held.remove(label);
+        if (held.isEmpty())
+            labels.remove(key);
+    }
+
+    /**
+     * This method checks whether a course with the given key is recorded
+     * @param key
+     *  The key we are looking for
+     * @return
+     *  True if a course with an equal key is recorded, false otherwise
+     */
+    public boolean contains(K key) {
+        return labels.containsKey(key);
+    }
+
+    /**
+     * This method returns the label of the first course with the given key
+     * @param key
+     *  The key we are looking for
+     * @return
+     *  The smallest label held by a course with an equal key, null if there is none
+     */
+    public Long first(K key) {
+        NavigableSet<Long> held = labels.get(key);
+        return held == null ? null : held.first();
+    }
+
+    /**
+     * This method returns the labels of every course with the given key
+     * @param key
+     *  The key we are looking for
+     * @return
+     *  A read-only view of the labels in ascending order, empty if there are none
+     */
+    public NavigableSet<Long> labels(K key) {
+        NavigableSet<Long> held = labels.get(key);
+        return held == null ? Collections.emptyNavigableSet()
+                : Collections.unmodifiableNavigableSet(held);
+    }
+
+    /**
+     * This method forgets every course
+     */
+    public void clear() {
+        labels.clear();
+    }
+}
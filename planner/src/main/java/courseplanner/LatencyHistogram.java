@@ -0,0 +1,164 @@
+package courseplanner;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The <code>LatencyHistogram</code> class counts latencies in buckets of logarithmically growing
+ * width, like an HDR histogram: values below 32 ns have a bucket each, and every power of 2 above that
+ * is split into 16 buckets, so any value is known to within about 6%. The buckets cover every
+ * positive long in under 1000 counters.
+ * <br>Each bucket is a <code>LongAdder</code>, created the first time a value falls in it, so threads
+ * recording at once spread their increments over striped cells instead of retrying on one contended
+ * counter. The number of values and the largest of them are read from the buckets rather than kept
+ * on every record, so the largest value is only known to within the width of its bucket. Recording a
+ * value takes no lock, and reading the percentiles while values are recorded gives a close but not
+ * exact answer.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class LatencyHistogram {
+
+    //The number of bits of a value kept by its bucket, and the number of buckets of a power of 2
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int HALF = SUB_BUCKETS / 2;
+
+    //The number of buckets needed for the largest long
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BITS + 1) * HALF;
+
+    //The number of values recorded in each bucket, null for the buckets nothing fell in yet
+    private final AtomicReferenceArray<LongAdder> counts;
+
+    //The sum of the values recorded
+    private final LongAdder total;
+
+    /**
+     * This is a constructor used to create a new LatencyHistogram object with no values in it
+     */
+    public LatencyHistogram() {
+        this.counts = new AtomicReferenceArray<>(BUCKETS);
+        this.total = new LongAdder();
+    }
+
+    /**
+     * This method records a latency
+     * @param nanos
+     *  The latency in nanoseconds, negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int bucket = bucket(value);
+        LongAdder count = counts.get(bucket);
+        if (count == null) {
+            counts.compareAndSet(bucket, null, new LongAdder());
+            count = counts.get(bucket);
+        }
+        count.increment();
+        total.add(value);
+    }
+
+    /**
+     * This method determines the number of latencies recorded
+     * @return
+     *  The number of latencies
+     */
+    public long count() {
+        long n = 0;
+        for (int i = 0; i < BUCKETS; i++)
+            n += count(i);
+        return n;
+    }
+
+    /**
+     * This method determines the mean of the latencies recorded
+     * @return
+     *  The mean in nanoseconds, 0 when nothing was recorded
+     */
+    public double mean() {
+        long n = count();
+        return n == 0 ? 0 : (double) total.sum() / n;
+    }
+
+    /**
+     * This method determines the largest latency recorded
+     * @return
+     *  The highest value of the highest bucket holding a latency in nanoseconds, 0 when nothing was
+     *  recorded
+     */
+    public long max() {
+        for (int i = BUCKETS - 1; i >= 0; i--) {
+            if (count(i) > 0)
+                return highest(i);
+        }
+        return 0;
+    }
+
+    /**
+     * This method determines a percentile of the latencies recorded
+     * @param percentile
+     *  The percentile, from 0 to 100
+     * @return
+     *  The highest value of the bucket holding the percentile in nanoseconds, 0 when nothing was
+     *  recorded
+     */
+    public long percentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long n = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = count(i);
+            n += snapshot[i];
+        }
+        if (n == 0)
+            return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * n));
+        long seen = 0;
+        int last = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (snapshot[i] > 0)
+                last = i;
+            if (seen >= rank)
+                return highest(i);
+        }
+        return highest(last);
+    }
+
+    /**
+     * This method clears the histogram
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            LongAdder count = counts.get(i);
+            if (count != null)
+                count.reset();
+        }
+        total.reset();
+    }
+
+    //Returns the number of values recorded in a bucket
+    private long count(int bucket) {
+        LongAdder count = counts.get(bucket);
+        return count == null ? 0 : count.sum();
+    }
+
+    //Returns the bucket of a value that isn't negative
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BITS - 1);
+        int top = (int) (value >>> shift);
+        return SUB_BUCKETS + (shift - 1) * HALF + (top - HALF);
+    }
+
+    //Returns the highest value of a bucket
+    static long highest(int bucket) {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+        int shift = (bucket - SUB_BUCKETS) / HALF + 1;
+        long top = (bucket - SUB_BUCKETS) % HALF + HALF;
+        long next = (top + 1) << shift;
+        return next <= 0 ? Long.MAX_VALUE : next - 1;
+    }
+}
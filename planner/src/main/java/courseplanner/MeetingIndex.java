@@ -0,0 +1,312 @@
+package courseplanner;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * The <code>MeetingIndex</code> class is an index from the meeting times of the courses to the labels
+ * they hold in a <code>CourseSequence</code>, used to find schedule conflicts. Every day of the week
+ * has an interval tree of the meetings on that day: an AVL tree sorted by start time, where each node
+ * also keeps the latest end time below it. The meetings overlapping a time are found in O(log n + k)
+ * for k meetings, as the subtrees ending before it are skipped, and every pair of overlapping meetings
+ * is found in O(n log n + k) by sweeping each day in order of start time.
+ * <br>Unlike the other indexes, it can't be read while it is being changed.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class MeetingIndex {
+
+    /**
+     * The receiver of a meeting overlapping a time
+     */
+    public interface Overlap {
+
+        /**
+         * This method is called for each meeting overlapping the time
+         * @param day
+         *  The day of the overlap
+         * @param start
+         *  The start of the overlap in minutes from midnight
+         * @param end
+         *  The end of the overlap in minutes from midnight
+         * @param label
+         *  The label of the course of the meeting
+         */
+        void accept(DayOfWeek day, int start, int end, long label);
+    }
+
+    /**
+     * The receiver of a pair of overlapping meetings
+     */
+    public interface Conflict {
+
+        /**
+         * This method is called for each pair of overlapping meetings of different courses
+         * @param day
+         *  The day of the overlap
+         * @param start
+         *  The start of the overlap in minutes from midnight
+         * @param end
+         *  The end of the overlap in minutes from midnight
+         * @param first
+         *  The label of the course of the meeting starting first
+         * @param second
+         *  The label of the course of the other meeting
+         */
+        void accept(DayOfWeek day, int start, int end, long first, long second);
+    }
+
+    //The root of the interval tree of every day, Monday first
+    private final Node[] days;
+
+    //The number of meetings in the index, a meeting on several days counted once per day
+    private int size;
+
+    /**
+     * This is the default constructor used to create an empty MeetingIndex object
+     */
+    public MeetingIndex() {
+        this.days = new Node[DayOfWeek.values().length];
+    }
+
+    /**
+     * This method records that a course holding a label meets at a time
+     * @param meeting
+     *  The meeting time of the course
+     * @param label
+     *  The label held by the course
+     */
+    public void add(MeetingTime meeting, long label) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (meeting.meetsOn(day)) {
+                int d = day.ordinal();
+                days[d] = insert(days[d], meeting.getStart(), meeting.getEnd(), label);
+                size++;
+            }
+        }
+    }
+
+    /**
+     * This method forgets that a course holding a label meets at a time
+     * @param meeting
+     *  The meeting time of the course
+     * @param label
+     *  The label that was held by the course
+     */
+    public void remove(MeetingTime meeting, long label) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (meeting.meetsOn(day)) {
+                int d = day.ordinal();
+                days[d] = delete(days[d], meeting.getStart(), meeting.getEnd(), label);
+            }
+        }
+    }
+
+    /**
+     * This method visits the meetings overlapping a meeting time on each of its days, in order of day
+     * and then of start time
+     * @param meeting
+     *  The meeting time
+     * @param action
+     *  The action given the day and time of each overlap and the label of the overlapping course
+     */
+    public void forEachOverlap(MeetingTime meeting, Overlap action) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (meeting.meetsOn(day))
+                overlaps(days[day.ordinal()], day, meeting.getStart(), meeting.getEnd(), action);
+        }
+    }
+
+    /**
+     * This method visits every pair of overlapping meetings of different courses, sweeping each day in
+     * order of start time. Courses meeting at the same time on several days are visited once per day
+     * @param action
+     *  The action given the day and time of each overlap and the labels of both courses
+     */
+    public void forEachConflict(Conflict action) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            //The meetings started so far that may still be going on, the one ending first on top
+            PriorityQueue<Node> going = new PriorityQueue<>((a, b) -> Integer.compare(a.end, b.end));
+            sweep(days[day.ordinal()], day, going, action);
+        }
+    }
+
+    /**
+     * This is a getter method for the number of meetings in the index
+     * @return
+     *  The number of meetings, a meeting on several days counted once per day
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * This method forgets every meeting
+     */
+    public void clear() {
+        Arrays.fill(days, null);
+        size = 0;
+    }
+
+    //Visits the meetings of a subtree overlapping [start, end)
+    private static void overlaps(Node node, DayOfWeek day, int start, int end, Overlap action) {
+        while (node != null && node.maxEnd > start) {
+            overlaps(node.left, day, start, end, action);
+            //The meetings from here on start too late to overlap
+            if (node.start >= end)
+                return;
+            if (node.end > start)
+                action.accept(day, Math.max(start, node.start), Math.min(end, node.end), node.label);
+            node = node.right;
+        }
+    }
+
+    //Visits the meetings of a subtree in order of start time, pairing each with those still going on
+    private static void sweep(Node node, DayOfWeek day, PriorityQueue<Node> going, Conflict action) {
+        while (node != null) {
+            sweep(node.left, day, going, action);
+            while (!going.isEmpty() && going.peek().end <= node.start)
+                going.poll();
+            for (Node other : going) {
+                if (other.label != node.label)
+                    action.accept(day, node.start, Math.min(node.end, other.end), other.label, node.label);
+            }
+            going.add(node);
+            node = node.right;
+        }
+    }
+
+    private Node insert(Node node, int start, int end, long label) {
+        if (node == null)
+            return new Node(start, end, label);
+        int order = compare(start, end, label, node);
+        if (order == 0)
+            node.count++;
+        else if (order < 0)
+            node.left = insert(node.left, start, end, label);
+        else
+            node.right = insert(node.right, start, end, label);
+        return balance(node);
+    }
+
+    private Node delete(Node node, int start, int end, long label) {
+        if (node == null)
+            return null;
+        int order = compare(start, end, label, node);
+        if (order < 0) {
+            node.left = delete(node.left, start, end, label);
+        } else if (order > 0) {
+            node.right = delete(node.right, start, end, label);
+        } else {
+            size--;
+            if (--node.count > 0)
+                return node;
+            if (node.left == null)
+                return node.right;
+            if (node.right == null)
+                return node.left;
+            Node next = node.right;
+            while (next.left != null)
+                next = next.left;
+            next.right = deleteFirst(node.right);
+            next.left = node.left;
+            return balance(next);
+        }
+        return balance(node);
+    }
+
+    private static Node deleteFirst(Node node) {
+        if (node.left == null)
+            return node.right;
+        node.left = deleteFirst(node.left);
+        return balance(node);
+    }
+
+    //Orders the meetings by start, then end, then label
+    private static int compare(int start, int end, long label, Node node) {
+        if (start != node.start)
+            return Integer.compare(start, node.start);
+        if (end != node.end)
+            return Integer.compare(end, node.end);
+        return Long.compare(label, node.label);
+    }
+
+    private static Node balance(Node node) {
+        update(node);
+        int skew = height(node.left) - height(node.right);
+        if (skew > 1) {
+            if (height(node.left.left) < height(node.left.right))
+                node.left = rotateLeft(node.left);
+            return rotateRight(node);
+        }
+        if (skew < -1) {
+            if (height(node.right.right) < height(node.right.left))
+                node.right = rotateRight(node.right);
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node top = node.left;
+        node.left = top.right;
+        top.right = node;
+        update(node);
+        update(top);
+        return top;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node top = node.right;
+        node.right = top.left;
+        top.left = node;
+        update(node);
+        update(top);
+        return top;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxEnd = Math.max(node.end, Math.max(maxEnd(node.left), maxEnd(node.right)));
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int maxEnd(Node node) {
+        return node == null ? 0 : node.maxEnd;
+    }
+
+    /**
+     * A meeting of a course on one day
+     */
+    private static class Node {
+
+        //The time of the meeting and the label of its course
+        private final int start;
+        private final int end;
+        private final long label;
+
+        //The number of times the same meeting of the same course was added
+        private int count;
+
+        //The height of the subtree and the latest end of its meetings
+        private int height;
+        private int maxEnd;
+
+        private Node left;
+        private Node right;
+
+        Node(int start, int end, long label) {
+            this.start = start;
+            this.end = end;
+            this.label = label;
+            this.count = 1;
+            this.height = 1;
+            this.maxEnd = end;
+        }
+    }
+}
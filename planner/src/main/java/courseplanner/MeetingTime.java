@@ -0,0 +1,218 @@
+package courseplanner;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The <code>MeetingTime</code> class represents a weekly meeting slot of a course: the days of the week
+ * it meets on and the time it starts and ends, the same on each of those days. It is written the way
+ * course schedules usually are, the letters of the days followed by the times:
+ * <pre>
+ * MWF 10:00-10:53
+ * TR 14:00-15:20
+ * </pre>
+ * The letters are M, T, W, R, F, S and U for Monday to Sunday, and the times are on a 24-hour clock.
+ * A meeting ending at the minute another one starts doesn't overlap it.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class MeetingTime {
+
+    //The letter of each day of the week, Monday first
+    private static final String DAY_LETTERS = "MTWRFSU";
+
+    //The number of minutes in a day
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    //The days the course meets on, bit 0 for Monday up to bit 6 for Sunday
+    private final int days;
+
+    //The start and the end of the meeting in minutes from midnight, the end excluded
+    private final int start;
+    private final int end;
+
+    /**
+     * This is a constructor used to create a new MeetingTime object
+     * @param days
+     *  The letters of the days the course meets on, such as MWF
+     * @param start
+     *  The start of the meeting in minutes from midnight
+     * @param end
+     *  The end of the meeting in minutes from midnight
+     * @throws IllegalArgumentException
+     *  When a letter isn't a day, or the meeting doesn't end after it starts on the same day
+     */
+    public MeetingTime(String days, int start, int end) {
+        int mask = 0;
+        for (int i = 0; i < days.length(); i++) {
+            int day = DAY_LETTERS.indexOf(Character.toUpperCase(days.charAt(i)));
+            if (day < 0)
+                throw new IllegalArgumentException("Invalid day " + days.charAt(i) + "!! Please use the " +
+                        "letters M, T, W, R, F, S and U");
+            mask |= 1 << day;
+        }
+        if (mask == 0)
+            throw new IllegalArgumentException("Invalid meeting time!! Please give the days it meets on");
+        if (start < 0 || end > MINUTES_PER_DAY || start >= end)
+            throw new IllegalArgumentException("Invalid meeting time!! It must end after it starts, " +
+                    "on the same day");
+        this.days = mask;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * This method reads a meeting time written like MWF 10:00-10:53
+     * @param text
+     *  The meeting time
+     * @return
+     *  The meeting time
+     * @throws IllegalArgumentException
+     *  When the text isn't a meeting time
+     */
+    public static MeetingTime parse(String text) {
+        String[] parts = text.trim().split("\\s+");
+        String[] times = parts.length == 2 ? parts[1].split("-", -1) : new String[0];
+        if (times.length != 2)
+            throw new IllegalArgumentException("Invalid meeting time " + text.trim() + "!! Please " +
+                    "enter it like MWF 10:00-10:53");
+        return new MeetingTime(parts[0], parseClock(times[0]), parseClock(times[1]));
+    }
+
+    /**
+     * This method reads the meeting times of a course, separated by commas
+     * @param text
+     *  The meeting times, like MWF 10:00-10:53, R 14:00-15:20, a blank text for none
+     * @return
+     *  The meeting times
+     * @throws IllegalArgumentException
+     *  When one of them isn't a meeting time
+     */
+    public static List<MeetingTime> parseAll(String text) {
+        List<MeetingTime> ret = new ArrayList<>();
+        if (text.isBlank())
+            return ret;
+        for (String meeting : text.split(","))
+            ret.add(parse(meeting));
+        return ret;
+    }
+
+    /**
+     * This method writes meeting times the way parseAll reads them
+     * @param meetings
+     *  The meeting times
+     * @return
+     *  The meeting times separated by commas, an empty text for none
+     */
+    public static String formatAll(List<MeetingTime> meetings) {
+        StringBuilder ret = new StringBuilder();
+        for (MeetingTime meeting : meetings) {
+            if (ret.length() > 0)
+                ret.append(", ");
+            ret.append(meeting);
+        }
+        return ret.toString();
+    }
+
+    /**
+     * This method checks whether the course meets on a day
+     * @param day
+     *  The day of the week
+     * @return
+     *  True if it meets on that day, false otherwise
+     */
+    public boolean meetsOn(DayOfWeek day) {
+        return (days & 1 << (day.getValue() - 1)) != 0;
+    }
+
+    /**
+     * This is a getter method for the start of the meeting
+     * @return
+     *  The start in minutes from midnight
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * This is a getter method for the end of the meeting
+     * @return
+     *  The end in minutes from midnight, the meeting is over at that minute
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * This method checks whether 2 meeting times are equal
+     * @param obj
+     *  The object to be compared
+     * @return
+     *  True if they meet on the same days at the same times, false otherwise
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this)
+            return true;
+        if (!(obj instanceof MeetingTime))
+            return false;
+        MeetingTime other = (MeetingTime) obj;
+        return days == other.days && start == other.start && end == other.end;
+    }
+
+    /**
+     * This method computes the hash code of a meeting time from the same fields compared by equals
+     * @return
+     *  The hash code of the meeting time
+     */
+    @Override
+    public int hashCode() {
+        return (days * 31 + start) * 31 + end;
+    }
+
+    /**
+     * This is the toString method of the MeetingTime class
+     * @return
+     *  The meeting time written like MWF 10:00-10:53
+     */
+    @Override
+    public String toString() {
+        StringBuilder ret = new StringBuilder();
+        for (int day = 0; day < DAY_LETTERS.length(); day++) {
+            if ((days & 1 << day) != 0)
+                ret.append(DAY_LETTERS.charAt(day));
+        }
+        return ret.append(' ').append(formatClock(start)).append('-').append(formatClock(end)).toString();
+    }
+
+    /**
+     * This method writes a time of day on a 24-hour clock
+     * @param minutes
+     *  The time in minutes from midnight
+     * @return
+     *  The time written like 09:05
+     */
+    public static String formatClock(int minutes) {
+        int hours = minutes / 60;
+        int rest = minutes % 60;
+        return (hours < 10 ? "0" : "") + hours + ":" + (rest < 10 ? "0" : "") + rest;
+    }
+
+    //Reads a time of day written like 9:05 or 09:05, 24:00 being the end of the day
+    private static int parseClock(String text) {
+        String[] parts = text.split(":", -1);
+        try {
+            if (parts.length == 2 && parts[1].length() == 2) {
+                int hours = Integer.parseInt(parts[0]);
+                int minutes = Integer.parseInt(parts[1]);
+                if (hours >= 0 && minutes >= 0 && minutes < 60 && hours * 60 + minutes <= MINUTES_PER_DAY)
+                    return hours * 60 + minutes;
+            }
+        } catch (NumberFormatException ex) {
+            //Reported below like any other bad time
+        }
+        throw new IllegalArgumentException("Invalid time " + text + "!! Please enter it like 10:00");
+    }
+}
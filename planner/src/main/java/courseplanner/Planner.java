@@ -0,0 +1,871 @@
+package courseplanner;
+
+import java.time.DayOfWeek;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * The <code>Planner</code> class constructs and contains all the methods to
+ * manipulate <code>Planner</code> objects which store <code>Course</code> objects. It represents
+ * a planner storing courses.
+ * <br>The planner keeps the very course objects it is given and indexes them, and the courses it hands
+ * out are those same objects, so they must not be changed while they are stored in it.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class Planner {
+    //The limit used by the default constructor for the number of courses that can be in a planner
+    public static final int DEFAULT_MAX_COURSES = 50;
+
+    //The max limit for the number of courses that can be in a planner
+    public final int MAX_COURSES;
+
+    //The sequence containing all the courses in the form of course objects, position 1 is stored at index 0
+    private CourseSequence courses;
+
+    //The hash index from each course to the labels it holds in the sequence
+    private LabelIndex<Course> courseIndex;
+
+    //The secondary index from each department to the labels of its courses
+    private LabelIndex<String> departmentIndex;
+
+    //The navigable index from the codes of each department to the labels of their courses
+    private CodeIndex codeIndex;
+
+    //The search indexes over the names and the instructors of the courses
+    private TextIndex nameIndex;
+    private TextIndex instructorIndex;
+
+    //The interval trees of the meeting times of the courses, by day of the week
+    private MeetingIndex meetingIndex;
+
+    //The sorted views asked for so far, kept up to date from then on
+    private final Map<CourseOrder, SortedView> sortedViews;
+
+    //Whether the indexes and the views can be read while they are being changed
+    private final boolean concurrentIndexes;
+
+    //Whether the indexes have to be rebuilt before they are used again
+    private boolean indexesStale;
+
+    /**
+     * This the default constructor used to create a new Planner object
+     */
+    public Planner() {
+        this(DEFAULT_MAX_COURSES);
+    }
+
+    /**
+     * This is a constructor used to create a new Planner object with no course objects in it
+     * @param maxCourses
+     *  The max limit for the number of courses that can be in the planner
+     * @throws IllegalArgumentException
+     *  When the limit is negative
+     */
+    public Planner (int maxCourses){
+        this(maxCourses, false);
+    }
+
+    /**
+     * This is a constructor used to create a new Planner object with no course objects in it
+     * @param maxCourses
+     *  The max limit for the number of courses that can be in the planner
+     * @param concurrentIndexes
+     *  Whether the indexes can be read while they are being changed, as done by a ConcurrentPlanner
+     * @throws IllegalArgumentException
+     *  When the limit is negative
+     */
+    Planner (int maxCourses, boolean concurrentIndexes){
+        if (maxCourses < 0)
+            throw new IllegalArgumentException("Max courses can't be negative");
+        this.MAX_COURSES = maxCourses;
+        this.courses = new CourseSequence();
+        this.courseIndex = new LabelIndex<>(concurrentIndexes);
+        this.departmentIndex = new LabelIndex<>(concurrentIndexes);
+        this.codeIndex = new CodeIndex(concurrentIndexes);
+        this.nameIndex = new TextIndex(concurrentIndexes);
+        this.instructorIndex = new TextIndex(concurrentIndexes);
+        this.meetingIndex = new MeetingIndex();
+        this.sortedViews = concurrentIndexes ? new ConcurrentHashMap<>() : new EnumMap<>(CourseOrder.class);
+        this.concurrentIndexes = concurrentIndexes;
+    }
+
+    /**
+     * This method determines the number of courses currently in the list
+     * @return
+     *  The number of courses in the list
+     */
+    public int size(){
+        return courses.size();
+    }
+
+    /**
+     * This is a getter method for the max limit for the number of courses in the planner
+     * @return
+     *  The max limit for the number of courses
+     */
+    public int getMaxCourses() {
+        return MAX_COURSES;
+    }
+
+    /**
+     * This method adds new courses to the planner
+     * @param newCourse
+     *  The Course object to be added, it is stored as it is and must not be changed while in the planner
+     * @param position
+     *  The position at which the course should be added
+     * @throws FullPlannerException
+     *  when the planner is full
+     * @throws IllegalArgumentException
+     *  when an incorrect position is not within valid range
+     */
+    public void addCourse(Course newCourse, int position)
+            throws FullPlannerException{
+        long start = PlannerMetrics.start();
+        try {
+            if(size() >= MAX_COURSES)
+                throw new FullPlannerException("Indicates that there is no more " +
+                        "room in the Planner to record an additional course");
+
+            if(position < 1 || position > size() + 1)
+                throw new IllegalArgumentException("Position is not within valid" +
+                        "range");
+
+            //Courses given new labels to make room are moved in the indexes, unless they are rebuilt anyway
+            long label = courses.add(position - 1, newCourse, indexesStale ? null : this::reindex);
+            if (!indexesStale)
+                index(newCourse, label);
+        } finally {
+            PlannerMetrics.record(PlannerMetrics.Operation.ADD_COURSE, start);
+        }
+    }
+
+    /**
+     * This method adds a new course to the end of the list of courses currently in the planner
+     * @param newCourse
+     *  The course to be added
+     * @throws FullPlannerException
+     *  When the planner is full
+     */
+    public void addCourse(Course newCourse) throws FullPlannerException {
+        addCourse(newCourse, (size() + 1));
+    }
+
+    /**
+     * This method removes courses from a desired position in the planner
+     * @param position
+     *  The position from which a course should be removed
+     * @throws EmptyPlannerException
+     *  When there are no courses in the planner
+     * @throws IllegalArgumentException
+     *  When the input position is not within valid range
+     */
+    public void removeCourse(int position) throws EmptyPlannerException{
+        long start = PlannerMetrics.start();
+        try {
+            if(size() == 0)
+                throw new EmptyPlannerException("No items in list");
+
+            if(position < 1 || position > size())
+                throw new IllegalArgumentException("Position is not within valid" +
+                        "range");
+
+            long label = courses.labelAt(position - 1);
+            Course removed = courses.remove(position - 1);
+            if (!indexesStale)
+                unindex(removed, label);
+        } finally {
+            PlannerMetrics.record(PlannerMetrics.Operation.REMOVE_COURSE, start);
+        }
+    }
+
+    /**
+     * This method adds courses to the planner one after the other, starting at a position. The courses are
+     * added in a single pass, taking O(k + log n) for k courses instead of k separate adds
+     * @param position
+     *  The position at which the first course should be added
+     * @param newCourses
+     *  The courses to be added, in order
+     * @throws FullPlannerException
+     *  When the planner can't hold all the courses, in which case none of them is added
+     * @throws IllegalArgumentException
+     *  When the position is not within valid range
+     */
+    public void addAll(int position, List<Course> newCourses) throws FullPlannerException {
+        long start = PlannerMetrics.start();
+        try {
+            if (newCourses.size() > MAX_COURSES - size())
+                throw new FullPlannerException("Indicates that there is no more " +
+                        "room in the Planner to record the additional courses");
+
+            if(position < 1 || position > size() + 1)
+                throw new IllegalArgumentException("Position is not within valid" +
+                        "range");
+
+            Course[] added = newCourses.toArray(new Course[0]);
+            int epoch = courses.labelEpoch();
+            long[] labels = courses.addAll(position - 1, added, added.length);
+            if (epoch != courses.labelEpoch())
+                indexesStale = true;
+            else if (!indexesStale)
+                for (int i = 0; i < added.length; i++)
+                    index(added[i], labels[i]);
+        } finally {
+            PlannerMetrics.record(PlannerMetrics.Operation.ADD_ALL, start);
+        }
+    }
+
+    /**
+     * This method removes the courses from one position up to another one in a single pass, taking
+     * O(log n) plus the time to update the indexes for each removed course
+     * @param from
+     *  The position of the first course to be removed
+     * @param to
+     *  The position of the last course to be removed
+     * @return
+     *  The removed courses, in order
+     * @throws EmptyPlannerException
+     *  When there are no courses in the planner
+     * @throws IllegalArgumentException
+     *  When the positions are not within valid range
+     */
+    public List<Course> removeRange(int from, int to) throws EmptyPlannerException {
+        long start = PlannerMetrics.start();
+        try {
+            if(size() == 0)
+                throw new EmptyPlannerException("No items in list");
+
+            if(from < 1 || to > size() || from > to)
+                throw new IllegalArgumentException("Positions are not within valid" +
+                        "range");
+
+            List<Course> ret = new ArrayList<>(to - from + 1);
+            courses.removeRange(from - 1, to).forEachLabeled((course, label) -> {
+                ret.add(course);
+                if (!indexesStale)
+                    unindex(course, label);
+            });
+            return ret;
+        } finally {
+            PlannerMetrics.record(PlannerMetrics.Operation.REMOVE_RANGE, start);
+        }
+    }
+
+    /**
+     * This method removes every course matching a condition in a single O(n) pass, such as every section
+     * taught by an instructor. The courses are only removed, and dropped from the indexes, once every
+     * course was tested, so the planner is left as it was if the condition throws
+     * @param filter
+     *  The condition the removed courses match
+     * @return
+     *  The removed courses with the positions they held, in ascending order of position
+     */
+    public List<PlannerEntry> removeIf(Predicate<Course> filter) {
+        long start = PlannerMetrics.start();
+        try {
+            List<PlannerEntry> ret = new ArrayList<>();
+            int[] position = {0};
+            courses.removeIf(course -> {
+                position[0]++;
+                if (!filter.test(course))
+                    return false;
+                ret.add(new PlannerEntry(position[0], course));
+                return true;
+            }, (course, label) -> {
+                if (!indexesStale)
+                    unindex(course, label);
+            });
+            return ret;
+        } finally {
+            PlannerMetrics.record(PlannerMetrics.Operation.REMOVE_IF, start);
+        }
+    }
+
+    /**
+     * This method returns the information of a course stored in a particular position in the planner
+     * @param position
+     *  The position where the course is stored
+     * @return
+     * The course stored at the specified position, itself rather than a copy, so it must not be changed
+     * @throws EmptyPlannerException
+     *  when the planner is empty
+     * @throws IllegalArgumentException
+     *  when the input position is not within valid range
+     */
+    public Course getCourse(int position) throws EmptyPlannerException {
+        long start = PlannerMetrics.start();
+        try {
+            if(size() == 0)
+                throw new EmptyPlannerException("No items in list");
+
+            if(position < 1 || position > size())
+                throw new IllegalArgumentException("Position is not within valid" +
+                        "range");
+
+            return this.courses.get(position - 1);
+        } finally {
+            PlannerMetrics.record(PlannerMetrics.Operation.GET_COURSE, start);
+        }
+    }
+
+    /**
+     * This method returns all the courses that are within the specified department, using the
+     * department index so only the matching courses are visited
+     * @param department
+     *  the 3 letter department code for a Course
+     * @return
+     *  The matching courses with their positions, in ascending order of position
+     */
+    public List<PlannerEntry> filter(String department){
+        long start = PlannerMetrics.start();
+        try {
+            ensureIndexed();
+            Set<Long> labels = departmentIndex.labels(department);
+            List<PlannerEntry> ret = new ArrayList<>(labels.size());
+            for (long label : labels) {
+                ret.add(new PlannerEntry(courses.indexOfLabel(label) + 1,
+                        courses.getByLabel(label)));
+            }
+            return ret;
+        } finally {
+            PlannerMetrics.record(PlannerMetrics.Operation.FILTER, start);
+        }
+    }
+
+    /**
+     * This method returns the courses of a department whose codes are within a range, using the code
+     * index so it takes O(log n) to find the range and O(log n) more for the position of each course
+     * @param department
+     *  the 3 letter department code for a Course
+     * @param lo
+     *  The lowest course code, included
+     * @param hi
+     *  The highest course code, included
+     * @return
+     *  The matching courses with their positions, by ascending code and then ascending position
+     */
+    public List<PlannerEntry> rangeQuery(String department, int lo, int hi){
+        long start = PlannerMetrics.start();
+        try {
+            ensureIndexed();
+            List<PlannerEntry> ret = new ArrayList<>();
+            codeIndex.forEachInRange(department, lo, hi, (code, label) ->
+                    ret.add(new PlannerEntry(courses.indexOfLabel(label) + 1, courses.getByLabel(label))));
+            return ret;
+        } finally {
+            PlannerMetrics.record(PlannerMetrics.Operation.RANGE_QUERY, start);
+        }
+    }
+
+    /**
+     * This method prints all the courses that are within the specified department
+     * @param planner
+     *  the list of courses to search in
+     * @param department
+     *  the 3 letter department code for a Course
+     */
+    public static void filter(Planner planner, String department){
+        CourseTableWriter.console().writeEntries(planner.filter(department)).flush();
+    }
+
+    /**
+     * This method finds the courses whose name starts with or contains the given text, ignoring case,
+     * using the name index so only the matching courses are visited
+     * @param text
+     *  The text we are looking for
+     * @param prefix
+     *  True to match the start of the names only, false to match anywhere in them
+     * @return
+     *  The matching courses with their positions, in ascending order of position
+     */
+    public List<PlannerEntry> searchNames(String text, boolean prefix){
+        return search(nameIndex, text, prefix);
+    }
+
+    /**
+     * This method finds the courses whose instructor starts with or contains the given text, ignoring
+     * case, using the instructor index so only the matching courses are visited
+     * @param text
+     *  The text we are looking for
+     * @param prefix
+     *  True to match the start of the instructors only, false to match anywhere in them
+     * @return
+     *  The matching courses with their positions, in ascending order of position
+     */
+    public List<PlannerEntry> searchInstructors(String text, boolean prefix){
+        return search(instructorIndex, text, prefix);
+    }
+
+    private List<PlannerEntry> search(TextIndex index, String text, boolean prefix){
+        long start = PlannerMetrics.start();
+        try {
+            ensureIndexed();
+            long[] labels = prefix ? index.startingWith(text) : index.containing(text);
+            List<PlannerEntry> ret = new ArrayList<>(labels.length);
+            for (long label : labels) {
+                ret.add(new PlannerEntry(courses.indexOfLabel(label) + 1,
+                        courses.getByLabel(label)));
+            }
+            return ret;
+        } finally {
+            PlannerMetrics.record(PlannerMetrics.Operation.SEARCH, start);
+        }
+    }
+
+    /**
+     * This method finds the courses of the planner meeting at the same time as a course, such as a course
+     * about to be added, using the interval trees of the meeting times so it takes O(log n + k) for each
+     * meeting time of the course when k courses overlap it
+     * @param course
+     *  The course whose meeting times are checked, it is left out of the result if it is in the planner
+     * @return
+     *  The conflicting courses with their positions, in ascending order of position
+     */
+    public List<PlannerEntry> conflicts(Course course){
+        long start = PlannerMetrics.start();
+        try {
+            ensureIndexed();
+            List<Long> labels = new ArrayList<>();
+            for (MeetingTime meeting : course.getMeetings())
+                meetingIndex.forEachOverlap(meeting, (day, from, to, label) -> labels.add(label));
+            //Labels follow the order of the positions, so sorting them sorts the courses
+            Collections.sort(labels);
+            List<PlannerEntry> ret = new ArrayList<>();
+            for (int i = 0; i < labels.size(); i++) {
+                long label = labels.get(i);
+                Course found = courses.getByLabel(label);
+                if ((i == 0 || label != labels.get(i - 1)) && found != course)
+                    ret.add(new PlannerEntry(courses.indexOfLabel(label) + 1, found));
+            }
+            return ret;
+        } finally {
+            PlannerMetrics.record(PlannerMetrics.Operation.CONFLICTS, start);
+        }
+    }
+
+    /**
+     * This method finds every pair of courses of the planner meeting at the same time. The meetings of each
+     * day are swept in order of start time through the interval trees, so it takes O(n log n + k) for k
+     * overlapping meetings instead of comparing every pair of courses
+     * @return
+     *  The conflicting pairs of courses, each pair once with the first day and time they overlap, in
+     *  ascending order of the position of the first course and then of the second one
+     */
+    public List<CourseConflict> conflictReport(){
+        long start = PlannerMetrics.start();
+        try {
+            ensureIndexed();
+            //Each overlap as the labels of both courses, the day and the time, the lower label first
+            List<long[]> overlaps = new ArrayList<>();
+            meetingIndex.forEachConflict((day, from, to, first, second) -> overlaps.add(new long[]{
+                    Math.min(first, second), Math.max(first, second), day.ordinal(), from, to}));
+            overlaps.sort((a, b) -> {
+                for (int i = 0; i < 4; i++) {
+                    if (a[i] != b[i])
+                        return Long.compare(a[i], b[i]);
+                }
+                return 0;
+            });
+            List<CourseConflict> ret = new ArrayList<>();
+            long[] last = null;
+            for (long[] overlap : overlaps) {
+                if (last != null && last[0] == overlap[0] && last[1] == overlap[1])
+                    continue;
+                ret.add(new CourseConflict(
+                        new PlannerEntry(courses.indexOfLabel(overlap[0]) + 1, courses.getByLabel(overlap[0])),
+                        new PlannerEntry(courses.indexOfLabel(overlap[1]) + 1, courses.getByLabel(overlap[1])),
+                        DayOfWeek.values()[(int) overlap[2]], (int) overlap[3], (int) overlap[4]));
+                last = overlap;
+            }
+            return ret;
+        } finally {
+            PlannerMetrics.record(PlannerMetrics.Operation.CONFLICT_REPORT, start);
+        }
+    }
+
+    /**
+     * This method returns the courses in the given order without sorting them. The first time an order
+     * is asked for, a sorted view of the courses is built in O(n log n), and it is then kept up to date as
+     * courses are added and removed in O(log n) each. Iterating the first k courses takes O(k), and
+     * finding their positions O(log n) more each. The planner must not be changed while iterating
+     * @param order
+     *  The order of the courses
+     * @return
+     *  The courses with their positions, in the given order
+     */
+    public Iterable<PlannerEntry> sorted(CourseOrder order){
+        addSortedView(order);
+        SortedView view = sortedViews.get(order);
+        return () -> new Iterator<PlannerEntry>() {
+            private final Iterator<SortedView.Entry> entries = view.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public PlannerEntry next() {
+                SortedView.Entry entry = entries.next();
+                return new PlannerEntry(courses.indexOfLabel(entry.getLabel()) + 1, entry.getCourse());
+            }
+        };
+    }
+
+    //Builds the sorted view of an order unless it is already kept up to date
+    void addSortedView(CourseOrder order){
+        ensureIndexed();
+        if (sortedViews.containsKey(order))
+            return;
+        SortedView view = new SortedView(order, concurrentIndexes);
+        courses.forEachLabeled(view::add);
+        sortedViews.put(order, view);
+    }
+
+    //Returns whether the sorted view of an order is kept up to date
+    boolean hasSortedView(CourseOrder order){
+        return sortedViews.containsKey(order);
+    }
+
+    /**
+     * This method checks whether a certain course is already in the list
+     * @param course
+     *  The course we are looking for
+     * @return
+     * True if the Planner contains this Course, false otherwise
+     * @throws EmptyPlannerException
+     *  When there are no courses in the list, hence false by default
+     */
+    public boolean exists(Course course) throws EmptyPlannerException{
+        long start = PlannerMetrics.start();
+        try {
+            if(size() == 0)
+                throw new EmptyPlannerException("No items in list");
+
+            ensureIndexed();
+            return courseIndex.contains(course);
+        } finally {
+            PlannerMetrics.record(PlannerMetrics.Operation.EXISTS, start);
+        }
+    }
+
+    /**
+     * This method finds the position of a course in the planner
+     * @param course
+     *  The course we are looking for
+     * @return
+     *  The position of the first course equal to the given one, -1 if the planner doesn't contain it
+     */
+    public int indexOf(Course course){
+        long start = PlannerMetrics.start();
+        try {
+            ensureIndexed();
+            Long label = courseIndex.first(course);
+            if (label == null)
+                return -1;
+            return courses.indexOfLabel(label) + 1;
+        } finally {
+            PlannerMetrics.record(PlannerMetrics.Operation.INDEX_OF, start);
+        }
+    }
+
+    /**
+     * Creates a copy of this Planner. Subsequent changes to the copy will not affect the original and vice versa.
+     * Preconditions:
+     * This Planner object has been instantiated.
+     * @return
+     * A copy (backup) of this Planner object
+     */
+    public Object clone(){
+        long start = PlannerMetrics.start();
+        Planner copy = new Planner(MAX_COURSES);
+        Course[] copied = new Course[size()];
+
+        int i = 0;
+        for (Course course : this.courses){
+            copied[i++] = (Course) (course.clone());
+        }
+        copy.courses.setAll(copied, copied.length);
+        copy.indexesStale = true;
+        PlannerMetrics.record(PlannerMetrics.Operation.CLONE, start);
+        return copy;
+    }
+
+    /**
+     * Creates a snapshot of this Planner in O(1). The snapshot shares its storage and its Course objects
+     * with this Planner, and whichever of the two is changed afterwards only copies the parts it changes,
+     * so subsequent changes to the snapshot will not affect the original and vice versa. The indexes of the
+     * snapshot are built the first time they are needed.
+     * @return
+     * A snapshot (backup) of this Planner object
+     */
+    public Planner snapshot(){
+        long start = PlannerMetrics.start();
+        Planner copy = new Planner(MAX_COURSES);
+        copy.courses = this.courses.snapshot();
+        copy.indexesStale = true;
+        PlannerMetrics.record(PlannerMetrics.Operation.SNAPSHOT, start);
+        return copy;
+    }
+
+    /**
+     * This method prints a neatly formatted table of each item in the list with its position number than shown in the sample output.
+     * Preconditions:
+     * This Planner has been instantiated.
+     * Postconditions:
+     * Displays a neatly formatted table of each course from the Planner.
+     */
+    public void printAllCourses(){
+        CourseTableWriter table = CourseTableWriter.console();
+        table.writeTable(courses).writeLine("");
+        table.flush();
+    }
+
+    /**
+     * This method writes the same table as toString to the given destination one row at a time
+     * @param out
+     *  The destination of the table
+     */
+    public void writeTo(Appendable out){
+        new CourseTableWriter(out).writeTable(courses).flush();
+    }
+
+    /**
+     * Gets the String representation of this Planner object, which is a neatly formatted table of each Course in the Planner on its own line with its position number, as shown in the sample output.
+     * @return
+     * The String representation of this Planner object.
+     */
+    public String toString(){
+        StringBuilder ret = new StringBuilder();
+        writeTo(ret);
+        return ret.toString();
+    }
+
+    /**
+     * This method checks whether the courses in the planner being compared are the same, in the same order.
+     * Planners of different sizes or fingerprints are told apart in O(log n) at most, and the courses are
+     * only compared one by one when the fingerprints match
+     * @param o
+     *  The list being compared
+     * @return
+     *  true if they are equal, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Planner planner = (Planner) o;
+        if (size() != planner.size() || fingerprint() != planner.fingerprint())
+            return false;
+        Iterator<Course> mine = this.courses.iterator();
+        for (Course course : planner.courses) {
+            if(!(course.equals(mine.next())))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * This method computes the hash code of the planner from the fingerprint of its courses
+     * @return
+     *  The hash code of the planner
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(fingerprint());
+    }
+
+    /**
+     * This method returns an order-sensitive fingerprint of the courses in the planner: equal planners have
+     * equal fingerprints, and planners with different fingerprints are different. It is kept up to date as
+     * the planner changes, taking O(log n) after a change and O(1) otherwise. The courses must not be
+     * changed while they are in the planner
+     * @return
+     *  The fingerprint of the courses in order
+     */
+    public long fingerprint() {
+        return courses.fingerprint();
+    }
+
+    /**
+     * This is a getter method for an array containing all the courses, the course at position i
+     * is stored at index i and index 0 is left empty
+     * @return
+     *  A copy of the courses in an array
+     */
+    public Course[] getCourses() {
+        Course[] ret = new Course[size() + 1];
+        int i = 1;
+        for (Course course : courses)
+            ret[i++] = course;
+        return ret;
+    }
+
+    /**
+     * Sets the courses of the planner from an array laid out like the one returned by getCourses, the
+     * courses are taken from index 1 on and the array may end with empty indexes
+     * @param courses
+     *  The courses the list is set to
+     * @throws IllegalArgumentException
+     *  When an empty index comes before a course, or there are more courses than the planner can hold
+     */
+    public void setCourses(Course[] courses) {
+        int count = 0;
+        while (count + 1 < courses.length && courses[count + 1] != null)
+            count++;
+        for (int i = count + 1; i < courses.length; i++) {
+            if (courses[i] != null)
+                throw new IllegalArgumentException("Invalid courses!! Index " + (count + 1) +
+                        " is empty but index " + i + " holds a course");
+        }
+        if (count > MAX_COURSES)
+            throw new IllegalArgumentException("Invalid courses!! There are " + count +
+                    " courses but the planner can only hold " + MAX_COURSES);
+        Course[] copied = new Course[count];
+        System.arraycopy(courses, 1, copied, 0, count);
+        this.courses.setAll(copied, count);
+        indexesStale = true;
+    }
+
+    /**
+     * Sets the courses of the planner to records that are only decoded when they are needed, such as
+     * the records of a planner file
+     * @param records
+     *  The function decoding the course stored in a 0-based record, record i holds position i + 1
+     * @param count
+     *  The number of records
+     * @throws FullPlannerException
+     *  When there are more courses than the planner can hold
+     */
+    public void setCourses(IntFunction<Course> records, int count) throws FullPlannerException {
+        if (count > MAX_COURSES)
+            throw new FullPlannerException("Indicates that there is no more " +
+                    "room in the Planner to record an additional course");
+        this.courses.setAll(records, count);
+        indexesStale = true;
+    }
+
+    /**
+     * This method returns a read-only list of the courses as they are now, taken in O(1). Later changes
+     * to the planner don't show in the list, the element at index i is the course at position i + 1. The
+     * list holds the stored courses themselves, which must not be changed
+     * @return
+     *  The courses of the planner
+     */
+    public List<Course> view() {
+        return listOf(courses.snapshot());
+    }
+
+    //Freezes the storage, so that readers can keep reading it while the next change is made
+    void freeze() {
+        courses.freeze();
+    }
+
+    //Returns a read-only list of the courses, the planner must have been frozen since its last change
+    List<Course> frozenView() {
+        return listOf(courses.frozenCopy());
+    }
+
+    //Returns a snapshot of the planner, the planner must have been frozen since its last change
+    Planner frozenSnapshot() {
+        Planner copy = new Planner(MAX_COURSES);
+        copy.courses = this.courses.frozenCopy();
+        copy.indexesStale = true;
+        return copy;
+    }
+
+    //Decodes every course the planner loaded lazily, so reading it never writes to the nodes it shares
+    void decodeAll() {
+        courses.decodeAll();
+    }
+
+    private static List<Course> listOf(CourseSequence sequence) {
+        return new AbstractList<Course>() {
+            @Override
+            public Course get(int index) {
+                return sequence.get(index);
+            }
+
+            @Override
+            public int size() {
+                return sequence.size();
+            }
+
+            @Override
+            public Iterator<Course> iterator() {
+                return sequence.iterator();
+            }
+        };
+    }
+
+    /**
+     * This method returns a read-only view of the courses in the order of their positions
+     * @return
+     *  The courses of the planner, from position 1 to the last one
+     */
+    public Iterable<Course> courses() {
+        return courses::iterator;
+    }
+
+    //Records a course and its label in every index
+    private void index(Course course, long label) {
+        courseIndex.add(course, label);
+        departmentIndex.add(course.getDepartment(), label);
+        codeIndex.add(course.getDepartment(), course.getCode(), label);
+        nameIndex.add(course.getName(), label);
+        instructorIndex.add(course.getInstructor(), label);
+        for (MeetingTime meeting : course.getMeetings())
+            meetingIndex.add(meeting, label);
+        for (SortedView view : sortedViews.values())
+            view.add(course, label);
+    }
+
+    //Forgets a course and its label in every index
+    private void unindex(Course course, long label) {
+        courseIndex.remove(course, label);
+        departmentIndex.remove(course.getDepartment(), label);
+        codeIndex.remove(course.getDepartment(), course.getCode(), label);
+        nameIndex.remove(course.getName(), label);
+        instructorIndex.remove(course.getInstructor(), label);
+        for (MeetingTime meeting : course.getMeetings())
+            meetingIndex.remove(meeting, label);
+        for (SortedView view : sortedViews.values())
+            view.remove(course, label);
+    }
+
+    //Moves courses given new labels to their new labels in every index
+    private void reindex(Course[] relabeled, long[] from, long[] to) {
+        //Every old label is dropped first, as a new label may be the old label of the next course
+        for (int i = 0; i < relabeled.length; i++)
+            unindex(relabeled[i], from[i]);
+        for (int i = 0; i < relabeled.length; i++)
+            index(relabeled[i], to[i]);
+    }
+
+    //Refills every index from the courses and labels currently in the sequence if they are stale
+    void ensureIndexed() {
+        if (!indexesStale)
+            return;
+        courseIndex.clear();
+        departmentIndex.clear();
+        codeIndex.clear();
+        nameIndex.clear();
+        instructorIndex.clear();
+        meetingIndex.clear();
+        for (SortedView view : sortedViews.values())
+            view.clear();
+        courses.forEachLabeled(this::index);
+        indexesStale = false;
+    }
+
+}
@@ -0,0 +1,133 @@
+package courseplanner;
+
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+/**
+ * The <code>PlannerBackups</code> class keeps named restore points of a <code>Planner</code>. Each
+ * backup is a snapshot taken in O(1) which shares its storage with the planner and with the other
+ * backups, so keeping several of them only costs the parts of the planner changed in between.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class PlannerBackups {
+
+    //The backups in the order they were created, by name
+    private final LinkedHashMap<String, Planner> backups;
+
+    //The name of the most recent backup, null when there are none
+    private String latestName;
+
+    //The number used to name the next unnamed backup
+    private int nextVersion;
+
+    /**
+     * This is the default constructor used to create a PlannerBackups object without any backups
+     */
+    public PlannerBackups() {
+        this.backups = new LinkedHashMap<>();
+        this.latestName = null;
+        this.nextVersion = 1;
+    }
+
+    /**
+     * This method copies the list of backups in O(b) for b backups, the backups themselves are
+     * shared as they are never changed
+     * @return
+     *  A PlannerBackups object holding the same backups
+     */
+    public PlannerBackups copy() {
+        PlannerBackups copy = new PlannerBackups();
+        copy.backups.putAll(this.backups);
+        copy.latestName = this.latestName;
+        copy.nextVersion = this.nextVersion;
+        return copy;
+    }
+
+    /**
+     * This method backs up a planner under the next version name
+     * @param planner
+     *  The planner to be backed up
+     * @return
+     *  The name of the backup, v1, v2 and so on
+     */
+    public String save(Planner planner) {
+        String name;
+        do {
+            name = "v" + nextVersion++;
+        } while (backups.containsKey(name));
+        save(name, planner);
+        return name;
+    }
+
+    /**
+     * This method backs up a planner under the given name, replacing a backup with the same name
+     * @param name
+     *  The name of the backup
+     * @param planner
+     *  The planner to be backed up
+     */
+    public void save(String name, Planner planner) {
+        backups.remove(name);
+        backups.put(name, planner.snapshot());
+        latestName = name;
+    }
+
+    /**
+     * This method returns the most recent backup, it must not be changed
+     * @return
+     *  The most recent backup, an empty planner if there are none
+     */
+    public Planner latest() {
+        return latestName == null ? new Planner() : backups.get(latestName);
+    }
+
+    /**
+     * This method returns a backup by its name, it must not be changed
+     * @param name
+     *  The name of the backup
+     * @return
+     *  The backup, null if there is no backup with that name
+     */
+    public Planner get(String name) {
+        return backups.get(name);
+    }
+
+    /**
+     * This method restores a backup by its name
+     * @param name
+     *  The name of the backup
+     * @return
+     *  A new planner holding the courses of the backup, the backup itself is kept as it was
+     * @throws IllegalArgumentException
+     *  When there is no backup with that name
+     */
+    public Planner restore(String name) {
+        Planner backup = backups.get(name);
+        if (backup == null)
+            throw new IllegalArgumentException("No backup named " + name);
+        return backup.snapshot();
+    }
+
+    /**
+     * This method restores the most recent backup
+     * @param maxCourses
+     *  The most courses the empty planner returned when there are no backups can hold, which should be
+     *  the limit of the planner being reverted
+     * @return
+     *  A new planner holding the courses of the backup, an empty planner if there are none
+     */
+    public Planner restoreLatest(int maxCourses) {
+        return latestName == null ? new Planner(maxCourses) : latest().snapshot();
+    }
+
+    /**
+     * This is a getter method for the names of all the backups
+     * @return
+     *  The names of the backups in the order they were created
+     */
+    public Set<String> names() {
+        return backups.keySet();
+    }
+}
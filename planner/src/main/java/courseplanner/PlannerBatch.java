@@ -0,0 +1,625 @@
+package courseplanner;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The <code>PlannerBatch</code> class replays planner operations from a file or a pipe without the
+ * interactive menu. Each line holds one command whose fields are separated by <code>|</code>, the
+ * first field being the same letters used in the menu:
+ * <pre>
+ * A|name|department|code|section|instructor|position, optionally followed by |meeting times
+ * G|position
+ * R|position
+ * AA|position|name|department|code|section|instructor, then 5 more fields for each other course
+ * RR|first position|last position
+ * RM|D or I|department or instructor
+ * U
+ * RD
+ * P
+ * PS|D, I or N
+ * F|department
+ * RQ|department|lowest code|highest code
+ * L|name|department|code|section|instructor
+ * T|N or I|S or A|text
+ * SC
+ * PR|department|code|prerequisite department|prerequisite code
+ * VP
+ * S
+ * B
+ * PB
+ * DB or DB|name
+ * RB
+ * NB|name
+ * LB
+ * RN|name
+ * SV|file
+ * LD|file
+ * IM|file
+ * Q
+ * </pre>
+ * Blank lines and lines starting with <code>#</code> are skipped. The output goes through a buffer
+ * and can be suppressed, and a summary of the run is printed to standard error at the end.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class PlannerBatch {
+
+    //The planner the commands are applied to
+    private Planner p;
+
+    //The backups of the planner
+    private PlannerBackups backups;
+
+    //The journal making the changes to the planner durable, null when they aren't journaled
+    private PlannerJournal journal;
+
+    //The changes to the planner that can be undone and redone
+    private PlannerHistory history;
+
+    //The prerequisites the order of the planner is checked against
+    private final PrerequisiteGraph prerequisites;
+
+    //The destination of the output of the commands
+    private final Writer out;
+
+    //The writer rendering course tables to the output
+    private final CourseTableWriter table;
+
+    //The number of commands run and the number of them that failed
+    private long commands;
+    private long errors;
+
+    /**
+     * This is a constructor used to create a new PlannerBatch object working on an empty planner
+     * @param out
+     *  The destination of the output of the commands
+     */
+    public PlannerBatch(Writer out) {
+        this(new Planner(), out);
+    }
+
+    /**
+     * This is a constructor used to create a new PlannerBatch object
+     * @param p
+     *  The planner the commands are applied to
+     * @param out
+     *  The destination of the output of the commands
+     */
+    public PlannerBatch(Planner p, Writer out) {
+        this.p = p;
+        this.backups = new PlannerBackups();
+        this.history = new PlannerHistory();
+        this.prerequisites = new PrerequisiteGraph();
+        this.out = out;
+        this.table = new CourseTableWriter(out);
+    }
+
+    /**
+     * This is a constructor used to create a new PlannerBatch object working on the planner and
+     * backups restored by a journal, and writing every change to it
+     * @param journal
+     *  The opened journal
+     * @param out
+     *  The destination of the output of the commands
+     */
+    public PlannerBatch(PlannerJournal journal, Writer out) {
+        this(journal.getRecoveredPlanner(), out);
+        this.backups = journal.getRecoveredBackups();
+        this.journal = journal;
+    }
+
+    /**
+     * Runs the commands of a file, or of standard input when no file (or <code>-</code>) is given
+     * @param args
+     *  The optional file name, the optional <code>--quiet</code> flag suppressing the output, the
+     *  optional <code>--max-courses n</code> option setting the limit of the planner, the optional
+     *  <code>--history-bytes n</code> option setting the memory kept for undo and the optional
+     *  <code>--journal dir</code> option journaling the changes in a directory, an unknown option or a
+     *  value that isn't a number from 0 up ends the program with exit code 1
+     */
+    public static void main(String[] args) {
+        String file = "-";
+        boolean quiet = false;
+        int maxCourses = Planner.DEFAULT_MAX_COURSES;
+        String journalDir = null;
+        long historyBytes = PlannerHistory.DEFAULT_BUDGET_BYTES;
+        boolean fileGiven = false;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--quiet"))
+                quiet = true;
+            else if (args[i].equals("--max-courses") && i + 1 < args.length)
+                maxCourses = (int) option(args[i], args[++i], Integer.MAX_VALUE);
+            else if (args[i].equals("--history-bytes") && i + 1 < args.length)
+                historyBytes = option(args[i], args[++i], Long.MAX_VALUE);
+            else if (args[i].equals("--journal") && i + 1 < args.length)
+                journalDir = args[++i];
+            else if (!fileGiven && (args[i].equals("-") || !args[i].startsWith("-"))) {
+                file = args[i];
+                fileGiven = true;
+            } else {
+                System.err.println("Unknown option " + args[i]);
+                System.exit(1);
+            }
+        }
+
+        Writer out = quiet ? Writer.nullWriter()
+                : new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16);
+        long start = System.nanoTime();
+        PlannerBatch batch;
+        try {
+            batch = journalDir == null ? new PlannerBatch(new Planner(maxCourses), out)
+                    : new PlannerBatch(PlannerJournal.open(Path.of(journalDir), maxCourses), out);
+        } catch (IOException | InvalidPathException ex) {
+            System.err.println("Could not open journal: " + ex.getMessage());
+            System.exit(1);
+            return;
+        }
+        batch.history = new PlannerHistory(historyBytes);
+        try (Reader in = file.equals("-") ? new InputStreamReader(System.in)
+                : new FileReader(file)) {
+            batch.run(new BufferedReader(in, 1 << 16));
+            if (batch.journal != null)
+                batch.journal.close();
+            out.flush();
+        } catch (IOException ex) {
+            System.err.println("Could not read commands: " + ex.getMessage());
+            System.exit(1);
+        }
+        System.err.println(batch.summary(System.nanoTime() - start));
+    }
+
+    //Reads the number given to an option, exiting when it isn't a number from 0 to max
+    private static long option(String name, String value, long max) {
+        try {
+            long ret = Long.parseLong(value.trim());
+            if (ret >= 0 && ret <= max)
+                return ret;
+        } catch (NumberFormatException ex) {
+            //Reported below like a number out of range
+        }
+        System.err.println("Invalid value " + value + " for " + name + "!! Please enter an integer from 0 to " + max);
+        System.exit(1);
+        return 0;
+    }
+
+    /**
+     * This method runs every command read from a reader until the end of the input or a Q command
+     * @param in
+     *  The reader supplying the commands, one per line
+     * @throws IOException
+     *  When the commands can't be read
+     */
+    public void run(BufferedReader in) throws IOException {
+        String line;
+        int lineNumber = 0;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#"))
+                continue;
+            if (!execute(line, lineNumber))
+                break;
+        }
+    }
+
+    /**
+     * This method runs a single command
+     * @param line
+     *  The command
+     * @param lineNumber
+     *  The number of the line holding the command, used in error messages
+     * @return
+     *  False if the command was Q, true otherwise
+     */
+    public boolean execute(String line, int lineNumber) {
+        String[] fields = line.split("\\|", -1);
+        commands++;
+        try {
+            switch (fields[0].trim().toLowerCase()) {
+                case "a":
+                    if (fields.length != 8)
+                        expect(fields, 7);
+                    Course newCourse = parseCourse(fields);
+                    if (fields.length == 8)
+                        newCourse.setMeetings(MeetingTime.parseAll(fields[7]));
+                    int added = parseInt(fields[6], "position");
+                    try {
+                        p.addCourse(newCourse, added);
+                    } catch (FullPlannerException ex) {
+                        fail(lineNumber, PlannerManager.FULL_PLANNER_MESSAGE);
+                        break;
+                    } catch (IllegalArgumentException ex) {
+                        fail(lineNumber, PlannerManager.addPositionMessage(p));
+                        break;
+                    }
+                    history.recordAdd(newCourse, added);
+                    log(lineNumber, j -> j.logAdd(newCourse, added));
+                    println(PlannerManager.addedMessage(newCourse));
+                    for (PlannerEntry other : p.conflicts(newCourse))
+                        println(PlannerManager.conflictWarning(newCourse, other));
+                    for (PrerequisiteViolation violation : PlannerManager.violations(prerequisites, p, added, added))
+                        println("Warning: " + PlannerManager.violationMessage(violation));
+                    break;
+
+                case "aa":
+                    List<Course> newCourses = parseCourses(fields);
+                    int first = parseInt(fields[1], "position");
+                    try {
+                        p.addAll(first, newCourses);
+                    } catch (FullPlannerException ex) {
+                        fail(lineNumber, PlannerManager.FULL_PLANNER_MESSAGE);
+                        break;
+                    } catch (IllegalArgumentException ex) {
+                        fail(lineNumber, PlannerManager.addPositionMessage(p));
+                        break;
+                    }
+                    history.recordAddAll(newCourses, first);
+                    log(lineNumber, j -> PlannerManager.logAddAll(j, newCourses, first));
+                    println(PlannerManager.addedAllMessage(newCourses.size()));
+                    for (PrerequisiteViolation violation : PlannerManager.violations(prerequisites, p, first,
+                            first + newCourses.size() - 1))
+                        println("Warning: " + PlannerManager.violationMessage(violation));
+                    break;
+
+                case "rr":
+                    expect(fields, 3);
+                    int from = parseInt(fields[1], "position");
+                    int to = parseInt(fields[2], "position");
+                    try {
+                        List<Course> removedRange = p.removeRange(from, to);
+                        history.recordRemoveRange(removedRange, from);
+                        int count = removedRange.size();
+                        log(lineNumber, j -> PlannerManager.logRemoveRange(j, from, count));
+                        println(PlannerManager.removedAllMessage(count));
+                    } catch (EmptyPlannerException ex) {
+                        fail(lineNumber, PlannerManager.EMPTY_REMOVE_MESSAGE);
+                    } catch (IllegalArgumentException ex) {
+                        fail(lineNumber, PlannerManager.removePositionMessage(p));
+                    }
+                    break;
+
+                case "rm":
+                    expect(fields, 3);
+                    List<PlannerEntry> removedEntries = p.removeIf(PlannerManager.courseMatcher(fields[1], fields[2]));
+                    history.recordRemoveAll(removedEntries);
+                    log(lineNumber, j -> PlannerManager.logRemoveIf(j, removedEntries));
+                    println(PlannerManager.removedAllMessage(removedEntries.size()));
+                    break;
+
+                case "g":
+                    expect(fields, 2);
+                    int position = parseInt(fields[1], "position");
+                    try {
+                        Course course = p.getCourse(position);
+                        table.writeHeader().writeRow(position, course);
+                    } catch (EmptyPlannerException ex) {
+                        fail(lineNumber, PlannerManager.EMPTY_GET_MESSAGE);
+                    } catch (IllegalArgumentException ex) {
+                        fail(lineNumber, PlannerManager.getPositionMessage(p));
+                    }
+                    break;
+
+                case "r":
+                    expect(fields, 2);
+                    position = parseInt(fields[1], "position");
+                    try {
+                        Course removed = p.getCourse(position);
+                        p.removeCourse(position);
+                        int removedAt = position;
+                        history.recordRemove(removed, removedAt);
+                        log(lineNumber, j -> j.logRemove(removedAt));
+                        println(PlannerManager.removedMessage(removed));
+                    } catch (EmptyPlannerException ex) {
+                        fail(lineNumber, PlannerManager.EMPTY_REMOVE_MESSAGE);
+                    } catch (IllegalArgumentException ex) {
+                        fail(lineNumber, PlannerManager.removePositionMessage(p));
+                    }
+                    break;
+
+                case "u":
+                    if (!history.canUndo()) {
+                        fail(lineNumber, "Nothing to undo...");
+                        break;
+                    }
+                    p = history.undo(p, historyLogger(lineNumber));
+                    println(PlannerManager.undoMessage(history));
+                    break;
+
+                case "rd":
+                    if (!history.canRedo()) {
+                        fail(lineNumber, "Nothing to redo...");
+                        break;
+                    }
+                    p = history.redo(p, historyLogger(lineNumber));
+                    println(PlannerManager.redoMessage(history));
+                    break;
+
+                case "p":
+                    p.writeTo(out);
+                    break;
+
+                case "ps":
+                    expect(fields, 2);
+                    table.writeEntries(p.sorted(CourseOrder.fromLetter(fields[1])));
+                    break;
+
+                case "f":
+                    expect(fields, 2);
+                    table.writeEntries(p.filter(fields[1]));
+                    break;
+
+                case "rq":
+                    expect(fields, 4);
+                    table.writeEntries(p.rangeQuery(fields[1], parseInt(fields[2], "lowest code"),
+                            parseInt(fields[3], "highest code")));
+                    break;
+
+                case "l":
+                    expect(fields, 6);
+                    println(PlannerManager.searchMessage(p, parseProbe(fields)));
+                    break;
+
+                case "t":
+                    expect(fields, 4);
+                    table.writeEntries(PlannerManager.searchText(p, fields[1], fields[2], fields[3]));
+                    break;
+
+                case "sc":
+                    List<CourseConflict> conflicts = p.conflictReport();
+                    if (conflicts.isEmpty())
+                        println("No schedule conflicts in the planner...");
+                    for (CourseConflict conflict : conflicts)
+                        println(PlannerManager.conflictMessage(conflict));
+                    break;
+
+                case "pr":
+                    expect(fields, 5);
+                    int code = parseInt(fields[2], "course code");
+                    int prerequisiteCode = parseInt(fields[4], "course code");
+                    prerequisites.addPrerequisite(fields[1], code, fields[3], prerequisiteCode);
+                    println(PlannerManager.prerequisiteMessage(fields[1], code, fields[3], prerequisiteCode));
+                    break;
+
+                case "vp":
+                    List<PrerequisiteViolation> violations = prerequisites.validate(p);
+                    if (violations.isEmpty())
+                        println("Every course in the planner comes after its prerequisites...");
+                    for (PrerequisiteViolation violation : violations)
+                        println(PlannerManager.violationMessage(violation));
+                    break;
+
+                case "s":
+                    println("There are " + p.size() + " courses in the planner");
+                    break;
+
+                case "b":
+                    String backupName = backups.save(p);
+                    log(lineNumber, j -> j.logBackup(backupName));
+                    println("Created Backup " + backupName + " of the current planner");
+                    break;
+
+                case "pb":
+                    backups.latest().writeTo(out);
+                    break;
+
+                case "db":
+                    if (fields.length != 1)
+                        expect(fields, 2);
+                    PlannerDiff.writeTo(fields.length == 1 ? backups.latest()
+                            : PlannerManager.findBackup(backups, fields[1]), p, out);
+                    break;
+
+                case "rb":
+                    history.recordReplace(p);
+                    p = backups.restoreLatest(p.getMaxCourses());
+                    log(lineNumber, j -> j.logRevert(null));
+                    break;
+
+                case "nb":
+                    expect(fields, 2);
+                    backups.save(fields[1], p);
+                    log(lineNumber, j -> j.logBackup(fields[1]));
+                    println("Created Backup " + fields[1] + " of the current planner");
+                    break;
+
+                case "lb":
+                    for (String name : backups.names())
+                        println(name + " (" + backups.get(name).size() + " courses)");
+                    break;
+
+                case "rn":
+                    expect(fields, 2);
+                    try {
+                        Planner restored = backups.restore(fields[1]);
+                        history.recordReplace(p);
+                        p = restored;
+                        log(lineNumber, j -> j.logRevert(fields[1]));
+                    } catch (IllegalArgumentException ex) {
+                        fail(lineNumber, "No backup named " + fields[1] + " exists...");
+                    }
+                    break;
+
+                case "sv":
+                    expect(fields, 2);
+                    try {
+                        PlannerFile.save(p, Path.of(fields[1]));
+                        println("Saved " + p.size() + " courses to " + fields[1]);
+                    } catch (IOException | InvalidPathException ex) {
+                        fail(lineNumber, PlannerManager.saveErrorMessage(ex));
+                    }
+                    break;
+
+                case "ld":
+                    expect(fields, 2);
+                    try {
+                        Planner loaded = PlannerFile.load(Path.of(fields[1]));
+                        history.recordReplace(p);
+                        p = loaded;
+                        println("Loaded " + p.size() + " courses from " + fields[1]);
+                        log(lineNumber, j -> j.checkpoint(p, backups));
+                    } catch (IOException | InvalidPathException ex) {
+                        fail(lineNumber, PlannerManager.loadErrorMessage(ex));
+                    }
+                    break;
+
+                case "im":
+                    expect(fields, 2);
+                    try {
+                        CatalogImport catalog = CatalogImport.load(Path.of(fields[1]), p.getMaxCourses());
+                        history.recordReplace(p);
+                        p = catalog.getPlanner();
+                        println(PlannerManager.importMessage(catalog, fields[1]));
+                        log(lineNumber, j -> j.checkpoint(p, backups));
+                    } catch (IOException | InvalidPathException ex) {
+                        fail(lineNumber, PlannerManager.importErrorMessage(ex));
+                    }
+                    break;
+
+                case "q":
+                    return false;
+
+                default:
+                    fail(lineNumber, "Invalid input!!! unknown command " + fields[0]);
+            }
+        } catch (IllegalArgumentException ex) {
+            fail(lineNumber, ex.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * This is a getter method for the planner the commands are applied to
+     * @return
+     *  The planner
+     */
+    public Planner getPlanner() {
+        return p;
+    }
+
+    /**
+     * This method describes how many commands were run and how fast
+     * @param elapsedNanos
+     *  The time the run took in nanoseconds
+     * @return
+     *  The summary of the run
+     */
+    public String summary(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        return String.format("Processed %d commands (%d failed) in %.3f s, %.0f commands/s, " +
+                        "%d courses in the planner",
+                commands, errors, seconds, seconds > 0 ? commands / seconds : 0.0, p.size());
+    }
+
+    //Builds the course described by the name, department, code, section and instructor fields
+    static Course parseCourse(String[] fields) {
+        return new Course(fields[1], fields[2], parseInt(fields[3], "course code"), parseSection(fields[4]),
+                fields[5]);
+    }
+
+    //Builds the course to look up described by the same fields as parseCourse, null if none can match it
+    static Course parseProbe(String[] fields) {
+        return Course.probe(fields[1], fields[2], parseInt(fields[3], "course code"), parseSection(fields[4]),
+                fields[5]);
+    }
+
+    private static byte parseSection(String field) {
+        try {
+            return Byte.parseByte(field.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid course section!! Please enter an " +
+                    "integer from 1 to 127");
+        }
+    }
+
+    //Builds the courses described by the groups of 5 fields after the position field of AA
+    static List<Course> parseCourses(String[] fields) {
+        if (fields.length < 7 || (fields.length - 2) % 5 != 0)
+            throw new IllegalArgumentException("Expected a position and 5 fields for each course after " +
+                    fields[0] + " but found " + (fields.length - 1) + " fields");
+        List<Course> ret = new ArrayList<>();
+        for (int i = 2; i < fields.length; i += 5)
+            ret.add(parseCourse(Arrays.copyOfRange(fields, i - 1, i + 5)));
+        return ret;
+    }
+
+    static int parseInt(String field, String what) {
+        try {
+            return Integer.parseInt(field.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid " + what + "!! Please enter an integer");
+        }
+    }
+
+    static void expect(String[] fields, int count) {
+        if (fields.length != count)
+            throw new IllegalArgumentException("Expected " + (count - 1) + " fields after " +
+                    fields[0] + " but found " + (fields.length - 1));
+    }
+
+    /**
+     * An action recording a change in the journal
+     */
+    private interface JournalEntry {
+        void write(PlannerJournal journal) throws IOException;
+    }
+
+    //Records a change in the journal, if there is one, and compacts the journal when it is due
+    private void log(int lineNumber, JournalEntry entry) {
+        if (journal == null)
+            return;
+        try {
+            entry.write(journal);
+            journal.compactIfNeeded(p, backups);
+        } catch (IOException ex) {
+            fail(lineNumber, "Could not write journal: " + ex.getMessage());
+        }
+    }
+
+    //Records the changes made to the planner by an undo or a redo in the journal
+    private PlannerHistory.Listener historyLogger(int lineNumber) {
+        return new PlannerHistory.Listener() {
+            @Override
+            public void added(int position, List<Course> courses) {
+                log(lineNumber, j -> PlannerManager.logAddAll(j, courses, position));
+            }
+
+            @Override
+            public void removed(int position, int count) {
+                log(lineNumber, j -> PlannerManager.logRemoveRange(j, position, count));
+            }
+
+            @Override
+            public void replaced(Planner planner) {
+                p = planner;
+                log(lineNumber, j -> j.checkpoint(p, backups));
+            }
+        };
+    }
+
+    private void fail(int lineNumber, String message) {
+        errors++;
+        println("line " + lineNumber + ": " + message);
+    }
+
+    private void println(String line) {
+        try {
+            out.write(line);
+            out.write(System.lineSeparator());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
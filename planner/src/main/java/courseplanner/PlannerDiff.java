@@ -0,0 +1,277 @@
+package courseplanner;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The <code>PlannerDiff</code> class finds the changes that turn the courses of one planner, such as a
+ * backup, into those of another one: the courses removed, the courses added and the courses moved to
+ * another position.
+ * <br>Every distinct course is first given a number by hashing, so the rest of the work compares ints.
+ * The positions kept in place are found with the O(ND) algorithm of Myers in its linear space form,
+ * which takes O((n + m) D) time for D removed and added courses, so planners that barely differ are
+ * compared in about linear time. A course that is both removed and added is reported as moved.
+ * <br>Planners found equal by their fingerprints are not compared any further.
+ * <br>The changes are handed to a <code>Listener</code> one at a time in the order of their positions,
+ * so they can be written out as they are found.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class PlannerDiff {
+
+    /**
+     * The receiver of the changes found by a diff
+     */
+    public interface Listener {
+
+        /**
+         * This method is called for a course that is only in the first planner
+         * @param from
+         *  The position of the course in the first planner
+         * @param course
+         *  The course
+         */
+        void removed(int from, Course course);
+
+        /**
+         * This method is called for a course that is only in the second planner
+         * @param to
+         *  The position of the course in the second planner
+         * @param course
+         *  The course
+         */
+        void added(int to, Course course);
+
+        /**
+         * This method is called for a course that is in both planners but not kept in place
+         * @param from
+         *  The position of the course in the first planner
+         * @param to
+         *  The position of the course in the second planner
+         * @param course
+         *  The course
+         */
+        void moved(int from, int to, Course course);
+    }
+
+    //The courses of both planners, position i is stored at index i - 1
+    private final Course[] fromCourses;
+    private final Course[] toCourses;
+
+    //The number given to each course, equal courses having the same number
+    private final int[] a;
+    private final int[] b;
+
+    //Whether each course of the first and second planner is kept in place
+    private final boolean[] keptFrom;
+    private final boolean[] keptTo;
+
+    //The furthest reaching paths of the forward and backward searches, by diagonal
+    private final int[] forward;
+    private final int[] backward;
+
+    private PlannerDiff(Planner from, Planner to) {
+        this.fromCourses = toArray(from);
+        this.toCourses = toArray(to);
+        Map<Course, Integer> numbers = new HashMap<>();
+        this.a = number(fromCourses, numbers);
+        this.b = number(toCourses, numbers);
+        this.keptFrom = new boolean[a.length];
+        this.keptTo = new boolean[b.length];
+        int diagonals = 4 * (a.length + b.length) + 10;
+        this.forward = new int[diagonals];
+        this.backward = new int[diagonals];
+    }
+
+    /**
+     * This method finds the changes turning the courses of one planner into those of another one
+     * @param from
+     *  The first planner, such as a backup
+     * @param to
+     *  The second planner, such as the current one
+     * @param listener
+     *  The receiver of the changes, the removed and moved courses are reported in the order of their
+     *  positions in the first planner, each added course right after the courses before it
+     * @return
+     *  The number of changes
+     */
+    public static int diff(Planner from, Planner to, Listener listener) {
+        if (from.equals(to))
+            return 0;
+        return new PlannerDiff(from, to).report(listener);
+    }
+
+    /**
+     * This method writes the changes turning the courses of one planner into those of another one as a
+     * table, one row at a time
+     * @param from
+     *  The first planner, such as a backup
+     * @param to
+     *  The second planner, such as the current one
+     * @param out
+     *  The destination of the table
+     * @return
+     *  The number of changes
+     */
+    public static int writeTo(Planner from, Planner to, Appendable out) {
+        CourseTableWriter table = new CourseTableWriter(out);
+        table.writeChangeHeader();
+        int changes = diff(from, to, new Listener() {
+            @Override
+            public void removed(int from, Course course) {
+                table.writeChange("Removed", from, 0, course);
+            }
+
+            @Override
+            public void added(int to, Course course) {
+                table.writeChange("Added", 0, to, course);
+            }
+
+            @Override
+            public void moved(int from, int to, Course course) {
+                table.writeChange("Moved", from, to, course);
+            }
+        });
+        table.writeLine(changes == 0 ? "No changes" : changes + (changes == 1 ? " change" : " changes"));
+        table.flush();
+        return changes;
+    }
+
+    //Marks the kept courses, pairs the others up into moves and hands every change to the listener
+    private int report(Listener listener) {
+        compare(0, a.length, 0, b.length);
+
+        //The positions in the second planner of the added courses, by course number
+        Map<Integer, ArrayDeque<Integer>> added = new HashMap<>();
+        for (int j = 0; j < b.length; j++) {
+            if (!keptTo[j])
+                added.computeIfAbsent(b[j], n -> new ArrayDeque<>()).add(j);
+        }
+        boolean[] movedTo = new boolean[b.length];
+        int[] moveTarget = new int[a.length];
+        Arrays.fill(moveTarget, -1);
+        for (int i = 0; i < a.length; i++) {
+            if (keptFrom[i])
+                continue;
+            ArrayDeque<Integer> targets = added.get(a[i]);
+            if (targets != null && !targets.isEmpty()) {
+                moveTarget[i] = targets.poll();
+                movedTo[moveTarget[i]] = true;
+            }
+        }
+
+        int changes = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            if (i < a.length && !keptFrom[i]) {
+                if (moveTarget[i] >= 0)
+                    listener.moved(i + 1, moveTarget[i] + 1, fromCourses[i]);
+                else
+                    listener.removed(i + 1, fromCourses[i]);
+                changes++;
+                i++;
+            } else if (j < b.length && !keptTo[j]) {
+                if (!movedTo[j]) {
+                    listener.added(j + 1, toCourses[j]);
+                    changes++;
+                }
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+        return changes;
+    }
+
+    //Marks the courses kept in place between a[aLo, aHi) and b[bLo, bHi)
+    private void compare(int aLo, int aHi, int bLo, int bHi) {
+        while (aLo < aHi && bLo < bHi && a[aLo] == b[bLo])
+            keep(aLo++, bLo++, 1);
+        while (aLo < aHi && bLo < bHi && a[aHi - 1] == b[bHi - 1])
+            keep(--aHi, --bHi, 1);
+        if (aLo == aHi || bLo == bHi)
+            return;
+
+        int[] snake = middleSnake(aLo, aHi, bLo, bHi);
+        compare(aLo, snake[0], bLo, snake[1]);
+        keep(snake[0], snake[1], snake[2] - snake[0]);
+        compare(snake[2], aHi, snake[3], bHi);
+    }
+
+    //Finds the middle snake of the shortest edit script between a[aLo, aHi) and b[bLo, bHi), returned
+    //as its start and end points {x, y, u, v}. Both ranges are non-empty and differ at both ends
+    private int[] middleSnake(int aLo, int aHi, int bLo, int bHi) {
+        int n = aHi - aLo;
+        int m = bHi - bLo;
+        int delta = n - m;
+        boolean odd = (delta & 1) != 0;
+        int offset = 2 * (n + m) + 4;
+        forward[offset + 1] = 0;
+        backward[offset + delta - 1] = n;
+        for (int d = 0; d <= (n + m + 1) / 2; d++) {
+            for (int k = -d; k <= d; k += 2) {
+                int x = k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])
+                        ? forward[offset + k + 1] : forward[offset + k - 1] + 1;
+                int y = x - k;
+                int startX = x;
+                int startY = y;
+                while (x < n && y < m && a[aLo + x] == b[bLo + y]) {
+                    x++;
+                    y++;
+                }
+                forward[offset + k] = x;
+                if (odd && k >= delta - (d - 1) && k <= delta + (d - 1) && x >= backward[offset + k])
+                    return new int[]{aLo + startX, bLo + startY, aLo + x, bLo + y};
+            }
+            for (int k = -d; k <= d; k += 2) {
+                int diagonal = k + delta;
+                int x = k == d || (k != -d && backward[offset + diagonal - 1] < backward[offset + diagonal + 1])
+                        ? backward[offset + diagonal - 1] : backward[offset + diagonal + 1] - 1;
+                int y = x - diagonal;
+                int endX = x;
+                int endY = y;
+                while (x > 0 && y > 0 && a[aLo + x - 1] == b[bLo + y - 1]) {
+                    x--;
+                    y--;
+                }
+                backward[offset + diagonal] = x;
+                if (!odd && diagonal >= -d && diagonal <= d && x <= forward[offset + diagonal])
+                    return new int[]{aLo + x, bLo + y, aLo + endX, bLo + endY};
+            }
+        }
+        throw new IllegalStateException("No middle snake between the planners");
+    }
+
+    private void keep(int i, int j, int count) {
+        for (int c = 0; c < count; c++) {
+            keptFrom[i + c] = true;
+            keptTo[j + c] = true;
+        }
+    }
+
+    private static Course[] toArray(Planner planner) {
+        Course[] ret = new Course[planner.size()];
+        int i = 0;
+        for (Course course : planner.courses())
+            ret[i++] = course;
+        return ret;
+    }
+
+    private static int[] number(Course[] courses, Map<Course, Integer> numbers) {
+        int[] ret = new int[courses.length];
+        for (int i = 0; i < courses.length; i++) {
+            Integer number = numbers.get(courses[i]);
+            if (number == null) {
+                number = numbers.size();
+                numbers.put(courses[i], number);
+            }
+            ret[i] = number;
+        }
+        return ret;
+    }
+}
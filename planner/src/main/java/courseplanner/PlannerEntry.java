@@ -0,0 +1,52 @@
+package courseplanner;
+
+/**
+ * The <code>PlannerEntry</code> class pairs a <code>Course</code> with the position it held in a
+ * <code>Planner</code> when it was looked up.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class PlannerEntry {
+    private final int position;
+    private final Course course;
+
+    /**
+     * This is a constructor used to create a new PlannerEntry object
+     * @param position
+     *  The position of the course in the planner
+     * @param course
+     *  The course at that position
+     */
+    public PlannerEntry(int position, Course course) {
+        this.position = position;
+        this.course = course;
+    }
+
+    /**
+     * This is a getter method for the position of the course
+     * @return
+     *  The position of the course in the planner
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * This is a getter method for the course
+     * @return
+     *  The course at the position
+     */
+    public Course getCourse() {
+        return course;
+    }
+
+    /**
+     * This is the toString method of the PlannerEntry class
+     * @return
+     *  The position followed by the row of the course, as shown in the planner tables
+     */
+    public String toString() {
+        return CourseTableWriter.formatRow(position, course);
+    }
+}
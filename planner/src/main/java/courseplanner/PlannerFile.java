@@ -0,0 +1,216 @@
+package courseplanner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.function.IntFunction;
+
+/**
+ * The <code>PlannerFile</code> class saves a <code>Planner</code> to a compact binary file and loads
+ * it back through a memory-mapped buffer. The file is laid out as:
+ * <pre>
+ * header   magic, version, max courses, course count, string count   (5 ints)
+ * records  name id, department id, instructor id, code (4 ints), section (1 byte) and meetings id
+ *          (1 int) per course
+ * offsets  the offset in the file of each string (1 int per string)
+ * strings  the length followed by the UTF-8 bytes of each string
+ * </pre>
+ * Every distinct name, department, instructor and list of meeting times is stored once in the string
+ * table, the meeting times written the way <code>MeetingTime.formatAll</code> does. Version 1 files,
+ * whose records end at the section and whose courses have no meeting times, are still read. The records
+ * have a fixed size, so a loaded planner only decodes a record (and the strings it uses) when its
+ * course is needed, and opening a planner holding many thousands of courses is close to instant.
+ * <br>A planner is saved to a new file next to the target, which is forced to disk and then moved over
+ * the target in one step. The file being replaced is never changed in place, so planners loaded from
+ * it keep reading their courses, and a crash leaves either the old content or the new one.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class PlannerFile implements IntFunction<Course> {
+
+    //The first int of every planner file, "CPLN" in ASCII
+    private static final int MAGIC = 0x43504C4E;
+
+    //The version of the layout written by this class, and the first version whose records hold meetings
+    private static final int VERSION = 2;
+    private static final int MEETINGS_VERSION = 2;
+
+    //The sizes of the header and of each record in bytes, before and since records hold meetings
+    private static final int HEADER_BYTES = 5 * Integer.BYTES;
+    private static final int RECORD_V1_BYTES = 4 * Integer.BYTES + 1;
+    private static final int RECORD_BYTES = RECORD_V1_BYTES + Integer.BYTES;
+
+    //The mapped content of the file
+    private final ByteBuffer buffer;
+
+    //The size of each record of the file in bytes
+    private final int recordBytes;
+
+    //The offset of the first string offset
+    private final int offsetsStart;
+
+    //The strings decoded so far, by id
+    private final String[] strings;
+
+    private PlannerFile(ByteBuffer buffer, int recordBytes, int courseCount, int stringCount) {
+        this.buffer = buffer;
+        this.recordBytes = recordBytes;
+        this.offsetsStart = HEADER_BYTES + courseCount * recordBytes;
+        this.strings = new String[stringCount];
+    }
+
+    /**
+     * This method saves the courses of a planner to a file, atomically replacing the file if it exists
+     * @param planner
+     *  The planner to be saved
+     * @param path
+     *  The file the planner is saved to
+     * @throws IOException
+     *  When the file can't be written
+     */
+    public static void save(Planner planner, Path path) throws IOException {
+        HashMap<String, Integer> ids = new HashMap<>();
+        ArrayList<byte[]> table = new ArrayList<>();
+        int count = planner.size();
+        int[] refs = new int[count * 4];
+        long size = HEADER_BYTES + (long) count * RECORD_BYTES;
+
+        int i = 0;
+        for (Course course : planner.courses()) {
+            for (String field : new String[] {course.getName(), course.getDepartment(),
+                    course.getInstructor(), MeetingTime.formatAll(course.getMeetings())}) {
+                Integer id = ids.get(field);
+                if (id == null) {
+                    id = table.size();
+                    ids.put(field, id);
+                    byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+                    table.add(bytes);
+                    size += 2 * Integer.BYTES + bytes.length;
+                }
+                refs[i++] = id;
+            }
+        }
+        if (size > Integer.MAX_VALUE)
+            throw new IOException("Planner is too large to be saved to a single file");
+
+        //Planners loaded from the target may still be reading it, so it is replaced rather than rewritten
+        Path absolute = path.toAbsolutePath();
+        Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            write(planner, temp, size, refs, table);
+            Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(temp);
+            throw ex;
+        }
+    }
+
+    //Writes the header, the records and the string table of a planner to a new file and forces it to disk
+    private static void write(Planner planner, Path path, long size, int[] refs, ArrayList<byte[]> table)
+            throws IOException {
+        int count = planner.size();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            out.putInt(MAGIC).putInt(VERSION).putInt(planner.getMaxCourses())
+                    .putInt(count).putInt(table.size());
+
+            int i = 0;
+            for (Course course : planner.courses()) {
+                out.putInt(refs[i++]).putInt(refs[i++]).putInt(refs[i++])
+                        .putInt(course.getCode()).put(course.getSection()).putInt(refs[i++]);
+            }
+
+            int offset = out.position() + table.size() * Integer.BYTES;
+            for (byte[] bytes : table) {
+                out.putInt(offset);
+                offset += Integer.BYTES + bytes.length;
+            }
+            for (byte[] bytes : table)
+                out.putInt(bytes.length).put(bytes);
+            out.force();
+        }
+    }
+
+    /**
+     * This method opens a planner saved to a file. The file is mapped into memory and each course
+     * is only decoded the first time it is needed
+     * @param path
+     *  The file the planner was saved to
+     * @return
+     *  A planner holding the saved courses
+     * @throws IOException
+     *  When the file can't be read or isn't a planner file
+     */
+    public static Planner load(Path path) throws IOException {
+        MappedByteBuffer in;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES || channel.size() > Integer.MAX_VALUE)
+                throw new IOException("Not a planner file: " + path);
+            in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (in.getInt(0) != MAGIC)
+            throw new IOException("Not a planner file: " + path);
+        int version = in.getInt(4);
+        if (version < 1 || version > VERSION)
+            throw new IOException("Unsupported planner file version " + version);
+        int recordBytes = version < MEETINGS_VERSION ? RECORD_V1_BYTES : RECORD_BYTES;
+        int maxCourses = in.getInt(8);
+        int courseCount = in.getInt(12);
+        int stringCount = in.getInt(16);
+        if (courseCount < 0 || stringCount < 0 || HEADER_BYTES + (long) courseCount * recordBytes
+                + (long) stringCount * Integer.BYTES > in.capacity())
+            throw new IOException("Corrupted planner file: " + path);
+
+        Planner planner = new Planner(Math.max(maxCourses, courseCount));
+        try {
+            planner.setCourses(new PlannerFile(in, recordBytes, courseCount, stringCount), courseCount);
+        } catch (FullPlannerException ex) {
+            throw new IOException("Corrupted planner file: " + path, ex);
+        }
+        return planner;
+    }
+
+    /**
+     * This method decodes the course stored in a record of the file
+     * @param record
+     *  The 0-based number of the record
+     * @return
+     *  The course stored in the record
+     */
+    @Override
+    public Course apply(int record) {
+        int at = HEADER_BYTES + record * recordBytes;
+        Course course = new Course(string(buffer.getInt(at)), string(buffer.getInt(at + 4)),
+                buffer.getInt(at + 12), buffer.get(at + 16), string(buffer.getInt(at + 8)));
+        if (recordBytes == RECORD_BYTES) {
+            String meetings = string(buffer.getInt(at + RECORD_V1_BYTES));
+            if (!meetings.isEmpty())
+                course.setMeetings(MeetingTime.parseAll(meetings));
+        }
+        return course;
+    }
+
+    //Returns a string of the string table, decoding it the first time
+    private String string(int id) {
+        String string = strings[id];
+        if (string == null) {
+            int at = buffer.getInt(offsetsStart + id * Integer.BYTES);
+            byte[] bytes = new byte[buffer.getInt(at)];
+            buffer.get(at + Integer.BYTES, bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+            strings[id] = string;
+        }
+        return string;
+    }
+}
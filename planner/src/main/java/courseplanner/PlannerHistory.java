@@ -0,0 +1,379 @@
+package courseplanner;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The <code>PlannerHistory</code> class keeps the changes made to a planner so they can be undone and
+ * redone. A change is kept as the courses it added or removed and their positions, from which it can
+ * be applied again or inverted, rather than as a copy of the planner: undoing or redoing the add or
+ * the removal of a course takes O(log n), and a change of k courses O(k log n). Only a revert, a load
+ * or an import replacing the whole planner keeps the planner it replaced, which shares its storage
+ * with the backups.
+ * <br>The history is bounded by a budget of bytes, estimated for a 64-bit JVM with compressed
+ * references. When a new change goes over it, the oldest changes are forgotten first.
+ * <br>Every change to the planner must be recorded, as the positions of a change are only valid
+ * right after the changes recorded before it.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class PlannerHistory {
+
+    /**
+     * The receiver of the changes made to a planner by an undo or a redo, such as a journal
+     */
+    public interface Listener {
+
+        /**
+         * This method is called after courses are added one after the other
+         * @param position
+         *  The position of the first course
+         * @param courses
+         *  The added courses, in order
+         */
+        void added(int position, List<Course> courses);
+
+        /**
+         * This method is called after the courses from a position on are removed
+         * @param position
+         *  The position of the first removed course
+         * @param count
+         *  The number of removed courses
+         */
+        void removed(int position, int count);
+
+        /**
+         * This method is called after the whole planner is replaced
+         * @param planner
+         *  The planner now in use
+         */
+        void replaced(Planner planner);
+    }
+
+    //The budget used by the default constructor, 1 MB
+    public static final long DEFAULT_BUDGET_BYTES = 1 << 20;
+
+    //The estimated size of a change, a course it holds, and a course of a planner it holds
+    private static final long CHANGE = SymbolTable.align(12 + 4 + 4 + 4 + 1 + 8) + SymbolTable.align(16 + 4);
+    private static final long COURSE = 4 + SymbolTable.align(12 + 4 + 4 + 4 + 1 + 4 + 4);
+    private static final long PLANNER_COURSE = SymbolTable.align(12 + 4 + 4 + 4 + 8 + 4 + 4 + 4 + 4);
+
+    //The changes that can be undone, the most recent one last
+    private final ArrayDeque<Change> undo;
+
+    //The changes that can be redone, the next one to redo last
+    private final ArrayDeque<Change> redo;
+
+    //The most bytes the changes may take
+    private final long budgetBytes;
+
+    //The bytes taken by the changes kept
+    private long bytes;
+
+    /**
+     * This is the default constructor used to create an empty PlannerHistory object with a budget of 1 MB
+     */
+    public PlannerHistory() {
+        this(DEFAULT_BUDGET_BYTES);
+    }
+
+    /**
+     * This is a constructor used to create an empty PlannerHistory object
+     * @param budgetBytes
+     *  The most bytes the kept changes may take, 0 to keep none
+     * @throws IllegalArgumentException
+     *  When the budget is negative
+     */
+    public PlannerHistory(long budgetBytes) {
+        if (budgetBytes < 0)
+            throw new IllegalArgumentException("The budget of the history can't be negative");
+        this.undo = new ArrayDeque<>();
+        this.redo = new ArrayDeque<>();
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * This method records that a course was added
+     * @param course
+     *  The added course
+     * @param position
+     *  The position it was added at
+     */
+    public void recordAdd(Course course, int position) {
+        record(new Change(true, new int[]{position}, new Course[][]{{course}}));
+    }
+
+    /**
+     * This method records that courses were added one after the other
+     * @param courses
+     *  The added courses, in order
+     * @param position
+     *  The position of the first course
+     */
+    public void recordAddAll(List<Course> courses, int position) {
+        if (!courses.isEmpty())
+            record(new Change(true, new int[]{position}, new Course[][]{courses.toArray(new Course[0])}));
+    }
+
+    /**
+     * This method records that a course was removed
+     * @param course
+     *  The removed course
+     * @param position
+     *  The position it was removed from
+     */
+    public void recordRemove(Course course, int position) {
+        record(new Change(false, new int[]{position}, new Course[][]{{course}}));
+    }
+
+    /**
+     * This method records that the courses from a position on were removed
+     * @param courses
+     *  The removed courses, in order
+     * @param position
+     *  The position of the first removed course
+     */
+    public void recordRemoveRange(List<Course> courses, int position) {
+        if (!courses.isEmpty())
+            record(new Change(false, new int[]{position}, new Course[][]{courses.toArray(new Course[0])}));
+    }
+
+    /**
+     * This method records that courses were removed from anywhere in the planner
+     * @param removed
+     *  The removed courses with the positions they held, in ascending order of position
+     */
+    public void recordRemoveAll(List<PlannerEntry> removed) {
+        if (removed.isEmpty())
+            return;
+        //Courses that were next to each other are kept together, so they are put back in one go
+        List<Integer> positions = new ArrayList<>();
+        List<Course[]> runs = new ArrayList<>();
+        int i = 0;
+        while (i < removed.size()) {
+            int j = i + 1;
+            while (j < removed.size() && removed.get(j).getPosition() == removed.get(j - 1).getPosition() + 1)
+                j++;
+            Course[] run = new Course[j - i];
+            for (int k = i; k < j; k++)
+                run[k - i] = removed.get(k).getCourse();
+            positions.add(removed.get(i).getPosition());
+            runs.add(run);
+            i = j;
+        }
+        int[] at = new int[positions.size()];
+        for (int k = 0; k < at.length; k++)
+            at[k] = positions.get(k);
+        record(new Change(false, at, runs.toArray(new Course[0][])));
+    }
+
+    /**
+     * This method records that the whole planner was replaced, such as by a revert to a backup
+     * @param replaced
+     *  The planner that was replaced, it must not be changed from then on
+     */
+    public void recordReplace(Planner replaced) {
+        record(new Change(replaced));
+    }
+
+    /**
+     * This method determines whether there is a change to undo
+     * @return
+     *  True if a change can be undone, false otherwise
+     */
+    public boolean canUndo() {
+        return !undo.isEmpty();
+    }
+
+    /**
+     * This method determines whether there is a change to redo
+     * @return
+     *  True if a change can be redone, false otherwise
+     */
+    public boolean canRedo() {
+        return !redo.isEmpty();
+    }
+
+    /**
+     * This method undoes the most recent change that wasn't undone
+     * @param planner
+     *  The planner in use, as it was left by the change
+     * @param listener
+     *  The receiver of the changes made to the planner
+     * @return
+     *  The planner in use after the undo, the given one unless the change replaced the whole planner
+     * @throws IllegalStateException
+     *  When there is no change to undo
+     */
+    public Planner undo(Planner planner, Listener listener) {
+        if (undo.isEmpty())
+            throw new IllegalStateException("Nothing to undo");
+        Change change = undo.pollLast();
+        bytes -= change.bytes;
+        Planner ret = change.apply(planner, !change.added, listener);
+        bytes += change.bytes;
+        redo.addLast(change);
+        trim();
+        return ret;
+    }
+
+    /**
+     * This method redoes the most recently undone change
+     * @param planner
+     *  The planner in use, as it was left by the undo
+     * @param listener
+     *  The receiver of the changes made to the planner
+     * @return
+     *  The planner in use after the redo, the given one unless the change replaced the whole planner
+     * @throws IllegalStateException
+     *  When there is no change to redo
+     */
+    public Planner redo(Planner planner, Listener listener) {
+        if (redo.isEmpty())
+            throw new IllegalStateException("Nothing to redo");
+        Change change = redo.pollLast();
+        bytes -= change.bytes;
+        Planner ret = change.apply(planner, change.added, listener);
+        bytes += change.bytes;
+        undo.addLast(change);
+        trim();
+        return ret;
+    }
+
+    /**
+     * This method forgets every change
+     */
+    public void clear() {
+        undo.clear();
+        redo.clear();
+        bytes = 0;
+    }
+
+    /**
+     * This is a getter method for the number of changes that can be undone
+     * @return
+     *  The number of changes
+     */
+    public int undoCount() {
+        return undo.size();
+    }
+
+    /**
+     * This is a getter method for the number of changes that can be redone
+     * @return
+     *  The number of changes
+     */
+    public int redoCount() {
+        return redo.size();
+    }
+
+    /**
+     * This is a getter method for the estimated bytes taken by the changes kept
+     * @return
+     *  The number of bytes, at most the budget
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * This is a getter method for the most bytes the changes may take
+     * @return
+     *  The budget in bytes
+     */
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    //Keeps a new change, which can't be followed by the changes undone before it
+    private void record(Change change) {
+        for (Change undone : redo)
+            bytes -= undone.bytes;
+        redo.clear();
+        undo.addLast(change);
+        bytes += change.bytes;
+        trim();
+    }
+
+    //Forgets the oldest changes until the rest fit in the budget, then the last ones to redo
+    private void trim() {
+        while (bytes > budgetBytes && !undo.isEmpty())
+            bytes -= undo.pollFirst().bytes;
+        while (bytes > budgetBytes && !redo.isEmpty())
+            bytes -= redo.pollFirst().bytes;
+    }
+
+    /**
+     * A change to the planner: courses added or removed in runs of consecutive positions, or the
+     * replacement of the whole planner
+     */
+    private static class Change {
+
+        //Whether the courses were added, rather than removed
+        private final boolean added;
+
+        //The position of the first course of every run in ascending order, and the courses of the runs
+        private final int[] positions;
+        private final Course[][] runs;
+
+        //The planner in use before or after the replacement, whichever isn't in use, null for other changes
+        private Planner other;
+
+        //The estimated bytes taken by the change
+        private long bytes;
+
+        Change(boolean added, int[] positions, Course[][] runs) {
+            this.added = added;
+            this.positions = positions;
+            this.runs = runs;
+            long courses = 0;
+            for (Course[] run : runs)
+                courses += run.length;
+            this.bytes = CHANGE + 16L * runs.length + courses * COURSE;
+        }
+
+        Change(Planner replaced) {
+            this(false, new int[0], new Course[0][]);
+            this.other = replaced;
+            this.bytes = CHANGE + replaced.size() * PLANNER_COURSE;
+        }
+
+        //Adds the courses of the runs or removes them, or swaps the planners for a replacement
+        Planner apply(Planner planner, boolean add, Listener listener) {
+            if (other != null) {
+                Planner ret = other;
+                other = planner;
+                bytes = CHANGE + planner.size() * PLANNER_COURSE;
+                listener.replaced(ret);
+                return ret;
+            }
+            try {
+                if (add) {
+                    //Each run goes back where it was once the runs before it are back
+                    for (int i = 0; i < runs.length; i++) {
+                        if (runs[i].length == 1)
+                            planner.addCourse(runs[i][0], positions[i]);
+                        else
+                            planner.addAll(positions[i], Arrays.asList(runs[i]));
+                        listener.added(positions[i], Arrays.asList(runs[i]));
+                    }
+                } else {
+                    //The last run is removed first so the positions of the others still hold
+                    for (int i = runs.length - 1; i >= 0; i--) {
+                        if (runs[i].length == 1)
+                            planner.removeCourse(positions[i]);
+                        else
+                            planner.removeRange(positions[i], positions[i] + runs[i].length - 1);
+                        listener.removed(positions[i], runs[i].length);
+                    }
+                }
+            } catch (FullPlannerException | EmptyPlannerException ex) {
+                throw new IllegalStateException("The planner was changed without being recorded", ex);
+            }
+            return planner;
+        }
+    }
+}
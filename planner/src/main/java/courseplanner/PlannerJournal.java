@@ -0,0 +1,567 @@
+package courseplanner;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * The <code>PlannerJournal</code> class makes the changes to a <code>Planner</code> and its
+ * <code>PlannerBackups</code> durable. Every add, remove, backup and revert is appended to a journal
+ * file in a directory, and on startup the state is restored by loading the latest checkpoint and
+ * replaying the journal written after it.
+ * <br>Appends only go to memory. They are written and forced to disk together (group commit) every
+ * sync interval, so a crash loses at most the changes of the last interval and no change pays for
+ * an fsync of its own. A sync interval of 0 forces every change as soon as it is appended.
+ * <br>Once the journal grows past the compaction size, the planner and the backups are snapshot in
+ * O(1), a new journal generation is started, and a background thread writes the snapshots as
+ * <code>PlannerFile</code> checkpoints before deleting the journals they replace. Courses of the
+ * snapshots still to be decoded from a planner file are decoded before the snapshots are handed over,
+ * as the background thread must not write to the nodes they share with the planners in use.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class PlannerJournal implements Closeable {
+
+    //The default time between two group commits in milliseconds
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 50;
+
+    //The default journal size in bytes after which a checkpoint is written
+    public static final long DEFAULT_COMPACTION_BYTES = 4L << 20;
+
+    //The kinds of journal records
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    private static final byte BACKUP = 3;
+    private static final byte REVERT = 4;
+    private static final byte ADD_WITH_MEETINGS = 5;
+
+    //The version of the manifest layout
+    private static final int MANIFEST_VERSION = 1;
+
+    //The directory holding the manifest, the checkpoints and the journals
+    private final Path dir;
+
+    //The time between two group commits in milliseconds
+    private final long syncIntervalMillis;
+
+    //The journal size in bytes after which a checkpoint is written
+    private final long compactionBytes;
+
+    //The records appended since the last group commit, guarded by itself
+    private ByteBuffer pending;
+
+    //The journal file being appended to, its generation and its size, guarded by syncLock
+    private final Object syncLock = new Object();
+    private FileChannel channel;
+    private long generation;
+    private long journalBytes;
+
+    //Whether a checkpoint is being written in the background
+    private volatile boolean compacting;
+
+    //The first failure of a background group commit or checkpoint, reported by the next call
+    private volatile IOException failure;
+
+    //The planner and backups restored when the journal was opened
+    private Planner recoveredPlanner;
+    private PlannerBackups recoveredBackups;
+
+    //The threads running the group commits and the checkpoints
+    private final ScheduledExecutorService syncer;
+    private final ExecutorService compactor;
+
+    private PlannerJournal(Path dir, long syncIntervalMillis, long compactionBytes) {
+        this.dir = dir;
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.compactionBytes = compactionBytes;
+        this.pending = ByteBuffer.allocate(1 << 16);
+        this.syncer = Executors.newSingleThreadScheduledExecutor(daemon("planner-journal-sync"));
+        this.compactor = Executors.newSingleThreadExecutor(daemon("planner-journal-compact"));
+    }
+
+    /**
+     * This method opens the journal of a directory with the default sync interval and compaction size
+     * @param dir
+     *  The directory holding the journal, it is created if needed
+     * @param maxCourses
+     *  The max limit for the number of courses of a planner when there is no checkpoint yet
+     * @return
+     *  The opened journal, holding the recovered state
+     * @throws IOException
+     *  When the journal can't be read or written
+     */
+    public static PlannerJournal open(Path dir, int maxCourses) throws IOException {
+        return open(dir, maxCourses, DEFAULT_SYNC_INTERVAL_MILLIS, DEFAULT_COMPACTION_BYTES);
+    }
+
+    /**
+     * This method opens the journal of a directory, restoring the planner and its backups from the
+     * latest checkpoint and the journal written after it
+     * @param dir
+     *  The directory holding the journal, it is created if needed
+     * @param maxCourses
+     *  The max limit for the number of courses of a planner when there is no checkpoint yet
+     * @param syncIntervalMillis
+     *  The time between two group commits in milliseconds, 0 to force every change
+     * @param compactionBytes
+     *  The journal size in bytes after which a checkpoint is written
+     * @return
+     *  The opened journal, holding the recovered state
+     * @throws IOException
+     *  When the journal can't be read or written
+     */
+    public static PlannerJournal open(Path dir, int maxCourses, long syncIntervalMillis,
+                                      long compactionBytes) throws IOException {
+        if (syncIntervalMillis < 0 || compactionBytes <= 0)
+            throw new IllegalArgumentException("Invalid journal settings");
+        Files.createDirectories(dir);
+        PlannerJournal journal = new PlannerJournal(dir, syncIntervalMillis, compactionBytes);
+        journal.recover(maxCourses);
+        if (syncIntervalMillis > 0) {
+            journal.syncer.scheduleWithFixedDelay(journal::backgroundSync, syncIntervalMillis,
+                    syncIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        return journal;
+    }
+
+    /**
+     * This is a getter method for the planner restored when the journal was opened
+     * @return
+     *  The recovered planner
+     */
+    public Planner getRecoveredPlanner() {
+        return recoveredPlanner;
+    }
+
+    /**
+     * This is a getter method for the backups restored when the journal was opened
+     * @return
+     *  The recovered backups
+     */
+    public PlannerBackups getRecoveredBackups() {
+        return recoveredBackups;
+    }
+
+    /**
+     * This method records that a course was added to the planner
+     * @param course
+     *  The course that was added, with its meeting times
+     * @param position
+     *  The position it was added at
+     * @throws IOException
+     *  When a previous group commit or checkpoint failed
+     */
+    public void logAdd(Course course, int position) throws IOException {
+        byte[] name = course.getName().getBytes(StandardCharsets.UTF_8);
+        byte[] department = course.getDepartment().getBytes(StandardCharsets.UTF_8);
+        byte[] instructor = course.getInstructor().getBytes(StandardCharsets.UTF_8);
+        //Courses without meeting times keep the shorter record, which journals written before had
+        byte[] meetings = MeetingTime.formatAll(course.getMeetings()).getBytes(StandardCharsets.UTF_8);
+        boolean withMeetings = meetings.length > 0;
+        ByteBuffer payload = ByteBuffer.allocate(2 * Integer.BYTES + 1 + name.length
+                + department.length + instructor.length + 3 * Integer.BYTES
+                + (withMeetings ? Integer.BYTES + meetings.length : 0));
+        payload.putInt(position).putInt(course.getCode()).put(course.getSection());
+        payload.putInt(name.length).put(name);
+        payload.putInt(department.length).put(department);
+        payload.putInt(instructor.length).put(instructor);
+        if (withMeetings)
+            payload.putInt(meetings.length).put(meetings);
+        append(withMeetings ? ADD_WITH_MEETINGS : ADD, payload);
+    }
+
+    /**
+     * This method records that a course was removed from the planner
+     * @param position
+     *  The position the course was removed from
+     * @throws IOException
+     *  When a previous group commit or checkpoint failed
+     */
+    public void logRemove(int position) throws IOException {
+        append(REMOVE, ByteBuffer.allocate(Integer.BYTES).putInt(position));
+    }
+
+    /**
+     * This method records that the planner was backed up
+     * @param name
+     *  The name of the backup
+     * @throws IOException
+     *  When a previous group commit or checkpoint failed
+     */
+    public void logBackup(String name) throws IOException {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        append(BACKUP, ByteBuffer.allocate(bytes.length).put(bytes));
+    }
+
+    /**
+     * This method records that the planner was reverted to a backup
+     * @param name
+     *  The name of the backup, null when the most recent backup was restored
+     * @throws IOException
+     *  When a previous group commit or checkpoint failed
+     */
+    public void logRevert(String name) throws IOException {
+        byte[] bytes = name == null ? new byte[0] : name.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.allocate(1 + bytes.length);
+        payload.put((byte) (name == null ? 0 : 1)).put(bytes);
+        append(REVERT, payload);
+    }
+
+    /**
+     * This method starts a checkpoint in the background if the journal has grown past the
+     * compaction size. The planner and backups are snapshot before it returns, in O(1) unless some of
+     * their courses are still to be decoded from a planner file
+     * @param planner
+     *  The current planner
+     * @param backups
+     *  The current backups
+     * @throws IOException
+     *  When the journal can't be rotated
+     */
+    public void compactIfNeeded(Planner planner, PlannerBackups backups) throws IOException {
+        if (!compacting && journalBytes + pendingBytes() >= compactionBytes)
+            checkpoint(planner, backups);
+    }
+
+    /**
+     * This method starts a new journal generation and writes a checkpoint of the planner and its
+     * backups in the background, for example after the planner was replaced as a whole
+     * @param planner
+     *  The current planner
+     * @param backups
+     *  The current backups
+     * @throws IOException
+     *  When the journal can't be rotated
+     */
+    public void checkpoint(Planner planner, PlannerBackups backups) throws IOException {
+        checkFailure();
+        //The snapshots share nodes with the planners still used here, and decoding a lazily loaded course
+        //writes to its node, so every course is decoded now rather than by the compactor
+        Planner plannerSnapshot = planner.snapshot();
+        plannerSnapshot.decodeAll();
+        List<String> names = new ArrayList<>(backups.names());
+        List<Planner> backupSnapshots = new ArrayList<>(names.size());
+        for (String name : names) {
+            Planner backup = backups.get(name).snapshot();
+            backup.decodeAll();
+            backupSnapshots.add(backup);
+        }
+        long newGeneration;
+        synchronized (syncLock) {
+            flush();
+            channel.close();
+            newGeneration = generation + 1;
+            openJournal(newGeneration);
+        }
+        compacting = true;
+        compactor.execute(() -> {
+            try {
+                writeCheckpoint(newGeneration, plannerSnapshot, names, backupSnapshots);
+            } catch (IOException ex) {
+                failure = ex;
+            } finally {
+                compacting = false;
+            }
+        });
+    }
+
+    /**
+     * This method writes and forces every appended record to disk now
+     * @throws IOException
+     *  When the journal can't be written
+     */
+    public void sync() throws IOException {
+        checkFailure();
+        synchronized (syncLock) {
+            flush();
+        }
+    }
+
+    /**
+     * This method forces the remaining records to disk, waits for a running checkpoint and closes
+     * the journal
+     * @throws IOException
+     *  When the journal can't be written
+     */
+    @Override
+    public void close() throws IOException {
+        syncer.shutdown();
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (syncLock) {
+            flush();
+            channel.close();
+        }
+        checkFailure();
+    }
+
+    private void append(byte type, ByteBuffer payload) throws IOException {
+        checkFailure();
+        payload.flip();
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload.duplicate());
+        synchronized (this) {
+            int needed = 2 * Integer.BYTES + 1 + payload.remaining();
+            if (pending.remaining() < needed) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(pending.capacity() * 2,
+                        pending.position() + needed));
+                pending.flip();
+                pending = grown.put(pending);
+            }
+            pending.putInt(payload.remaining()).put(type).put(payload).putInt((int) crc.getValue());
+        }
+        if (syncIntervalMillis == 0)
+            sync();
+    }
+
+    private synchronized int pendingBytes() {
+        return pending.position();
+    }
+
+    //Writes the pending records to the journal and forces them to disk, the caller holds syncLock
+    private void flush() throws IOException {
+        ByteBuffer batch;
+        synchronized (this) {
+            if (pending.position() == 0)
+                return;
+            batch = pending;
+            batch.flip();
+            pending = ByteBuffer.allocate(batch.capacity());
+        }
+        while (batch.hasRemaining())
+            journalBytes += channel.write(batch);
+        channel.force(false);
+    }
+
+    private void backgroundSync() {
+        try {
+            synchronized (syncLock) {
+                flush();
+            }
+        } catch (IOException ex) {
+            failure = ex;
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        IOException ex = failure;
+        if (ex != null)
+            throw new IOException("Planner journal failed", ex);
+    }
+
+    //Opens the journal of a generation for appending, the caller holds syncLock
+    private void openJournal(long generation) throws IOException {
+        this.channel = FileChannel.open(journalPath(generation), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        this.channel.position(channel.size());
+        this.journalBytes = channel.size();
+        this.generation = generation;
+    }
+
+    private void recover(int maxCourses) throws IOException {
+        long checkpointGeneration = 0;
+        Planner planner = new Planner(maxCourses);
+        PlannerBackups backups = new PlannerBackups();
+
+        Path manifest = dir.resolve("MANIFEST");
+        if (Files.exists(manifest)) {
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(manifest))) {
+                if (in.readInt() != MANIFEST_VERSION)
+                    throw new IOException("Unsupported planner journal manifest");
+                checkpointGeneration = in.readLong();
+                planner = PlannerFile.load(checkpointPath(checkpointGeneration, -1));
+                //The backups are saved again in the order they were created, so the last one stays the latest
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    String name = in.readUTF();
+                    backups.save(name, PlannerFile.load(checkpointPath(checkpointGeneration, i)));
+                }
+            }
+        }
+
+        TreeMap<Long, Path> journals = journals();
+        long last = checkpointGeneration;
+        for (Map.Entry<Long, Path> entry : journals.entrySet()) {
+            if (entry.getKey() < checkpointGeneration)
+                continue;
+            planner = replay(entry.getValue(), planner, backups);
+            last = entry.getKey();
+        }
+
+        this.recoveredPlanner = planner;
+        this.recoveredBackups = backups;
+        synchronized (syncLock) {
+            openJournal(last);
+        }
+    }
+
+    //Applies the records of a journal, cutting off a torn or corrupted tail left by a crash
+    private Planner replay(Path journal, Planner planner, PlannerBackups backups)
+            throws IOException {
+        try (FileChannel in = FileChannel.open(journal, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer data = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+            long valid = 0;
+            while (data.remaining() >= 2 * Integer.BYTES + 1) {
+                int length = data.getInt();
+                if (length < 0 || data.remaining() < 1 + length + Integer.BYTES)
+                    break;
+                byte type = data.get();
+                ByteBuffer payload = data.slice(data.position(), length);
+                data.position(data.position() + length);
+                CRC32 crc = new CRC32();
+                crc.update(type);
+                crc.update(payload.duplicate());
+                if (data.getInt() != (int) crc.getValue())
+                    break;
+                planner = apply(type, payload, planner, backups);
+                valid = data.position();
+            }
+            if (valid < in.size())
+                in.truncate(valid);
+        }
+        return planner;
+    }
+
+    private static Planner apply(byte type, ByteBuffer payload, Planner planner,
+                                 PlannerBackups backups) throws IOException {
+        try {
+            switch (type) {
+                case ADD:
+                case ADD_WITH_MEETINGS:
+                    int position = payload.getInt();
+                    int code = payload.getInt();
+                    byte section = payload.get();
+                    String name = string(payload, payload.getInt());
+                    String department = string(payload, payload.getInt());
+                    String instructor = string(payload, payload.getInt());
+                    Course course = new Course(name, department, code, section, instructor);
+                    if (type == ADD_WITH_MEETINGS)
+                        course.setMeetings(MeetingTime.parseAll(string(payload, payload.getInt())));
+                    planner.addCourse(course, position);
+                    return planner;
+                case REMOVE:
+                    planner.removeCourse(payload.getInt());
+                    return planner;
+                case BACKUP:
+                    backups.save(string(payload, payload.remaining()), planner);
+                    return planner;
+                case REVERT:
+                    if (payload.get() == 0)
+                        return backups.restoreLatest(planner.getMaxCourses());
+                    return backups.restore(string(payload, payload.remaining()));
+                default:
+                    throw new IOException("Unknown planner journal record " + type);
+            }
+        } catch (FullPlannerException | EmptyPlannerException | IllegalArgumentException ex) {
+            throw new IOException("Planner journal doesn't match its checkpoint", ex);
+        }
+    }
+
+    private static String string(ByteBuffer payload, int length) {
+        byte[] bytes = new byte[length];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    //Saves the snapshots of a generation, then points the manifest at them and drops what they replace
+    private void writeCheckpoint(long generation, Planner planner, List<String> names,
+                                 List<Planner> backups) throws IOException {
+        PlannerFile.save(planner, checkpointPath(generation, -1));
+        for (int i = 0; i < names.size(); i++)
+            PlannerFile.save(backups.get(i), checkpointPath(generation, i));
+
+        Path temp = dir.resolve("MANIFEST.tmp");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+            out.writeInt(MANIFEST_VERSION);
+            out.writeLong(generation);
+            out.writeInt(names.size());
+            for (String name : names)
+                out.writeUTF(name);
+        }
+        try (FileChannel file = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            file.force(true);
+        }
+        Files.move(temp, dir.resolve("MANIFEST"), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+
+        for (Map.Entry<Long, Path> entry : journals().entrySet()) {
+            if (entry.getKey() < generation)
+                deleteQuietly(entry.getValue());
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "checkpoint-*.pln")) {
+            for (Path file : files) {
+                if (!file.getFileName().toString().startsWith("checkpoint-" + generation + "-"))
+                    deleteQuietly(file);
+            }
+        }
+    }
+
+    //Deletes a file the manifest no longer points at, a leftover is only wasted space
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            //it is retried by the next checkpoint
+        }
+    }
+
+    //Finds the journal files of the directory by generation
+    private TreeMap<Long, Path> journals() throws IOException {
+        TreeMap<Long, Path> journals = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "journal-*.log")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    journals.put(Long.parseLong(name.substring(8, name.length() - 4)), file);
+                } catch (NumberFormatException ex) {
+                    //not one of ours
+                }
+            }
+        }
+        return journals;
+    }
+
+    private Path journalPath(long generation) {
+        return dir.resolve("journal-" + generation + ".log");
+    }
+
+    //The checkpoint of the planner of a generation, or of one of its backups when backup >= 0
+    private Path checkpointPath(long generation, int backup) {
+        return dir.resolve("checkpoint-" + generation + "-" +
+                (backup < 0 ? "planner" : "backup-" + backup) + ".pln");
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,158 @@
+package courseplanner;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The <code>PlannerLoadClient</code> class puts load on a running <code>PlannerServer</code>. It opens
+ * a number of connections, each sending requests for students picked at random one after the other,
+ * and reports the throughput and the latency of the replies.
+ * <br>The requests are 40% adds, 25% gets, 15% removes, 10% filters, 5% searches, 3% sizes and 2%
+ * backups. An ERR reply, such as for a full planner, counts as a reply; only broken connections fail.
+ * <br>Usage: java PlannerLoadClient [--port n | --unix path] [--connections n] [--students n]
+ * [--requests n]
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class PlannerLoadClient {
+
+    //The departments the courses are drawn from
+    private static final String[] DEPARTMENTS = {"CSE", "AMS", "MAT", "PHY", "CHE", "BIO"};
+
+    /**
+     * The main method runs the load and prints the report
+     * @param args
+     *  The address of the server and the size of the load
+     * @throws Exception
+     *  When a connection fails
+     */
+    public static void main(String[] args) throws Exception {
+        int port = PlannerServer.DEFAULT_PORT;
+        String unix = null;
+        int connections = 64;
+        int students = 10_000;
+        int requests = 10_000;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--port") && i + 1 < args.length)
+                port = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--unix") && i + 1 < args.length)
+                unix = args[++i];
+            else if (args[i].equals("--connections") && i + 1 < args.length)
+                connections = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--students") && i + 1 < args.length)
+                students = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--requests") && i + 1 < args.length)
+                requests = Integer.parseInt(args[++i]);
+            else {
+                System.err.println("Unknown option " + args[i]);
+                System.exit(1);
+            }
+        }
+        SocketAddress address = unix == null
+                ? new InetSocketAddress(InetAddress.getLoopbackAddress(), port)
+                : UnixDomainSocketAddress.of(Path.of(unix));
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        AtomicLong errors = new AtomicLong();
+        ExecutorService virtual = PlannerServer.newVirtualThreadExecutor();
+        ExecutorService threads = virtual != null ? virtual : Executors.newFixedThreadPool(connections);
+
+        long start = System.nanoTime();
+        List<Future<?>> running = new ArrayList<>();
+        for (int c = 0; c < connections; c++) {
+            long seed = c;
+            int studentCount = students;
+            int requestCount = requests;
+            running.add(threads.submit(() -> {
+                run(address, seed, studentCount, requestCount, latencies, errors);
+                return null;
+            }));
+        }
+        for (Future<?> connection : running)
+            connection.get();
+        long elapsed = System.nanoTime() - start;
+        threads.shutdown();
+
+        double seconds = elapsed / 1e9;
+        long replies = latencies.count();
+        System.out.printf("%d connections, %d students: %d replies (%d ERR) in %.3f s, %.0f requests/s%n",
+                connections, students, replies, errors.get(), seconds, replies / seconds);
+        System.out.printf("Latency us: mean %.1f, p50 %.1f, p90 %.1f, p99 %.1f, p99.9 %.1f, max %.1f%n",
+                latencies.mean() / 1000, latencies.percentile(50) / 1000.0,
+                latencies.percentile(90) / 1000.0, latencies.percentile(99) / 1000.0,
+                latencies.percentile(99.9) / 1000.0, latencies.max() / 1000.0);
+    }
+
+    //Sends the requests of one connection, waiting for each reply before sending the next request
+    private static void run(SocketAddress address, long seed, int students, int requests,
+                            LatencyHistogram latencies, AtomicLong errors) throws IOException {
+        Random random = new Random(seed);
+        try (SocketChannel channel = SocketChannel.open(address);
+             BufferedReader in = new BufferedReader(new InputStreamReader(
+                     Channels.newInputStream(channel), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(new OutputStreamWriter(
+                     Channels.newOutputStream(channel), StandardCharsets.UTF_8))) {
+            for (int i = 0; i < requests; i++) {
+                String request = request(random, "student" + random.nextInt(students));
+                long sent = System.nanoTime();
+                out.write(request);
+                out.write('\n');
+                out.flush();
+                String status = in.readLine();
+                if (status == null)
+                    throw new EOFException("The server closed the connection");
+                if (status.startsWith("OK ")) {
+                    for (int lines = Integer.parseInt(status.substring(3)); lines > 0; lines--)
+                        in.readLine();
+                } else {
+                    errors.incrementAndGet();
+                }
+                latencies.record(System.nanoTime() - sent);
+            }
+            out.write("Q\n");
+            out.flush();
+        }
+    }
+
+    //Builds a random request for a student
+    private static String request(Random random, String student) {
+        int pick = random.nextInt(100);
+        String department = DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+        int code = 100 + random.nextInt(400);
+        String course = "Course " + code + "|" + department + "|" + code + "|1|Instructor " + code % 40;
+        if (pick < 40)
+            return student + "|A|" + course + "|1";
+        if (pick < 65)
+            return student + "|G|1";
+        if (pick < 80)
+            return student + "|R|1";
+        if (pick < 90)
+            return student + "|F|" + department;
+        if (pick < 95)
+            return student + "|L|" + course;
+        if (pick < 98)
+            return student + "|S";
+        return student + "|B";
+    }
+}
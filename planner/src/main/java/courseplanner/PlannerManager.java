@@ -0,0 +1,1412 @@
+package courseplanner;
+
+/**
+ * The <code>PlannerManager</code> class contains the driver method for
+ * the application.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ */
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Scanner;
+import java.util.function.Predicate;
+import javax.management.JMException;
+public class PlannerManager {
+
+    //The variable in control of terminating the program
+    private static boolean runCondition = true;
+
+    //The message shown when a course is added to a full planner
+    static final String FULL_PLANNER_MESSAGE = "Cannot add anymore courses as planner is at" +
+            " max capacity!! remove some courses to make space...";
+
+    //The message shown when a course is looked up in an empty planner
+    static final String EMPTY_GET_MESSAGE = "Planner is empty!!, please add courses to planner" +
+            "to get course details...";
+
+    //The message shown when a course is removed from an empty planner
+    static final String EMPTY_REMOVE_MESSAGE = "Planner is empty!!, please add courses to planner" +
+            "to remove courses...";
+
+    //A new empty Planner object
+    private static Planner p = new Planner();
+    //The backups of the planner, the most recent one is used by B, PB and RB
+    private static PlannerBackups backups = new PlannerBackups();
+    //The changes to the planner that can be undone and redone by U and RD
+    private static PlannerHistory history = new PlannerHistory();
+    //The prerequisites the order of the planner is checked against by PR and VP
+    private static final PrerequisiteGraph prerequisites = new PrerequisiteGraph();
+
+    //The journal making the changes to the planner durable, null when they aren't journaled
+    private static PlannerJournal journal;
+
+    //The total time spent waiting for input, left out of the time taken by the menu operations
+    private static long inputNanos;
+
+    /**
+     * The driver method, it runs the interactive menu unless it is started with
+     * <code>--batch [file] [--quiet] [--max-courses n] [--journal dir]</code>, in which case the commands are read from the file
+     * (or from standard input) by a <code>PlannerBatch</code>, or with <code>--serve [--port n | --unix path] [--shards n]
+     * [--max-courses n]</code>, in which case the planners of many students are served by a <code>PlannerServer</code>. With <code>--journal dir</code> the planner and its backups
+     * are restored from the journal of the directory and every change is written to it, and with
+     * <code>--history-bytes n</code> the changes that can be undone may take up to n bytes, in either order
+     * @param args
+     *  The command line arguments
+     */
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            PlannerBatch.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        if (args.length > 0 && args[0].equals("--serve")) {
+            PlannerServer.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        String journalDir = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--journal") && i + 1 < args.length) {
+                journalDir = args[++i];
+            } else if (args[i].equals("--history-bytes") && i + 1 < args.length) {
+                try {
+                    history = new PlannerHistory(Long.parseLong(args[++i]));
+                } catch (IllegalArgumentException ex) {
+                    System.out.println("Invalid history size " + args[i] + "!! Please enter a number " +
+                            "of bytes that isn't negative");
+                    return;
+                }
+            } else {
+                System.out.println("Unknown option " + args[i] + "!! Please use --journal dir or " +
+                        "--history-bytes n");
+                return;
+            }
+        }
+
+        if (journalDir != null) {
+            try {
+                journal = PlannerJournal.open(Path.of(journalDir), Planner.DEFAULT_MAX_COURSES);
+                p = journal.getRecoveredPlanner();
+                backups = journal.getRecoveredBackups();
+                System.out.println("Restored " + p.size() + " courses from " + journalDir);
+            } catch (IOException | InvalidPathException ex) {
+                System.out.println("Could not open journal: " + ex.getMessage());
+                return;
+            }
+        }
+
+        registerMetrics();
+        Scanner stdin = new Scanner(System.in);
+
+        while(PlannerManager.runCondition){
+            operationsMenu(stdin);
+        }
+
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException ex) {
+                System.out.println("Could not write journal: " + ex.getMessage());
+            }
+        }
+        System.out.println("Program terminating successfully...");
+        stdin.close();
+    }
+
+    //Times the operations of the planner, adds the gauges of the planner and its backups and publishes the
+    //metrics over JMX
+    private static void registerMetrics() {
+        PlannerMetrics.setPlannerTimed(true);
+        PlannerMetrics.gauge("planner.size", () -> p.size());
+        PlannerMetrics.gauge("backups.count", () -> backups.names().size());
+        PlannerMetrics.gauge("history.bytes", history::getBytes);
+        PlannerMetrics.gauge("backups.courses", () -> {
+            long courses = 0;
+            for (String name : backups.names())
+                courses += backups.get(name).size();
+            return courses;
+        });
+        try {
+            PlannerMetrics.registerMBeans();
+        } catch (JMException ex) {
+            System.out.println("Could not publish metrics over JMX: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * An action recording a change in the journal
+     */
+    private interface JournalEntry {
+        void write(PlannerJournal journal) throws IOException;
+    }
+
+    //Records a change in the journal, if there is one, and compacts the journal when it is due
+    private static void log(JournalEntry entry) {
+        if (journal == null)
+            return;
+        try {
+            entry.write(journal);
+            journal.compactIfNeeded(PlannerManager.p, backups);
+        } catch (IOException ex) {
+            System.out.println("Could not write journal: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * This method prints a list of all the available operations and accepts an input
+     * @param stdin
+     *  The Scanner variable used to accept input
+     */
+    public static void operationsMenu(Scanner stdin){
+
+        System.out.println("""
+
+                (A) Add Course
+                (G) Get Course
+                (R) Remove Course
+                (AA) Add Courses at Position
+                (RR) Remove Range of Positions
+                (RM) Remove Matching Courses
+                (U) Undo
+                (RD) Redo
+                (P) Print Courses in Planner
+                (PS) Print Courses Sorted
+                (F) Filter by Department Code
+                (RQ) Range Query by Course Code
+                (L) Look For Course
+                (T) Text Search by Name or Instructor
+                (SC) Schedule Conflicts
+                (PR) Add Prerequisite
+                (VP) Validate Prerequisites
+                (S) Size
+                (B) Backup
+                (PB) Print Courses in Backup
+                (DB) Diff Planner with Backup
+                (RB) Revert to Backup
+                (NB) Named Backup
+                (LB) List Backups
+                (RN) Revert to Named Backup
+                (SV) Save Planner to File
+                (LD) Load Planner from File
+                (IM) Import Catalog from CSV
+                (M) Metrics
+                (Q) Quit
+                """);
+
+        String input = getString(stdin, "Enter a selection: ");
+        System.out.println();
+
+        long start = System.nanoTime();
+        long waited = inputNanos;
+        PlannerMetrics.Operation operation = null;
+
+        switch (input.toLowerCase()){
+
+            case "a":
+                operation = PlannerMetrics.Operation.MENU_ADD_COURSE;
+                addCourse(p, stdin);
+                break;
+
+            case "g":
+                operation = PlannerMetrics.Operation.MENU_GET_COURSE;
+                getCourse(p, stdin);
+                break;
+
+            case "r":
+                operation = PlannerMetrics.Operation.MENU_REMOVE_COURSE;
+                removeCourse(p, stdin);
+                break;
+
+            case "aa":
+                operation = PlannerMetrics.Operation.MENU_ADD_COURSES;
+                addCourses(p, stdin);
+                break;
+
+            case "rr":
+                operation = PlannerMetrics.Operation.MENU_REMOVE_RANGE;
+                removeRange(p, stdin);
+                break;
+
+            case "rm":
+                operation = PlannerMetrics.Operation.MENU_REMOVE_MATCHING;
+                removeMatching(p, stdin);
+                break;
+
+            case "u":
+                operation = PlannerMetrics.Operation.MENU_UNDO;
+                undo();
+                break;
+
+            case "rd":
+                operation = PlannerMetrics.Operation.MENU_REDO;
+                redo();
+                break;
+
+            case "p":
+                operation = PlannerMetrics.Operation.MENU_PRINT_ALL_COURSES;
+                p.printAllCourses();
+                break;
+
+            case "ps":
+                operation = PlannerMetrics.Operation.MENU_PRINT_SORTED;
+                printSorted(p, stdin);
+                break;
+
+            case "f":
+                operation = PlannerMetrics.Operation.MENU_FILTER_COURSE;
+                filterCourse(p, stdin);
+                break;
+
+            case "rq":
+                operation = PlannerMetrics.Operation.MENU_RANGE_QUERY;
+                rangeQuery(p, stdin);
+                break;
+
+            case "l":
+                operation = PlannerMetrics.Operation.MENU_PLANNER_SEARCH;
+                plannerSearch(p, stdin);
+                break;
+
+            case "t":
+                operation = PlannerMetrics.Operation.MENU_TEXT_SEARCH;
+                textSearch(p, stdin);
+                break;
+
+            case "sc":
+                operation = PlannerMetrics.Operation.MENU_SCHEDULE_CONFLICTS;
+                scheduleConflicts(p);
+                break;
+
+            case "pr":
+                operation = PlannerMetrics.Operation.MENU_ADD_PREREQUISITE;
+                addPrerequisite(stdin);
+                break;
+
+            case "vp":
+                operation = PlannerMetrics.Operation.MENU_VALIDATE_PREREQUISITES;
+                validatePrerequisites(p);
+                break;
+
+            case "s":
+                operation = PlannerMetrics.Operation.MENU_PLANNER_SIZE;
+                plannerSize(p);
+                break;
+
+            case "b":
+                operation = PlannerMetrics.Operation.MENU_PLANNER_BACKUP;
+                plannerBackup();
+                break;
+
+            case "pb":
+                operation = PlannerMetrics.Operation.MENU_PRINT_BACKUP;
+                printBackup();
+                break;
+
+            case "db":
+                operation = PlannerMetrics.Operation.MENU_DIFF_BACKUP;
+                diffBackup();
+                break;
+
+            case "rb":
+                operation = PlannerMetrics.Operation.MENU_REVERT_2_BACKUP;
+                revert2Backup();
+                break;
+
+            case "nb":
+                operation = PlannerMetrics.Operation.MENU_NAMED_BACKUP;
+                namedBackup(stdin);
+                break;
+
+            case "lb":
+                operation = PlannerMetrics.Operation.MENU_LIST_BACKUPS;
+                listBackups();
+                break;
+
+            case "rn":
+                operation = PlannerMetrics.Operation.MENU_REVERT_2_NAMED_BACKUP;
+                revert2NamedBackup(stdin);
+                break;
+
+            case "sv":
+                operation = PlannerMetrics.Operation.MENU_SAVE_PLANNER;
+                savePlanner(stdin);
+                break;
+
+            case "ld":
+                operation = PlannerMetrics.Operation.MENU_LOAD_PLANNER;
+                loadPlanner(stdin);
+                break;
+
+            case "im":
+                operation = PlannerMetrics.Operation.MENU_IMPORT_CATALOG;
+                importCatalog(stdin);
+                break;
+
+            case "m":
+                printMetrics();
+                break;
+
+            case "q":
+                runCondition = false;
+                break;
+
+            default:
+                System.out.println("\nInvalid input!!! please enter letters" +
+                        " that are operations from the menu...");
+        }
+
+        if (operation != null)
+            PlannerMetrics.recordNanos(operation, System.nanoTime() - start - (inputNanos - waited));
+
+    }
+
+    /**
+     * This method is called when the user inputs the (a/A) operation, it adds a new course to the planner at the specified position
+     * @param p
+     * The list in which the courses are stored
+     * @param stdin
+     * The Scanner variable used to accept input
+     */
+    public static void addCourse(Planner p, Scanner stdin) {
+        Course newCourse = readCourse(stdin);
+
+        while (true) {
+            int position = getInt(stdin, "Enter position: ", "Please enter an" +
+                    " integer position for the course");
+            try {
+                p.addCourse(newCourse, position);
+                final int added = position;
+                history.recordAdd(newCourse, added);
+                log(j -> j.logAdd(newCourse, added));
+                System.out.print("\n" + addedMessage(newCourse) + "\n");
+                for (PlannerEntry other : p.conflicts(newCourse))
+                    System.out.println(conflictWarning(newCourse, other));
+                for (PrerequisiteViolation violation : violations(prerequisites, p, added, added))
+                    System.out.println("Warning: " + violationMessage(violation));
+                break;
+            } catch (FullPlannerException ex) {
+                System.out.println("\n" + FULL_PLANNER_MESSAGE);
+            } catch (IllegalArgumentException ex) {
+                System.out.println("\nCould not add course to planner as:");
+                System.out.println(addPositionMessage(p));
+            }
+        }
+    }
+
+    /**
+     * This method is called when the user inputs the (aa/AA) operation, it adds several courses to the planner one after
+     * the other starting at the specified position, either all of them or none if they don't fit
+     * @param p
+     * The list in which the courses are stored
+     * @param stdin
+     * The Scanner variable used to accept input
+     */
+    public static void addCourses(Planner p, Scanner stdin) {
+        int count = getInt(stdin, "Enter number of courses: ", "Please enter an" +
+                " integer number of courses");
+        List<Course> newCourses = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            System.out.println("\nCourse " + i + " of " + count);
+            newCourses.add(readCourse(stdin));
+        }
+
+        while (true) {
+            int position = getInt(stdin, "Enter position: ", "Please enter an" +
+                    " integer position for the courses");
+            try {
+                p.addAll(position, newCourses);
+                history.recordAddAll(newCourses, position);
+                log(j -> logAddAll(j, newCourses, position));
+                System.out.print("\n" + addedAllMessage(newCourses.size()) + "\n");
+                for (PrerequisiteViolation violation : violations(prerequisites, p, position,
+                        position + newCourses.size() - 1))
+                    System.out.println("Warning: " + violationMessage(violation));
+                break;
+            } catch (FullPlannerException ex) {
+                System.out.println("\n" + FULL_PLANNER_MESSAGE);
+                break;
+            } catch (IllegalArgumentException ex) {
+                System.out.println("\nCould not add courses to planner as:");
+                System.out.println(addPositionMessage(p));
+            }
+        }
+    }
+
+    /**
+     * This method is called when the user inputs the (rr/RR) operation, it removes the courses from one position up to
+     * another one
+     * @param p
+     * The list from which the courses are to be removed
+     * @param stdin
+     * The Scanner variable used to collect input
+     */
+    public static void removeRange(Planner p, Scanner stdin){
+
+        int from = getInt(stdin, "Enter first position: ", "Please enter an " +
+                "integer position.");
+        int to = getInt(stdin, "Enter last position: ", "Please enter an " +
+                "integer position.");
+
+        try {
+            List<Course> removed = p.removeRange(from, to);
+            history.recordRemoveRange(removed, from);
+            log(j -> logRemoveRange(j, from, removed.size()));
+            System.out.println("\n" + removedAllMessage(removed.size()));
+        } catch (EmptyPlannerException ex){
+            System.out.println("\n" + EMPTY_REMOVE_MESSAGE);
+        } catch (IllegalArgumentException ex) {
+            System.out.print("\nCould not remove courses from planner as:\n");
+            System.out.println(removePositionMessage(p));
+        }
+    }
+
+    /**
+     * This method is called when the user inputs the (rm/RM) operation, it removes every course of a department or of
+     * an instructor
+     * @param p
+     * The list from which the courses are to be removed
+     * @param stdin
+     * The Scanner variable used to collect input
+     */
+    public static void removeMatching(Planner p, Scanner stdin){
+
+        String field = getString(stdin, "Remove courses by department or instructor (D/I): ");
+        String value = getString(stdin, "Enter department or instructor: ");
+
+        try {
+            List<PlannerEntry> removed = p.removeIf(courseMatcher(field, value));
+            history.recordRemoveAll(removed);
+            log(j -> logRemoveIf(j, removed));
+            System.out.println("\n" + removedAllMessage(removed.size()));
+        } catch (IllegalArgumentException ex) {
+            System.out.println("\n" + ex.getMessage());
+        }
+    }
+
+    /**
+     * This method builds the condition matching the courses of a department or of an instructor
+     * @param field
+     * D to match the department, I to match the instructor
+     * @param value
+     * The department or the instructor
+     * @return
+     * The condition
+     * @throws IllegalArgumentException
+     * When the field isn't one of the given letters
+     */
+    static Predicate<Course> courseMatcher(String field, String value){
+        if (field.equalsIgnoreCase("d"))
+            return course -> value.equals(course.getDepartment());
+        else if (field.equalsIgnoreCase("i"))
+            return course -> value.equals(course.getInstructor());
+        else
+            throw new IllegalArgumentException("Invalid input!!! please enter D or I for the field");
+    }
+
+    /**
+     * This method records courses added one after the other in the journal
+     * @param journal
+     * The journal
+     * @param added
+     * The courses that were added
+     * @param position
+     * The position of the first course
+     * @throws IOException
+     * When the journal can't be written
+     */
+    static void logAddAll(PlannerJournal journal, List<Course> added, int position) throws IOException {
+        for (int i = 0; i < added.size(); i++)
+            journal.logAdd(added.get(i), position + i);
+    }
+
+    /**
+     * This method records a range of removed courses in the journal
+     * @param journal
+     * The journal
+     * @param from
+     * The position of the first removed course
+     * @param count
+     * The number of removed courses
+     * @throws IOException
+     * When the journal can't be written
+     */
+    static void logRemoveRange(PlannerJournal journal, int from, int count) throws IOException {
+        for (int i = 0; i < count; i++)
+            journal.logRemove(from);
+    }
+
+    /**
+     * This method records courses removed from anywhere in the planner in the journal, last one first
+     * so every position is still valid when it is replayed
+     * @param journal
+     * The journal
+     * @param removed
+     * The removed courses with the positions they held
+     * @throws IOException
+     * When the journal can't be written
+     */
+    static void logRemoveIf(PlannerJournal journal, List<PlannerEntry> removed) throws IOException {
+        for (int i = removed.size() - 1; i >= 0; i--)
+            journal.logRemove(removed.get(i).getPosition());
+    }
+
+    /**
+     * This method is called when the user inputs the (g/G) operation, to display the information of a course at a given position
+     * @param p
+     * The list in which the courses are stored
+     * @param stdin
+     * The Scanner variable used to accept input
+     */
+    public static void getCourse(Planner p, Scanner stdin){
+
+        try {
+            int position = getInt(stdin, "Enter position: ", "Please enter an integer position");
+            Course course = p.getCourse(position);
+            CourseTableWriter.console().writeHeader().writeRow(position, course).flush();
+        } catch (IllegalArgumentException ex) {
+            System.out.println("\n" + getPositionMessage(p));
+        } catch (EmptyPlannerException ex) {
+            System.out.println("\n" + EMPTY_GET_MESSAGE);
+        }
+    }
+
+    /**
+     * This method is called when the user inputs the (r/R) operation, it removes a course at a given position
+     * @param p
+     * The list from which the course is to be removed
+     * @param stdin
+     * The Scanner variable used to collect input
+     */
+    public static void removeCourse(Planner p, Scanner stdin){
+
+        int position = getInt(stdin, "Enter position: ", "Please enter an " +
+                "integer position.");
+
+        try {
+            Course newCourse = p.getCourse(position);
+            p.removeCourse(position);
+            history.recordRemove(newCourse, position);
+            log(j -> j.logRemove(position));
+            System.out.println("\n" + removedMessage(newCourse));
+        } catch (EmptyPlannerException ex){
+
+            System.out.println("\n" + EMPTY_REMOVE_MESSAGE);
+        } catch (IllegalArgumentException ex) {
+            System.out.print("\nCould not remove course from planner as:\n");
+            System.out.println(removePositionMessage(p));
+        }
+
+    }
+
+    /**
+     * This method is called when the user inputs the (ps/PS) operation, it displays the courses in a chosen order
+     * with their positions
+     * @param p
+     * The list whose courses are displayed
+     * @param stdin
+     * The Scanner variable used to collect input
+     */
+    public static void printSorted(Planner p, Scanner stdin){
+
+        StringBuilder prompt = new StringBuilder("Sort by");
+        for (CourseOrder order : CourseOrder.values())
+            prompt.append(" (").append(order.getLetter()).append(") ").append(order.getDescription());
+        String letter = getString(stdin, prompt.append(": ").toString());
+
+        try {
+            CourseTableWriter.console().writeEntries(p.sorted(CourseOrder.fromLetter(letter))).flush();
+        } catch (IllegalArgumentException ex) {
+            System.out.println("\n" + ex.getMessage());
+        }
+    }
+
+    /**
+     * This method is called when the user inputs the (f/F) operation, it displays courses that match the given department code
+     * @param p
+     * The list from which the course is to be removed
+     * @param stdin
+     * The Scanner variable used to collect input
+     */
+    public static void filterCourse(Planner p, Scanner stdin){
+
+        String department = getString(stdin, "Enter department code: ");
+
+        Planner.filter(p, department);
+    }
+
+    /**
+     * This method is called when the user inputs the (rq/RQ) operation, it displays the courses of a department whose
+     * codes are within a range
+     * @param p
+     * The list in which the courses are searched
+     * @param stdin
+     * The Scanner variable used to collect input
+     */
+    public static void rangeQuery(Planner p, Scanner stdin){
+
+        String department = getString(stdin, "Enter department code: ");
+        int lo = getInt(stdin, "Enter lowest course code: ", "Invalid course code!!" +
+                " please enter an integer code");
+        int hi = getInt(stdin, "Enter highest course code: ", "Invalid course code!!" +
+                " please enter an integer code");
+
+        CourseTableWriter.console().writeEntries(p.rangeQuery(department, lo, hi)).flush();
+    }
+
+    /**
+     * This method is called when the user inputs the (l/L) operation, it determines whether the course with the given attributes is in the list.
+     * @param p
+     * The list form which teh course is to be searched
+     * @param stdin
+     * The Scanner variable used to collect input
+     */
+    public static void plannerSearch(Planner p, Scanner stdin){
+
+        String name = getString(stdin, "Enter course name: ");
+        String department = getString(stdin, "Enter department: ");
+        int code = getInt(stdin, "Enter course code: ", "Invalid course code!!" +
+                " please enter an integer codee");
+        byte section = getByte(stdin, "Enter course section: ", "Invalid course" +
+                " section!!! please enter an integer from 1 to 127");
+        String instructor = getString(stdin, "Enter instructor: ");
+        Course newCourse = Course.probe(name, department, code, section, instructor);
+
+        System.out.println("\n" + searchMessage(p, newCourse));
+    }
+
+    /**
+     * This method is called when the user inputs the (t/T) operation, it displays the courses whose name or instructor
+     * starts with or contains the given text
+     * @param p
+     * The list in which the courses are searched
+     * @param stdin
+     * The Scanner variable used to collect input
+     */
+    public static void textSearch(Planner p, Scanner stdin){
+
+        String field = getString(stdin, "Search names or instructors (N/I): ");
+        String match = getString(stdin, "Match the start or anywhere (S/A): ");
+        String text = getString(stdin, "Enter text: ");
+
+        try {
+            CourseTableWriter.console().writeEntries(searchText(p, field, match, text)).flush();
+        } catch (IllegalArgumentException ex) {
+            System.out.println("\n" + ex.getMessage());
+        }
+    }
+
+    /**
+     * This method finds the courses whose name or instructor starts with or contains the given text
+     * @param p
+     * The list in which the courses are searched
+     * @param field
+     * N to search the names, I to search the instructors
+     * @param match
+     * S to match the start of the field, A to match anywhere in it
+     * @param text
+     * The text we are looking for
+     * @return
+     * The matching courses with their positions
+     * @throws IllegalArgumentException
+     * When the field or the match isn't one of the given letters
+     */
+    static List<PlannerEntry> searchText(Planner p, String field, String match, String text){
+        boolean prefix;
+        if (match.equalsIgnoreCase("s"))
+            prefix = true;
+        else if (match.equalsIgnoreCase("a"))
+            prefix = false;
+        else
+            throw new IllegalArgumentException("Invalid input!!! please enter S or A for the match");
+
+        if (field.equalsIgnoreCase("n"))
+            return p.searchNames(text, prefix);
+        else if (field.equalsIgnoreCase("i"))
+            return p.searchInstructors(text, prefix);
+        else
+            throw new IllegalArgumentException("Invalid input!!! please enter N or I for the field");
+    }
+
+    /**
+     * This method is called when the user inputs the (sc/SC) operation, it displays every pair of courses meeting at
+     * the same time
+     * @param p
+     * The list whose courses are checked
+     */
+    public static void scheduleConflicts(Planner p){
+        List<CourseConflict> conflicts = p.conflictReport();
+        if (conflicts.isEmpty()) {
+            System.out.println("No schedule conflicts in the planner...");
+            return;
+        }
+        for (CourseConflict conflict : conflicts)
+            System.out.println(conflictMessage(conflict));
+    }
+
+    /**
+     * This method builds the warning shown when a course added to the planner meets at the same time as another one
+     * @param course
+     * The course that was added
+     * @param other
+     * The course meeting at the same time, with its position
+     * @return
+     * The message
+     */
+    static String conflictWarning(Course course, PlannerEntry other) {
+        return "Warning: " + courseId(course) + " meets at the same time as " + courseId(other.getCourse()) +
+                " at position " + other.getPosition();
+    }
+
+    /**
+     * This method builds the line describing two courses meeting at the same time
+     * @param conflict
+     * The courses and the first day and time they overlap
+     * @return
+     * The message
+     */
+    static String conflictMessage(CourseConflict conflict) {
+        return courseId(conflict.getFirst().getCourse()) + " at position " + conflict.getFirst().getPosition() +
+                " and " + courseId(conflict.getSecond().getCourse()) + " at position " +
+                conflict.getSecond().getPosition() + " both meet on " +
+                conflict.getDay().getDisplayName(TextStyle.SHORT, Locale.ENGLISH) + " " +
+                MeetingTime.formatClock(conflict.getStart()) + "-" + MeetingTime.formatClock(conflict.getEnd());
+    }
+
+    /**
+     * This method is called when the user inputs the (pr/PR) operation, it records that a course can only be taken
+     * after another one
+     * @param stdin
+     * The Scanner variable used to collect input
+     */
+    public static void addPrerequisite(Scanner stdin){
+        String department = getString(stdin, "Enter department: ");
+        int code = getInt(stdin, "Enter course code: ", "Invalid course code!" +
+                " Please enter an integer code");
+        String prerequisiteDepartment = getString(stdin, "Enter prerequisite department: ");
+        int prerequisiteCode = getInt(stdin, "Enter prerequisite course code: ", "Invalid course code!" +
+                " Please enter an integer code");
+        try {
+            prerequisites.addPrerequisite(department, code, prerequisiteDepartment, prerequisiteCode);
+            System.out.println("\n" + prerequisiteMessage(department, code, prerequisiteDepartment, prerequisiteCode));
+        } catch (IllegalArgumentException ex) {
+            System.out.println("\n" + ex.getMessage());
+        }
+    }
+
+    /**
+     * This method is called when the user inputs the (vp/VP) operation, it displays every course of the planner coming
+     * before one of its prerequisites
+     * @param p
+     * The list whose order is checked
+     */
+    public static void validatePrerequisites(Planner p){
+        List<PrerequisiteViolation> violations = prerequisites.validate(p);
+        if (violations.isEmpty()) {
+            System.out.println("Every course in the planner comes after its prerequisites...");
+            return;
+        }
+        for (PrerequisiteViolation violation : violations)
+            System.out.println(violationMessage(violation));
+    }
+
+    /**
+     * This method checks the order of a planner after courses are added to it, keeping only the violations the added
+     * courses are part of
+     * @param prerequisites
+     * The prerequisites the planner is checked against
+     * @param p
+     * The list the courses were added to
+     * @param from
+     * The position of the first added course
+     * @param to
+     * The position of the last added course
+     * @return
+     * The violations with the course or its prerequisite between both positions
+     */
+    static List<PrerequisiteViolation> violations(PrerequisiteGraph prerequisites, Planner p, int from, int to) {
+        List<PrerequisiteViolation> ret = new ArrayList<>();
+        if (prerequisites.prerequisiteCount() == 0)
+            return ret;
+        for (PrerequisiteViolation violation : prerequisites.validate(p)) {
+            int course = violation.getCourse().getPosition();
+            int prerequisite = violation.getPrerequisite().getPosition();
+            if ((course >= from && course <= to) || (prerequisite >= from && prerequisite <= to))
+                ret.add(violation);
+        }
+        return ret;
+    }
+
+    /**
+     * This method builds the message shown after a prerequisite is recorded
+     * @param department
+     * The department of the course
+     * @param code
+     * The code of the course
+     * @param prerequisiteDepartment
+     * The department of the prerequisite
+     * @param prerequisiteCode
+     * The code of the prerequisite
+     * @return
+     * The message
+     */
+    static String prerequisiteMessage(String department, int code, String prerequisiteDepartment,
+                                      int prerequisiteCode) {
+        return department + " " + code + " now requires " + prerequisiteDepartment + " " + prerequisiteCode + ".";
+    }
+
+    /**
+     * This method builds the line describing a course coming before one of its prerequisites
+     * @param violation
+     * The course and the prerequisite coming after it, with their positions
+     * @return
+     * The message
+     */
+    static String violationMessage(PrerequisiteViolation violation) {
+        return courseId(violation.getCourse().getCourse()) + " at position " + violation.getCourse().getPosition() +
+                " comes before its prerequisite " + courseId(violation.getPrerequisite().getCourse()) +
+                " at position " + violation.getPrerequisite().getPosition();
+    }
+
+    /**
+     * This method is called when the user inputs the (sv/SV) operation, it saves the current Planner to a file
+     * @param stdin
+     * The Scanner variable used to collect input
+     */
+    public static void savePlanner(Scanner stdin){
+        String file = getString(stdin, "Enter file name: ");
+        try {
+            PlannerFile.save(p, Path.of(file));
+            System.out.println("\nSaved " + p.size() + " courses to " + file);
+        } catch (IOException | InvalidPathException ex) {
+            System.out.println("\n" + saveErrorMessage(ex));
+        }
+    }
+
+    /**
+     * This method is called when the user inputs the (ld/LD) operation, it replaces the current Planner with one saved to a file
+     * @param stdin
+     * The Scanner variable used to collect input
+     */
+    public static void loadPlanner(Scanner stdin){
+        String file = getString(stdin, "Enter file name: ");
+        try {
+            Planner loaded = PlannerFile.load(Path.of(file));
+            history.recordReplace(p);
+            p = loaded;
+            System.out.println("\nLoaded " + p.size() + " courses from " + file);
+            log(j -> j.checkpoint(p, backups));
+        } catch (IOException | InvalidPathException ex) {
+            System.out.println("\n" + loadErrorMessage(ex));
+        }
+    }
+
+    /**
+     * This method is called when the user inputs the (im/IM) operation, it replaces the current Planner with the courses
+     * of a CSV catalog and lists the rows that were left out
+     * @param stdin
+     * The Scanner variable used to collect input
+     */
+    public static void importCatalog(Scanner stdin){
+        String file = getString(stdin, "Enter file name: ");
+        try {
+            CatalogImport catalog = CatalogImport.load(Path.of(file), p.getMaxCourses());
+            history.recordReplace(p);
+            p = catalog.getPlanner();
+            System.out.println("\n" + importMessage(catalog, file));
+            log(j -> j.checkpoint(p, backups));
+        } catch (IOException | InvalidPathException ex) {
+            System.out.println("\n" + importErrorMessage(ex));
+        }
+    }
+
+    /**
+     * This method builds the message shown after a catalog is imported
+     * @param catalog
+     * The result of the import
+     * @param file
+     * The file the catalog was imported from
+     * @return
+     * The message, followed by a line for each row that was left out
+     */
+    static String importMessage(CatalogImport catalog, String file) {
+        StringBuilder message = new StringBuilder("Imported " + catalog.getPlanner().size() + " courses from " + file);
+        if (!catalog.getErrors().isEmpty()) {
+            message.append(", left out ").append(catalog.getErrors().size()).append(" of ")
+                    .append(catalog.getRows()).append(" rows:");
+            for (String error : catalog.getErrors())
+                message.append("\n  ").append(error);
+        }
+        return message.toString();
+    }
+
+    /**
+     * This method builds the message shown when a catalog can't be imported
+     * @param ex
+     * The reason the catalog couldn't be imported
+     * @return
+     * The message
+     */
+    static String importErrorMessage(Exception ex) {
+        return "Could not import catalog: " + ex.getMessage();
+    }
+
+    /**
+     * This method builds the message shown when a planner can't be saved
+     * @param ex
+     * The reason the planner couldn't be saved
+     * @return
+     * The message
+     */
+    static String saveErrorMessage(Exception ex) {
+        return "Could not save planner: " + ex.getMessage();
+    }
+
+    /**
+     * This method builds the message shown when a planner can't be loaded
+     * @param ex
+     * The reason the planner couldn't be loaded
+     * @return
+     * The message
+     */
+    static String loadErrorMessage(Exception ex) {
+        return "Could not load planner: " + ex.getMessage();
+    }
+
+    /**
+     * This method builds the message shown after a course is added
+     * @param course
+     * The course that was added
+     * @return
+     * The message
+     */
+    static String addedMessage(Course course) {
+        return courseId(course) + " successfully added to planner.";
+    }
+
+    /**
+     * This method builds the message shown after several courses are added
+     * @param count
+     * The number of courses that were added
+     * @return
+     * The message
+     */
+    static String addedAllMessage(int count) {
+        return count + " courses successfully added to planner.";
+    }
+
+    /**
+     * This method builds the message shown after several courses are removed
+     * @param count
+     * The number of courses that were removed
+     * @return
+     * The message
+     */
+    static String removedAllMessage(int count) {
+        return count + " courses successfully removed from planner.";
+    }
+
+    /**
+     * This method builds the message shown after a course is removed
+     * @param course
+     * The course that was removed
+     * @return
+     * The message
+     */
+    static String removedMessage(Course course) {
+        return courseId(course) + " successfully removed from planner.";
+    }
+
+    /**
+     * This method builds the message shown when a course can't be added at a position
+     * @param p
+     * The list the course was added to
+     * @return
+     * The message
+     */
+    static String addPositionMessage(Planner p) {
+        if (p.size() == 0) {
+            return "Invalid position!! as there are currently " +
+                    p.size() + " courses in the planner, please add courses in" +
+                    " an ascending order sequence starting from 1!!";
+        }
+        return "Invalid position!! as there are currently " +
+                p.size() + " courses in the planner,please add courses " +
+                "from either 1 to " + (p.size() + 1);
+    }
+
+    /**
+     * This method builds the message shown when there is no course to get at a position
+     * @param p
+     * The list the course was looked up in
+     * @return
+     * The message
+     */
+    static String getPositionMessage(Planner p) {
+        return "Invalid position!! as there are currently " +
+                p.size() + " courses in the planner,\nplease choose courses " +
+                "from either 1 to " + p.size();
+    }
+
+    /**
+     * This method builds the message shown when there is no course to remove at a position
+     * @param p
+     * The list the course was removed from
+     * @return
+     * The message
+     */
+    static String removePositionMessage(Planner p) {
+        if (p.size() == 0) {
+            return "Invalid operation!! as there are currently " +
+                    "no courses in the planner, please add courses in" +
+                    " an ascending order sequence starting from 1 " +
+                    "in order to remove courses from it!!";
+        }
+        return "Invalid position!! as there are currently " +
+                p.size() + " courses in the planner, please add courses " +
+                "from either 1 to " + (p.size() + 1);
+    }
+
+    /**
+     * This method looks for a course in the planner and builds the message describing the result
+     * @param p
+     * The list in which the course is searched
+     * @param course
+     * The course we are looking for, null when it was built by Course.probe for a department or instructor no
+     * course has
+     * @return
+     * The message
+     */
+    static String searchMessage(Planner p, Course course) {
+        try{
+            if(course == null && p.size() == 0)
+                throw new EmptyPlannerException("No items in list");
+            if(course != null && p.exists(course)){
+                return courseId(course) + " is found in the planner at position " +
+                        p.indexOf(course);
+            }
+            return "Course not found in planner...";
+        } catch (EmptyPlannerException exception){
+            return "Course does not exist as planner is empty...";
+        }
+    }
+
+    //Builds the short name of a course, like CSE 214.1
+    private static String courseId(Course course) {
+        return course.getDepartment() + " " + course.getCode() + "." + course.getSection();
+    }
+
+    /**
+     * This method is called when the user inputs the (m/M) operation, it displays how often each operation was called and how long it took, leaving out the time spent waiting for input, along with the size of the planner and its backups
+     */
+    public static void printMetrics(){
+        StringBuilder table = new StringBuilder();
+        PlannerMetrics.writeTo(table);
+        System.out.print(table);
+    }
+
+    /**
+     * This method is called when the user inputs the (s/S) operation, it determines the number of courses in the planner
+     * @param p
+     * The list whose size is to be determined
+     */
+    public static void plannerSize(Planner p){
+        System.out.print("There are " + p.size() + " courses in the planner\n");
+    }
+
+    /**
+     * This method is called when the user inputs the (b/B) operation, it creates a snapshot of the given Planner. Changes to the snapshot will not affect the original and vice versa.
+     */
+    public static void plannerBackup(){
+        String name = backups.save(p);
+        log(j -> j.logBackup(name));
+        System.out.println("\n Created Backup " + name + " of the current planner");
+    }
+
+    /**
+     * This method is called when the user inputs the (pb/PB) operation, it displays all the courses from the most recent backup.
+     */
+    public static void printBackup(){
+        backups.latest().printAllCourses();
+    }
+
+    /**
+     * This method is called when the user inputs the (db/DB) operation, it displays the courses removed, added and moved
+     * since the most recent backup, which reverting to the backup would undo.
+     */
+    public static void diffBackup(){
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out));
+        PlannerDiff.writeTo(backups.latest(), p, out);
+    }
+
+    /**
+     * This method finds a backup by its name
+     * @param backups
+     * The backups to be searched
+     * @param name
+     * The name of the backup
+     * @return
+     * The backup, it must not be changed
+     * @throws IllegalArgumentException
+     * When there is no backup with that name
+     */
+    static Planner findBackup(PlannerBackups backups, String name){
+        Planner backup = backups.get(name);
+        if (backup == null)
+            throw new IllegalArgumentException("No backup named " + name + " exists...");
+        return backup;
+    }
+
+    /**
+     * This method is called when the user inputs the (rb/RB) operation, it reverts the current Planner to the most recent backup.
+     */
+    public static void revert2Backup(){
+        history.recordReplace(p);
+        p = backups.restoreLatest(p.getMaxCourses());
+        log(j -> j.logRevert(null));
+    }
+
+    /**
+     * This method is called when the user inputs the (nb/NB) operation, it creates a snapshot of the Planner under a name chosen by the user
+     * @param stdin
+     * The Scanner variable used to collect input
+     */
+    public static void namedBackup(Scanner stdin){
+        String name = getString(stdin, "Enter backup name: ");
+        backups.save(name, p);
+        log(j -> j.logBackup(name));
+        System.out.println("\n Created Backup " + name + " of the current planner");
+    }
+
+    /**
+     * This method is called when the user inputs the (lb/LB) operation, it displays the names of all the backups
+     */
+    public static void listBackups(){
+        if (backups.names().isEmpty()) {
+            System.out.println("No backups have been created...");
+            return;
+        }
+        for (String name : backups.names()) {
+            System.out.println(name + " (" + backups.get(name).size() + " courses)");
+        }
+    }
+
+    /**
+     * This method is called when the user inputs the (rn/RN) operation, it reverts the current Planner to a backup chosen by name
+     * @param stdin
+     * The Scanner variable used to collect input
+     */
+    public static void revert2NamedBackup(Scanner stdin){
+        String name = getString(stdin, "Enter backup name: ");
+        try {
+            Planner restored = backups.restore(name);
+            history.recordReplace(p);
+            p = restored;
+            log(j -> j.logRevert(name));
+            System.out.println("\nPlanner reverted to backup " + name);
+        } catch (IllegalArgumentException ex) {
+            System.out.println("\nNo backup named " + name + " exists...");
+        }
+    }
+
+    /**
+     * This method is called when the user inputs the (u/U) operation, it undoes the most recent change to the planner
+     * that wasn't undone, the oldest changes being forgotten once they take too much memory
+     */
+    public static void undo(){
+        if (!history.canUndo()) {
+            System.out.println("Nothing to undo...");
+            return;
+        }
+        p = history.undo(p, historyLogger());
+        System.out.println(undoMessage(history));
+    }
+
+    /**
+     * This method is called when the user inputs the (rd/RD) operation, it redoes the most recently undone change to
+     * the planner, which is no longer possible once another change is made
+     */
+    public static void redo(){
+        if (!history.canRedo()) {
+            System.out.println("Nothing to redo...");
+            return;
+        }
+        p = history.redo(p, historyLogger());
+        System.out.println(redoMessage(history));
+    }
+
+    //Records the changes made to the planner by an undo or a redo in the journal
+    private static PlannerHistory.Listener historyLogger() {
+        return new PlannerHistory.Listener() {
+            @Override
+            public void added(int position, List<Course> courses) {
+                log(j -> logAddAll(j, courses, position));
+            }
+
+            @Override
+            public void removed(int position, int count) {
+                log(j -> logRemoveRange(j, position, count));
+            }
+
+            @Override
+            public void replaced(Planner planner) {
+                p = planner;
+                log(j -> j.checkpoint(p, backups));
+            }
+        };
+    }
+
+    /**
+     * This method builds the message shown after a change is undone
+     * @param history
+     * The history the change was undone from
+     * @return
+     * The message
+     */
+    static String undoMessage(PlannerHistory history) {
+        return "Undid the last change, " + history.undoCount() + " more can be undone.";
+    }
+
+    /**
+     * This method builds the message shown after a change is redone
+     * @param history
+     * The history the change was redone from
+     * @return
+     * The message
+     */
+    static String redoMessage(PlannerHistory history) {
+        return "Redid the last undone change, " + history.redoCount() + " more can be redone.";
+    }
+
+    /**
+     * This method is used to collect the name, department, code, section, instructor and meeting times of a course
+     * @param stdin
+     * The Scanner variable used to collect input
+     * @return
+     * The course
+     */
+    private static Course readCourse(Scanner stdin) {
+        String name = getString(stdin, "Enter course name: ");
+        String department = getString(stdin, "Enter department: ");
+        int code = getInt(stdin, "Enter course code: ", "Invalid course code!" +
+                " Please enter an integer code");
+        byte section = getByte(stdin, "Enter course section: ", "Invalid course " +
+                "section!! Please enter an integer from 1 to 127");
+        String instructor = getString(stdin, "Enter instructor: ");
+
+        Course course = new Course(name, department, code, section, instructor);
+        course.setMeetings(getMeetings(stdin));
+        return course;
+    }
+
+    /**
+     * This method is used to collect the meeting times of a course, which may be left blank
+     * @param stdin
+     * The Scanner variable used to collect input
+     * @return
+     * The meeting times, empty if left blank
+     */
+    private static List<MeetingTime> getMeetings(Scanner stdin) {
+        while (true) {
+            System.out.print("Enter meeting times like MWF 10:00-10:53, R 14:00-15:20 (blank for none): ");
+            String line = readLine(stdin);
+
+            try {
+                return MeetingTime.parseAll(line);
+            } catch (IllegalArgumentException ex) {
+                System.out.println(ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * This method is used to collect integer type input from the terminal/console
+     * @param stdin
+     * The Scanner variable used to collect input
+     * @param instruction
+     * The message to be displayed
+     * @param invalidMessage
+     * The message to be displayed when input is invalid
+     * @return
+     * The inputted integer
+     */
+    private static int getInt(Scanner stdin, String instruction,
+                              String invalidMessage) {
+        while (true) {
+            System.out.print(instruction);
+            String line = readLine(stdin);
+
+            try {
+                int value = Integer.parseInt(line);
+                return value;
+            } catch (NumberFormatException ex) {
+                System.out.println(invalidMessage);
+            }
+        }
+    }
+
+    /**
+     * This method is used to collect String type input from the terminal/console
+     * @param stdin
+     * The Scanner variable used to collect input
+     * @param instruction
+     * The message to be displayed
+     * @return
+     * The inputted String
+     */
+    private static String getString(Scanner stdin, String instruction) {
+        System.out.print(instruction);
+        String line = "";
+
+        while (line.isBlank() || line.isEmpty()) {
+            line = readLine(stdin);
+        }
+
+        return line;
+    }
+
+    //Reads a line of input, adding the time spent waiting for it to inputNanos
+    private static String readLine(Scanner stdin) {
+        long start = System.nanoTime();
+        String line = stdin.nextLine();
+        inputNanos += System.nanoTime() - start;
+        return line;
+    }
+
+    /**
+     * This method is used to collect byte type input from the terminal/console
+     * @param stdin
+     * The Scanner variable used to collect input
+     * @param instruction
+     * The message to be displayed
+     * @param invalidMessage
+     * The message to be displayed when input is invalid
+     * @return
+     * The inputted byte type number
+     */
+    private static byte getByte(Scanner stdin, String instruction,
+                                String invalidMessage) {
+        while (true) {
+            System.out.print(instruction);
+            String line = readLine(stdin);
+
+            try {
+                byte value = Byte.parseByte(line);
+                return value;
+            } catch (NumberFormatException ex) {
+                System.out.println(invalidMessage);
+            }
+        }
+    }
+
+}
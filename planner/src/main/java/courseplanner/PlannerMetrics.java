@@ -0,0 +1,346 @@
+package courseplanner;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The <code>PlannerMetrics</code> class records how often each planner operation is called and how
+ * long it takes, in a <code>LatencyHistogram</code> per operation, along with gauges such as the size
+ * of the planner. The operations are those of the <code>Planner</code> and the commands of the menu.
+ * <br>An operation is timed by calling start before it and record after it, which takes two reads of
+ * the clock and allocates nothing. Recording can be turned off, start and record then only read a
+ * flag. The operations of the <code>Planner</code> itself run far more often than menu commands and
+ * can take well under a microsecond, so they are only timed once setPlannerTimed turns them on, as the
+ * menu of <code>PlannerManager</code> does. The metrics can be printed as a table and are published
+ * over JMX by registerMBeans.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class PlannerMetrics {
+
+    /**
+     * The operations timed by the metrics
+     */
+    public enum Operation {
+        ADD_COURSE("Planner.addCourse"),
+        REMOVE_COURSE("Planner.removeCourse"),
+        ADD_ALL("Planner.addAll"),
+        REMOVE_RANGE("Planner.removeRange"),
+        REMOVE_IF("Planner.removeIf"),
+        GET_COURSE("Planner.getCourse"),
+        FILTER("Planner.filter"),
+        RANGE_QUERY("Planner.rangeQuery"),
+        EXISTS("Planner.exists"),
+        INDEX_OF("Planner.indexOf"),
+        SEARCH("Planner.search"),
+        CONFLICTS("Planner.conflicts"),
+        CONFLICT_REPORT("Planner.conflictReport"),
+        CLONE("Planner.clone"),
+        SNAPSHOT("Planner.snapshot"),
+        MENU_ADD_COURSE("addCourse"),
+        MENU_GET_COURSE("getCourse"),
+        MENU_REMOVE_COURSE("removeCourse"),
+        MENU_ADD_COURSES("addCourses"),
+        MENU_REMOVE_RANGE("removeRange"),
+        MENU_REMOVE_MATCHING("removeMatching"),
+        MENU_UNDO("undo"),
+        MENU_REDO("redo"),
+        MENU_PRINT_ALL_COURSES("printAllCourses"),
+        MENU_PRINT_SORTED("printSorted"),
+        MENU_FILTER_COURSE("filterCourse"),
+        MENU_RANGE_QUERY("rangeQuery"),
+        MENU_PLANNER_SEARCH("plannerSearch"),
+        MENU_TEXT_SEARCH("textSearch"),
+        MENU_SCHEDULE_CONFLICTS("scheduleConflicts"),
+        MENU_ADD_PREREQUISITE("addPrerequisite"),
+        MENU_VALIDATE_PREREQUISITES("validatePrerequisites"),
+        MENU_PLANNER_SIZE("plannerSize"),
+        MENU_PLANNER_BACKUP("plannerBackup"),
+        MENU_PRINT_BACKUP("printBackup"),
+        MENU_DIFF_BACKUP("diffBackup"),
+        MENU_REVERT_2_BACKUP("revert2Backup"),
+        MENU_NAMED_BACKUP("namedBackup"),
+        MENU_LIST_BACKUPS("listBackups"),
+        MENU_REVERT_2_NAMED_BACKUP("revert2NamedBackup"),
+        MENU_SAVE_PLANNER("savePlanner"),
+        MENU_LOAD_PLANNER("loadPlanner"),
+        MENU_IMPORT_CATALOG("importCatalog");
+
+        //The name shown for the operation
+        private final String displayName;
+
+        Operation(String displayName) {
+            this.displayName = displayName;
+        }
+
+        /**
+         * This is a getter method for the name shown for the operation
+         * @return
+         *  The name of the operation
+         */
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    /**
+     * The metrics of an operation as published over JMX
+     */
+    public interface OperationMXBean {
+        long getCount();
+        double getMeanMicros();
+        double getP50Micros();
+        double getP90Micros();
+        double getP99Micros();
+        double getP999Micros();
+        double getMaxMicros();
+        void reset();
+    }
+
+    /**
+     * A gauge as published over JMX
+     */
+    public interface GaugeMXBean {
+        long getValue();
+    }
+
+    //The value returned by start when recording is off
+    private static final long DISABLED = Long.MIN_VALUE;
+
+    //The domain of the names the metrics are published under over JMX
+    private static final String JMX_DOMAIN = "courseplanner";
+
+    //The histogram of every operation, by ordinal
+    private static final LatencyHistogram[] HISTOGRAMS = new LatencyHistogram[Operation.values().length];
+
+    //The gauges by name
+    private static final Map<String, LongSupplier> GAUGES = new ConcurrentSkipListMap<>();
+
+    //Whether the operations are timed
+    private static volatile boolean enabled = true;
+
+    //Whether the operations of the planner itself are asked to be timed, and whether they are timed now
+    private static volatile boolean plannerAsked = false;
+    private static volatile boolean plannerTimed = false;
+
+    static {
+        for (int i = 0; i < HISTOGRAMS.length; i++)
+            HISTOGRAMS[i] = new LatencyHistogram();
+    }
+
+    private PlannerMetrics() {
+    }
+
+    /**
+     * This method is called before an operation of the planner itself
+     * @return
+     *  The time the operation started, to be passed to record, or a value telling record to ignore it
+     *  when the operations of the planner aren't timed
+     */
+    public static long start() {
+        return plannerTimed ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * This method is called after an operation, it records the time taken since start
+     * @param operation
+     *  The operation that ended
+     * @param start
+     *  The value returned by start before the operation
+     */
+    public static void record(Operation operation, long start) {
+        if (start != DISABLED)
+            HISTOGRAMS[operation.ordinal()].record(System.nanoTime() - start);
+    }
+
+    /**
+     * This method records an operation whose time was measured by the caller
+     * @param operation
+     *  The operation that ended
+     * @param nanos
+     *  The time taken by the operation in nanoseconds
+     */
+    public static void recordNanos(Operation operation, long nanos) {
+        if (enabled)
+            HISTOGRAMS[operation.ordinal()].record(nanos);
+    }
+
+    /**
+     * This method returns the histogram of an operation
+     * @param operation
+     *  The operation
+     * @return
+     *  The histogram of the times taken by the operation
+     */
+    public static LatencyHistogram histogram(Operation operation) {
+        return HISTOGRAMS[operation.ordinal()];
+    }
+
+    /**
+     * This method adds a gauge, replacing the gauge of the same name if there is one
+     * @param name
+     *  The name of the gauge
+     * @param value
+     *  The function reading the current value of the gauge
+     */
+    public static void gauge(String name, LongSupplier value) {
+        GAUGES.put(name, value);
+    }
+
+    /**
+     * This method turns the timing of the operations on or off
+     * @param on
+     *  Whether the operations should be timed
+     */
+    public static synchronized void setEnabled(boolean on) {
+        enabled = on;
+        plannerTimed = on && plannerAsked;
+    }
+
+    /**
+     * This method turns the timing of the operations of the planner itself on or off, they are off
+     * until it is called. They are only timed while the operations are timed at all
+     * @param on
+     *  Whether the operations of the planner should be timed
+     */
+    public static synchronized void setPlannerTimed(boolean on) {
+        plannerAsked = on;
+        plannerTimed = on && enabled;
+    }
+
+    /**
+     * This method clears the histograms of all the operations
+     */
+    public static void reset() {
+        for (LatencyHistogram histogram : HISTOGRAMS)
+            histogram.reset();
+    }
+
+    /**
+     * This method writes a table of the operations called so far with their latencies in
+     * microseconds, followed by the gauges
+     * @param out
+     *  The destination of the table
+     */
+    public static void writeTo(StringBuilder out) {
+        out.append(String.format("%-26s %10s %10s %10s %10s %10s %10s%n", "Operation", "Count",
+                "Mean us", "p50 us", "p90 us", "p99 us", "Max us"));
+        out.append("-".repeat(92)).append(String.format("%n"));
+        boolean any = false;
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram histogram = histogram(operation);
+            if (histogram.count() == 0)
+                continue;
+            any = true;
+            out.append(String.format("%-26s %10d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                    operation.getDisplayName(), histogram.count(), histogram.mean() / 1000,
+                    micros(histogram.percentile(50)), micros(histogram.percentile(90)),
+                    micros(histogram.percentile(99)), micros(histogram.max())));
+        }
+        if (!any)
+            out.append(String.format("No operations recorded yet%n"));
+        for (Map.Entry<String, LongSupplier> gauge : GAUGES.entrySet())
+            out.append(String.format("%-26s %10d%n", gauge.getKey(), gauge.getValue().getAsLong()));
+    }
+
+    /**
+     * This method publishes an MBean for every operation and gauge to the platform MBean server,
+     * under the courseplanner domain. Gauges added afterwards are not published
+     * @return
+     *  The names of the MBeans registered
+     * @throws JMException
+     *  When an MBean can't be registered
+     */
+    public static List<ObjectName> registerMBeans() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        List<ObjectName> names = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=Operation,name="
+                    + operation.getDisplayName());
+            if (!server.isRegistered(name))
+                server.registerMBean(new OperationBean(histogram(operation)), name);
+            names.add(name);
+        }
+        for (Map.Entry<String, LongSupplier> gauge : GAUGES.entrySet()) {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=Gauge,name=" + gauge.getKey());
+            if (!server.isRegistered(name))
+                server.registerMBean(new GaugeBean(gauge.getValue()), name);
+            names.add(name);
+        }
+        return names;
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    /**
+     * The MBean publishing the histogram of an operation
+     */
+    private static class OperationBean implements OperationMXBean {
+
+        //The histogram published
+        private final LatencyHistogram histogram;
+
+        OperationBean(LatencyHistogram histogram) {
+            this.histogram = histogram;
+        }
+
+        public long getCount() {
+            return histogram.count();
+        }
+
+        public double getMeanMicros() {
+            return histogram.mean() / 1000;
+        }
+
+        public double getP50Micros() {
+            return micros(histogram.percentile(50));
+        }
+
+        public double getP90Micros() {
+            return micros(histogram.percentile(90));
+        }
+
+        public double getP99Micros() {
+            return micros(histogram.percentile(99));
+        }
+
+        public double getP999Micros() {
+            return micros(histogram.percentile(99.9));
+        }
+
+        public double getMaxMicros() {
+            return micros(histogram.max());
+        }
+
+        public void reset() {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * The MBean publishing a gauge
+     */
+    private static class GaugeBean implements GaugeMXBean {
+
+        //The function reading the value of the gauge
+        private final LongSupplier value;
+
+        GaugeBean(LongSupplier value) {
+            this.value = value;
+        }
+
+        public long getValue() {
+            return value.getAsLong();
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package courseplanner;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The <code>PlannerRegistry</code> class holds the planners of many students, keyed by student id,
+ * for use by many threads at once.
+ * <br>The students are spread over a fixed number of shards by the hash of their id, each shard
+ * being a map guarded by its own lock, so threads working for students of different shards never
+ * wait for each other. A shard lock is only held to find or create a student; the operations on a
+ * planner run under the lock of that student alone, so a slow operation only delays the same student.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class PlannerRegistry {
+
+    //The number of shards used by the default constructor
+    public static final int DEFAULT_SHARDS = 64;
+
+    //The shards, their number is a power of 2
+    private final Shard[] shards;
+
+    //The max limit for the number of courses in the planner of a new student
+    private final int maxCourses;
+
+    /**
+     * This the default constructor used to create a new PlannerRegistry object without any students
+     */
+    public PlannerRegistry() {
+        this(DEFAULT_SHARDS, Planner.DEFAULT_MAX_COURSES);
+    }
+
+    /**
+     * This is a constructor used to create a new PlannerRegistry object without any students
+     * @param shardCount
+     *  The least number of shards, rounded up to a power of 2
+     * @param maxCourses
+     *  The max limit for the number of courses in the planner of a new student
+     * @throws IllegalArgumentException
+     *  When the number of shards isn't positive or the limit is negative
+     */
+    public PlannerRegistry(int shardCount, int maxCourses) {
+        if (shardCount < 1 || shardCount > 1 << 16)
+            throw new IllegalArgumentException("The number of shards must be from 1 to 65536");
+        if (maxCourses < 0)
+            throw new IllegalArgumentException("Max courses can't be negative");
+        int size = 1;
+        while (size < shardCount)
+            size <<= 1;
+        this.shards = new Shard[size];
+        for (int i = 0; i < size; i++)
+            shards[i] = new Shard();
+        this.maxCourses = maxCourses;
+    }
+
+    /**
+     * An operation on the planner of a student, which may throw a checked exception
+     * @param <T>
+     *  The type of the result
+     * @param <E>
+     *  The type of the checked exception
+     */
+    public interface Action<T, E extends Exception> {
+        T apply(StudentPlanner student) throws E;
+    }
+
+    /**
+     * This method runs an operation on the planner of a student while holding the lock of the student,
+     * the student is given an empty planner if they don't have one yet
+     * @param studentId
+     *  The id of the student
+     * @param action
+     *  The operation
+     * @return
+     *  The result of the operation
+     * @throws E
+     *  When the operation throws it
+     */
+    public <T, E extends Exception> T apply(String studentId, Action<T, E> action) throws E {
+        StudentPlanner student = get(studentId);
+        student.lock.lock();
+        try {
+            return action.apply(student);
+        } finally {
+            student.lock.unlock();
+        }
+    }
+
+    /**
+     * This method runs an operation on the planner of a student while holding the lock of the student,
+     * only if the student already has a planner, so looking at the planners of unknown students doesn't
+     * fill the registry with empty ones
+     * @param studentId
+     *  The id of the student
+     * @param action
+     *  The operation
+     * @return
+     *  True if the student had a planner and the operation ran, false otherwise
+     * @throws E
+     *  When the operation throws it
+     */
+    public <E extends Exception> boolean applyIfPresent(String studentId, Action<?, E> action) throws E {
+        StudentPlanner student = find(studentId);
+        if (student == null)
+            return false;
+        student.lock.lock();
+        try {
+            action.apply(student);
+            return true;
+        } finally {
+            student.lock.unlock();
+        }
+    }
+
+    /**
+     * This method returns the planner of a student, creating an empty one if they don't have one yet.
+     * The caller has to lock it before using it, apply does so
+     * @param studentId
+     *  The id of the student
+     * @return
+     *  The planner of the student
+     */
+    public StudentPlanner get(String studentId) {
+        Shard shard = shard(studentId);
+        shard.lock.lock();
+        try {
+            StudentPlanner student = shard.students.get(studentId);
+            if (student == null) {
+                student = new StudentPlanner(studentId, maxCourses);
+                shard.students.put(studentId, student);
+            }
+            return student;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * This method returns the planner of a student without creating one
+     * @param studentId
+     *  The id of the student
+     * @return
+     *  The planner of the student, null if they don't have one
+     */
+    public StudentPlanner find(String studentId) {
+        Shard shard = shard(studentId);
+        shard.lock.lock();
+        try {
+            return shard.students.get(studentId);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * This method removes the planner of a student
+     * @param studentId
+     *  The id of the student
+     * @return
+     *  True if the student had a planner, false otherwise
+     */
+    public boolean remove(String studentId) {
+        Shard shard = shard(studentId);
+        shard.lock.lock();
+        try {
+            return shard.students.remove(studentId) != null;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * This method determines the number of students with a planner
+     * @return
+     *  The number of students
+     */
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                size += shard.students.size();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * This method lists the ids of the students with a planner, shard by shard
+     * @return
+     *  The ids of the students
+     */
+    public List<String> studentIds() {
+        List<String> ids = new ArrayList<>();
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                ids.addAll(shard.students.keySet());
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * This method determines the number of different planners held by the students, students whose
+     * planners hold the same courses in the same order counting once. The planners are told apart by
+     * their fingerprints, and only compared course by course when the fingerprints match
+     * @return
+     *  The number of different planners
+     */
+    public int distinctPlanners() {
+        Set<Planner> distinct = new HashSet<>();
+        for (String studentId : studentIds()) {
+            StudentPlanner student = find(studentId);
+            if (student == null)
+                continue;
+            Planner snapshot;
+            student.lock.lock();
+            try {
+                snapshot = student.getPlanner().snapshot();
+            } finally {
+                student.lock.unlock();
+            }
+            distinct.add(snapshot);
+        }
+        return distinct.size();
+    }
+
+    /**
+     * This is a getter method for the number of shards
+     * @return
+     *  The number of shards
+     */
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    //Returns the shard of a student, spreading the high bits of the hash over the low ones
+    private Shard shard(String studentId) {
+        int hash = studentId.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+    }
+
+    /**
+     * A part of the students and the lock guarding it
+     */
+    private static class Shard {
+        final ReentrantLock lock = new ReentrantLock();
+        final HashMap<String, StudentPlanner> students = new HashMap<>();
+    }
+}
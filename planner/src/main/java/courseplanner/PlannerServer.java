@@ -0,0 +1,511 @@
+package courseplanner;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The <code>PlannerServer</code> class serves the planners of a <code>PlannerRegistry</code> over a
+ * local socket, either a TCP port of the loopback address or a Unix domain socket. Every connection is
+ * handled by its own thread, a virtual thread when the JVM has them and a platform thread otherwise.
+ * <br>A client sends one request per line, the student id followed by a command of
+ * <code>PlannerBatch</code>, the fields separated by <code>|</code>:
+ * <pre>
+ * student|A|name|department|code|section|instructor|position, optionally followed by |meeting times
+ * student|G|position
+ * student|R|position
+ * student|AA|position|name|department|code|section|instructor, then 5 more fields for each other course
+ * student|RR|first position|last position
+ * student|RM|D or I|department or instructor
+ * student|P
+ * student|PS|D, I or N
+ * student|F|department
+ * student|RQ|department|lowest code|highest code
+ * student|L|name|department|code|section|instructor
+ * student|T|N or I|S or A|text
+ * student|SC
+ * student|S
+ * student|B
+ * student|PB
+ * student|DB or student|DB|name
+ * student|RB
+ * student|NB|name
+ * student|LB
+ * student|RN|name
+ * STATS
+ * Q
+ * </pre>
+ * Each reply starts with a line <code>OK n</code> followed by n lines of output, such as the rows of
+ * a table, or is a single line <code>ERR message</code>. Q closes the connection. A student is given
+ * an empty planner by the first command that may change it, and commands that only read a planner
+ * answer an error for students who don't have one yet. Saving and loading
+ * files is left out, as a client shouldn't reach the file system of the server.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class PlannerServer implements Closeable {
+
+    //The port used when none is given
+    public static final int DEFAULT_PORT = 7070;
+
+    //The commands that only read the planner and backups of a student, in lower case
+    private static final Set<String> READ_ONLY = Set.of("g", "p", "ps", "f", "rq", "l", "t", "sc", "s",
+            "pb", "db", "lb");
+
+    //The planners served
+    private final PlannerRegistry registry;
+
+    //The channel accepting the connections
+    private final ServerSocketChannel server;
+
+    //The threads handling the connections
+    private final ExecutorService connections;
+
+    //Whether the connections run on virtual threads
+    private final boolean virtualThreads;
+
+    //The path of the Unix domain socket served, null for a TCP port
+    private final Path unixPath;
+
+    //The thread accepting the connections, null until the server is started
+    private Thread acceptor;
+
+    /**
+     * This is a constructor used to create a new PlannerServer object listening on a port of the
+     * loopback address
+     * @param registry
+     *  The planners served
+     * @param port
+     *  The port, 0 for any free port
+     * @throws IOException
+     *  When the port can't be bound
+     */
+    public PlannerServer(PlannerRegistry registry, int port) throws IOException {
+        this(registry, ServerSocketChannel.open(),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    /**
+     * This is a constructor used to create a new PlannerServer object listening on a Unix domain socket
+     * @param registry
+     *  The planners served
+     * @param socket
+     *  The path of the socket, a file left at the path by an earlier server is replaced
+     * @throws IOException
+     *  When the socket can't be bound
+     */
+    public PlannerServer(PlannerRegistry registry, Path socket) throws IOException {
+        this(registry, openUnix(socket), UnixDomainSocketAddress.of(socket));
+    }
+
+    private PlannerServer(PlannerRegistry registry, ServerSocketChannel server, SocketAddress address)
+            throws IOException {
+        this.registry = registry;
+        this.server = server;
+        this.unixPath = address instanceof UnixDomainSocketAddress
+                ? ((UnixDomainSocketAddress) address).getPath() : null;
+        try {
+            server.bind(address, 1024);
+        } catch (IOException ex) {
+            server.close();
+            throw ex;
+        }
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.connections = virtual != null ? virtual : Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "planner-connection");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Serves the planners of the students until the process is stopped
+     * @param args
+     *  The optional <code>--port n</code> option choosing the TCP port, 7070 by default, or
+     *  <code>--unix path</code> serving on a Unix domain socket instead, and the optional
+     *  <code>--shards n</code> and <code>--max-courses n</code> options setting up the registry
+     */
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        String unix = null;
+        int shards = PlannerRegistry.DEFAULT_SHARDS;
+        int maxCourses = Planner.DEFAULT_MAX_COURSES;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--port") && i + 1 < args.length)
+                port = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--unix") && i + 1 < args.length)
+                unix = args[++i];
+            else if (args[i].equals("--shards") && i + 1 < args.length)
+                shards = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--max-courses") && i + 1 < args.length)
+                maxCourses = Integer.parseInt(args[++i]);
+            else {
+                System.err.println("Unknown option " + args[i]);
+                System.exit(1);
+            }
+        }
+
+        PlannerRegistry registry = new PlannerRegistry(shards, maxCourses);
+        try {
+            PlannerServer server = unix == null ? new PlannerServer(registry, port)
+                    : new PlannerServer(registry, Path.of(unix));
+            System.out.println("Serving planners on " + server.getAddress() + " with "
+                    + registry.getShardCount() + " shards, one "
+                    + (server.usesVirtualThreads() ? "virtual" : "platform") + " thread per connection");
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    server.close();
+                } catch (IOException ex) {
+                    //The process is ending, the socket goes with it
+                }
+            }));
+            server.start();
+            server.acceptor.join();
+        } catch (IOException ex) {
+            System.err.println("Could not start server: " + ex.getMessage());
+            System.exit(1);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * This method starts accepting connections on a background thread
+     */
+    public synchronized void start() {
+        if (acceptor != null)
+            return;
+        acceptor = new Thread(this::acceptConnections, "planner-acceptor");
+        acceptor.start();
+    }
+
+    /**
+     * This method determines the address the server listens on
+     * @return
+     *  The address, with the port chosen when the server was given port 0
+     * @throws IOException
+     *  When the server is closed
+     */
+    public SocketAddress getAddress() throws IOException {
+        return server.getLocalAddress();
+    }
+
+    /**
+     * This method determines whether the connections are handled by virtual threads
+     * @return
+     *  True for virtual threads, false for platform threads
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * This method stops accepting connections and stops the threads of the open ones
+     * @throws IOException
+     *  When the listening socket can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        server.close();
+        connections.shutdownNow();
+        if (unixPath != null)
+            Files.deleteIfExists(unixPath);
+    }
+
+    /**
+     * This method runs a single request for the registry of the server
+     * @param line
+     *  The request
+     * @return
+     *  The reply, without the line separator after its last line
+     */
+    public String handle(String line) {
+        List<String> output = new ArrayList<>();
+        try {
+            String[] fields = line.split("\\|", -1);
+            if (fields.length == 1 && fields[0].trim().equalsIgnoreCase("stats")) {
+                output.add(registry.size() + " planners in " + registry.getShardCount() + " shards, "
+                        + registry.distinctPlanners() + " distinct");
+            } else {
+                if (fields.length < 2 || fields[0].isBlank())
+                    throw new IllegalArgumentException("Expected a student id and a command");
+                String studentId = fields[0].trim();
+                String[] command = Arrays.copyOfRange(fields, 1, fields.length);
+                if (!READ_ONLY.contains(command[0].trim().toLowerCase()))
+                    registry.apply(studentId, student -> execute(student, command, output));
+                else if (!registry.applyIfPresent(studentId, student -> execute(student, command, output)))
+                    throw new IllegalArgumentException("No planner exists for student " + studentId + "...");
+            }
+        } catch (IllegalArgumentException ex) {
+            //A reply line can't hold a line break, as it would end the reply
+            return "ERR " + ex.getMessage().replace('\n', ' ');
+        }
+        StringBuilder reply = new StringBuilder("OK ").append(output.size());
+        for (String text : output)
+            reply.append('\n').append(text);
+        return reply.toString();
+    }
+
+    //Runs a command on the planner of a student, the errors are thrown as IllegalArgumentException
+    private static Void execute(StudentPlanner student, String[] fields, List<String> output) {
+        Planner p = student.getPlanner();
+        PlannerBackups backups = student.getBackups();
+        switch (fields[0].trim().toLowerCase()) {
+            case "a":
+                if (fields.length != 8)
+                    PlannerBatch.expect(fields, 7);
+                Course newCourse = PlannerBatch.parseCourse(fields);
+                if (fields.length == 8)
+                    newCourse.setMeetings(MeetingTime.parseAll(fields[7]));
+                int added = PlannerBatch.parseInt(fields[6], "position");
+                try {
+                    p.addCourse(newCourse, added);
+                } catch (FullPlannerException ex) {
+                    throw new IllegalArgumentException(PlannerManager.FULL_PLANNER_MESSAGE);
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException(PlannerManager.addPositionMessage(p));
+                }
+                output.add(PlannerManager.addedMessage(newCourse));
+                for (PlannerEntry other : p.conflicts(newCourse))
+                    output.add(PlannerManager.conflictWarning(newCourse, other));
+                break;
+
+            case "aa":
+                List<Course> newCourses = PlannerBatch.parseCourses(fields);
+                int first = PlannerBatch.parseInt(fields[1], "position");
+                try {
+                    p.addAll(first, newCourses);
+                } catch (FullPlannerException ex) {
+                    throw new IllegalArgumentException(PlannerManager.FULL_PLANNER_MESSAGE);
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException(PlannerManager.addPositionMessage(p));
+                }
+                output.add(PlannerManager.addedAllMessage(newCourses.size()));
+                break;
+
+            case "rr":
+                PlannerBatch.expect(fields, 3);
+                int from = PlannerBatch.parseInt(fields[1], "position");
+                int to = PlannerBatch.parseInt(fields[2], "position");
+                try {
+                    output.add(PlannerManager.removedAllMessage(p.removeRange(from, to).size()));
+                } catch (EmptyPlannerException ex) {
+                    throw new IllegalArgumentException(PlannerManager.EMPTY_REMOVE_MESSAGE);
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException(PlannerManager.removePositionMessage(p));
+                }
+                break;
+
+            case "rm":
+                PlannerBatch.expect(fields, 3);
+                output.add(PlannerManager.removedAllMessage(
+                        p.removeIf(PlannerManager.courseMatcher(fields[1], fields[2])).size()));
+                break;
+
+            case "g":
+                PlannerBatch.expect(fields, 2);
+                int position = PlannerBatch.parseInt(fields[1], "position");
+                try {
+                    output.add(CourseTableWriter.formatRow(position, p.getCourse(position)));
+                } catch (EmptyPlannerException ex) {
+                    throw new IllegalArgumentException(PlannerManager.EMPTY_GET_MESSAGE);
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException(PlannerManager.getPositionMessage(p));
+                }
+                break;
+
+            case "r":
+                PlannerBatch.expect(fields, 2);
+                position = PlannerBatch.parseInt(fields[1], "position");
+                try {
+                    Course removed = p.getCourse(position);
+                    p.removeCourse(position);
+                    output.add(PlannerManager.removedMessage(removed));
+                } catch (EmptyPlannerException ex) {
+                    throw new IllegalArgumentException(PlannerManager.EMPTY_REMOVE_MESSAGE);
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException(PlannerManager.removePositionMessage(p));
+                }
+                break;
+
+            case "p":
+                rows(p, output);
+                break;
+
+            case "ps":
+                PlannerBatch.expect(fields, 2);
+                for (PlannerEntry entry : p.sorted(CourseOrder.fromLetter(fields[1])))
+                    output.add(entry.toString());
+                break;
+
+            case "f":
+                PlannerBatch.expect(fields, 2);
+                for (PlannerEntry entry : p.filter(fields[1]))
+                    output.add(entry.toString());
+                break;
+
+            case "rq":
+                PlannerBatch.expect(fields, 4);
+                for (PlannerEntry entry : p.rangeQuery(fields[1], PlannerBatch.parseInt(fields[2], "lowest code"),
+                        PlannerBatch.parseInt(fields[3], "highest code")))
+                    output.add(entry.toString());
+                break;
+
+            case "l":
+                PlannerBatch.expect(fields, 6);
+                output.add(PlannerManager.searchMessage(p, PlannerBatch.parseProbe(fields)));
+                break;
+
+            case "t":
+                PlannerBatch.expect(fields, 4);
+                for (PlannerEntry entry : PlannerManager.searchText(p, fields[1], fields[2], fields[3]))
+                    output.add(entry.toString());
+                break;
+
+            case "sc":
+                List<CourseConflict> conflicts = p.conflictReport();
+                if (conflicts.isEmpty())
+                    output.add("No schedule conflicts in the planner...");
+                for (CourseConflict conflict : conflicts)
+                    output.add(PlannerManager.conflictMessage(conflict));
+                break;
+
+            case "s":
+                output.add("There are " + p.size() + " courses in the planner");
+                break;
+
+            case "b":
+                output.add("Created Backup " + backups.save(p) + " of the current planner");
+                break;
+
+            case "pb":
+                rows(backups.latest(), output);
+                break;
+
+            case "db":
+                if (fields.length != 1)
+                    PlannerBatch.expect(fields, 2);
+                StringBuilder changes = new StringBuilder();
+                PlannerDiff.writeTo(fields.length == 1 ? backups.latest()
+                        : PlannerManager.findBackup(backups, fields[1]), p, changes);
+                changes.toString().lines().forEach(output::add);
+                break;
+
+            case "rb":
+                student.setPlanner(backups.restoreLatest(p.getMaxCourses()));
+                break;
+
+            case "nb":
+                PlannerBatch.expect(fields, 2);
+                backups.save(fields[1], p);
+                output.add("Created Backup " + fields[1] + " of the current planner");
+                break;
+
+            case "lb":
+                for (String name : backups.names())
+                    output.add(name + " (" + backups.get(name).size() + " courses)");
+                break;
+
+            case "rn":
+                PlannerBatch.expect(fields, 2);
+                try {
+                    student.setPlanner(backups.restore(fields[1]));
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException("No backup named " + fields[1] + " exists...");
+                }
+                break;
+
+            default:
+                throw new IllegalArgumentException("Invalid input!!! unknown command " + fields[0]);
+        }
+        return null;
+    }
+
+    private static void rows(Planner planner, List<String> output) {
+        int position = 1;
+        for (Course course : planner.courses())
+            output.add(CourseTableWriter.formatRow(position++, course));
+    }
+
+    //Hands every accepted connection to a thread of its own until the server is closed
+    private void acceptConnections() {
+        while (server.isOpen()) {
+            try {
+                SocketChannel client = server.accept();
+                connections.execute(() -> serve(client));
+            } catch (ClosedChannelException ex) {
+                return;
+            } catch (IOException ex) {
+                System.err.println("Could not accept connection: " + ex.getMessage());
+            }
+        }
+    }
+
+    //Answers the requests of a connection until it sends Q or closes. A reply is only flushed once
+    //every request already received is answered, so pipelined requests share their writes
+    private void serve(SocketChannel client) {
+        try (client;
+             BufferedReader in = new BufferedReader(new InputStreamReader(
+                     Channels.newInputStream(client), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(new OutputStreamWriter(
+                     Channels.newOutputStream(client), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank())
+                    continue;
+                if (line.trim().equalsIgnoreCase("q"))
+                    break;
+                out.write(handle(line));
+                out.write('\n');
+                if (!in.ready())
+                    out.flush();
+            }
+        } catch (IOException ex) {
+            //The client went away, there is no one left to tell
+        }
+    }
+
+    private static ServerSocketChannel openUnix(Path socket) throws IOException {
+        Files.deleteIfExists(socket);
+        return ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+    }
+
+    /**
+     * This method creates an executor running every task on a new virtual thread, when the JVM has
+     * them. It is looked up by reflection, so the planner still builds and runs on JVMs without them
+     * @return
+     *  The executor, null when the JVM has no virtual threads
+     */
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package courseplanner;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The <code>PrerequisiteGraph</code> class keeps the prerequisites of courses, keyed by department and
+ * code so every section of a course shares them, and checks that a <code>Planner</code> takes every
+ * course after its prerequisites.
+ * <br>Every course of the graph keeps the transitive closure of its prerequisites, the prerequisites of
+ * its prerequisites and so on, as a bitset over the courses of the graph. Whether a course is required
+ * before another one is then a single bit lookup in O(1). The closures are kept up to date as
+ * prerequisites are added, which takes O(v) word operations for each course requiring the new one, for v
+ * courses in the graph, and a prerequisite making a course require itself is refused.
+ * <br>A planner is checked in one pass over its courses, each course taking O(v / 64) word operations to
+ * tell whether one of its prerequisites is planned only after it.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class PrerequisiteGraph {
+
+    //The number of each course of the graph, by department id and code
+    private final Map<Long, Integer> numbers;
+
+    //The department id and code of each course, by number
+    private final List<Long> keys;
+
+    //The transitive closure of the prerequisites of each course, by number
+    private final List<BitSet> closures;
+
+    //The number of prerequisites added, direct ones only
+    private int edges;
+
+    /**
+     * This is the default constructor used to create a PrerequisiteGraph object without any prerequisites
+     */
+    public PrerequisiteGraph() {
+        this.numbers = new HashMap<>();
+        this.keys = new ArrayList<>();
+        this.closures = new ArrayList<>();
+    }
+
+    /**
+     * This method records that a course can only be taken after another one
+     * @param department
+     *  The department of the course
+     * @param code
+     *  The code of the course
+     * @param prerequisiteDepartment
+     *  The department of the prerequisite
+     * @param prerequisiteCode
+     *  The code of the prerequisite
+     * @throws IllegalArgumentException
+     *  When the prerequisite is the course itself or already requires it, directly or not
+     */
+    public void addPrerequisite(String department, int code, String prerequisiteDepartment, int prerequisiteCode) {
+        int course = number(key(Course.DEPARTMENTS.id(department), code));
+        int prerequisite = number(key(Course.DEPARTMENTS.id(prerequisiteDepartment), prerequisiteCode));
+        if (course == prerequisite)
+            throw new IllegalArgumentException("Invalid prerequisite!! A course can't require itself");
+        if (closures.get(prerequisite).get(course))
+            throw new IllegalArgumentException("Invalid prerequisite!! " + prerequisiteDepartment + " " +
+                    prerequisiteCode + " already requires " + department + " " + code);
+        if (closures.get(course).get(prerequisite))
+            return;
+
+        //Every course requiring the course, and the course itself, now requires the prerequisite and its own
+        BitSet added = (BitSet) closures.get(prerequisite).clone();
+        added.set(prerequisite);
+        for (int i = 0; i < closures.size(); i++) {
+            BitSet closure = closures.get(i);
+            if (i == course || closure.get(course))
+                closure.or(added);
+        }
+        edges++;
+    }
+
+    /**
+     * This method checks whether a course has to be taken before another one, directly or through the
+     * prerequisites of its prerequisites, in O(1)
+     * @param department
+     *  The department of the course that may be required
+     * @param code
+     *  The code of the course that may be required
+     * @param otherDepartment
+     *  The department of the other course
+     * @param otherCode
+     *  The code of the other course
+     * @return
+     *  True if the first course is required before the other one, false otherwise
+     */
+    public boolean isRequiredBefore(String department, int code, String otherDepartment, int otherCode) {
+        int required = find(Course.DEPARTMENTS.find(department), code);
+        int other = find(Course.DEPARTMENTS.find(otherDepartment), otherCode);
+        return required >= 0 && other >= 0 && closures.get(other).get(required);
+    }
+
+    /**
+     * This method checks that every course of a planner comes after its prerequisites, in one pass over the
+     * courses. A prerequisite missing from the planner isn't reported, as it may have been taken already,
+     * and neither is one of several sections of a course as long as one of them comes first
+     * @param planner
+     *  The planner to be checked
+     * @return
+     *  Each course planned before one of its prerequisites with that prerequisite, the prerequisite at the
+     *  first position it is planned at, in ascending order of the position of the course
+     */
+    public List<PrerequisiteViolation> validate(Planner planner) {
+        List<PrerequisiteViolation> ret = new ArrayList<>();
+        if (edges == 0)
+            return ret;
+
+        //The number of the course at each position, -1 for courses outside the graph, and the first
+        //position of every course of the graph in the planner
+        Course[] courses = new Course[planner.size()];
+        int[] at = new int[courses.length];
+        int[] first = new int[keys.size()];
+        //The courses of the graph in the planner that haven't been passed yet
+        BitSet pending = new BitSet(keys.size());
+        int position = 0;
+        for (Course course : planner.courses()) {
+            int number = find(course.getDepartmentId(), course.getCode());
+            courses[position] = course;
+            at[position++] = number;
+            if (number >= 0 && !pending.get(number)) {
+                pending.set(number);
+                first[number] = position;
+            }
+        }
+
+        for (int i = 0; i < courses.length; i++) {
+            int number = at[i];
+            if (number < 0)
+                continue;
+            if (first[number] == i + 1)
+                pending.clear(number);
+            BitSet closure = closures.get(number);
+            if (!closure.intersects(pending))
+                continue;
+            BitSet late = (BitSet) closure.clone();
+            late.and(pending);
+            List<PlannerEntry> prerequisites = new ArrayList<>();
+            for (int p = late.nextSetBit(0); p >= 0; p = late.nextSetBit(p + 1))
+                prerequisites.add(new PlannerEntry(first[p], courses[first[p] - 1]));
+            prerequisites.sort((a, b) -> Integer.compare(a.getPosition(), b.getPosition()));
+            for (PlannerEntry prerequisite : prerequisites)
+                ret.add(new PrerequisiteViolation(new PlannerEntry(i + 1, courses[i]), prerequisite));
+        }
+        return ret;
+    }
+
+    /**
+     * This is a getter method for the number of courses in the graph
+     * @return
+     *  The number of courses that have or are prerequisites
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * This is a getter method for the number of prerequisites added
+     * @return
+     *  The number of direct prerequisites
+     */
+    public int prerequisiteCount() {
+        return edges;
+    }
+
+    //Returns the number of a course, adding the course to the graph if it isn't in it yet
+    private int number(long key) {
+        Integer number = numbers.get(key);
+        if (number != null)
+            return number;
+        numbers.put(key, keys.size());
+        keys.add(key);
+        closures.add(new BitSet());
+        return keys.size() - 1;
+    }
+
+    //Returns the number of a course, -1 if it isn't in the graph
+    private int find(int departmentId, int code) {
+        if (departmentId == SymbolTable.MISSING_ID)
+            return -1;
+        Integer number = numbers.get(key(departmentId, code));
+        return number == null ? -1 : number;
+    }
+
+    private static long key(int departmentId, int code) {
+        return (long) departmentId << 32 | (code & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,43 @@
+package courseplanner;
+
+/**
+ * The <code>PrerequisiteViolation</code> class describes a course of a <code>Planner</code> planned before
+ * one of its prerequisites, with the positions both held when the planner was checked.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class PrerequisiteViolation {
+    private final PlannerEntry course;
+    private final PlannerEntry prerequisite;
+
+    /**
+     * This is a constructor used to create a new PrerequisiteViolation object
+     * @param course
+     *  The course planned too early
+     * @param prerequisite
+     *  The prerequisite planned after it, at the first position it is planned at
+     */
+    public PrerequisiteViolation(PlannerEntry course, PlannerEntry prerequisite) {
+        this.course = course;
+        this.prerequisite = prerequisite;
+    }
+
+    /**
+     * This is a getter method for the course planned too early
+     * @return
+     *  The course and its position
+     */
+    public PlannerEntry getCourse() {
+        return course;
+    }
+
+    /**
+     * This is a getter method for the prerequisite planned after the course
+     * @return
+     *  The prerequisite and its position
+     */
+    public PlannerEntry getPrerequisite() {
+        return prerequisite;
+    }
+}
@@ -0,0 +1,116 @@
+package courseplanner;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * The <code>SortedView</code> class keeps the courses of a planner sorted in a
+ * <code>CourseOrder</code>, together with the labels they hold in its <code>CourseSequence</code>.
+ * The courses are kept in a balanced tree, or a skip list when the view can be read while it is being
+ * changed, so a course is added or removed in O(log n) and the first k courses are iterated in O(k)
+ * without sorting anything. Courses that are equal in the order are sorted by label, which is the
+ * order of their positions.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class SortedView {
+
+    //The courses and their labels, in order
+    private final NavigableSet<Entry> entries;
+
+    /**
+     * This is a constructor used to create an empty SortedView object
+     * @param order
+     *  The order of the courses
+     * @param concurrent
+     *  Whether the view can be read while it is being changed
+     */
+    public SortedView(CourseOrder order, boolean concurrent) {
+        Comparator<Entry> comparator = Comparator.<Entry, Course>comparing(e -> e.course, order.comparator())
+                .thenComparingLong(e -> e.label);
+        this.entries = concurrent ? new ConcurrentSkipListSet<>(comparator) : new TreeSet<>(comparator);
+    }
+
+    /**
+     * This method records a course holding a label
+     * @param course
+     *  The course
+     * @param label
+     *  The label held by the course
+     */
+    public void add(Course course, long label) {
+        entries.add(new Entry(course, label));
+    }
+
+    /**
+     * This method forgets a course holding a label
+     * @param course
+     *  The course
+     * @param label
+     *  The label that was held by the course
+     */
+    public void remove(Course course, long label) {
+        entries.remove(new Entry(course, label));
+    }
+
+    /**
+     * This method determines the number of courses in the view
+     * @return
+     *  The number of courses
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * This method forgets every course
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * This method returns an iterator over the courses and their labels in order, the view must not be
+     * changed while it is used unless it is concurrent
+     * @return
+     *  The iterator
+     */
+    public Iterator<Entry> iterator() {
+        return entries.iterator();
+    }
+
+    /**
+     * A course of the view and the label it holds
+     */
+    public static class Entry {
+        private final Course course;
+        private final long label;
+
+        Entry(Course course, long label) {
+            this.course = course;
+            this.label = label;
+        }
+
+        /**
+         * This is a getter method for the course
+         * @return
+         *  The course
+         */
+        public Course getCourse() {
+            return course;
+        }
+
+        /**
+         * This is a getter method for the label held by the course
+         * @return
+         *  The label
+         */
+        public long getLabel() {
+            return label;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package courseplanner;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The <code>StudentPlanner</code> class holds the planner and the backups of one student in a
+ * <code>PlannerRegistry</code>, together with the lock serializing the operations on them.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class StudentPlanner {
+
+    //The id of the student
+    private final String studentId;
+
+    //The planner of the student, replaced when it is reverted to a backup
+    private Planner planner;
+
+    //The backups of the planner
+    private final PlannerBackups backups;
+
+    //The lock held while the planner or its backups are used
+    final ReentrantLock lock;
+
+    /**
+     * This is a constructor used to create a new StudentPlanner object with an empty planner
+     * @param studentId
+     *  The id of the student
+     * @param maxCourses
+     *  The max limit for the number of courses in the planner of the student
+     */
+    public StudentPlanner(String studentId, int maxCourses) {
+        this.studentId = studentId;
+        this.planner = new Planner(maxCourses);
+        this.backups = new PlannerBackups();
+        this.lock = new ReentrantLock();
+    }
+
+    /**
+     * This is a getter method for the id of the student
+     * @return
+     *  The id of the student
+     */
+    public String getStudentId() {
+        return studentId;
+    }
+
+    /**
+     * This is a getter method for the planner of the student
+     * @return
+     *  The planner
+     */
+    public Planner getPlanner() {
+        return planner;
+    }
+
+    /**
+     * This method replaces the planner of the student, such as with a backup
+     * @param planner
+     *  The new planner
+     */
+    public void setPlanner(Planner planner) {
+        this.planner = planner;
+    }
+
+    /**
+     * This is a getter method for the backups of the planner of the student
+     * @return
+     *  The backups
+     */
+    public PlannerBackups getBackups() {
+        return backups;
+    }
+}
@@ -0,0 +1,168 @@
+package courseplanner;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The <code>SymbolTable</code> class is a dictionary handing out a compact id for every distinct
+ * string it is given. Equal strings always get the same id, so they can be stored as the id and
+ * compared with ==, while the dictionary keeps a single copy of each string.
+ * <br>Ids are given out from 0 in the order the strings are first seen and are never taken back. Any
+ * number of threads can use a table at once: looking up a known string or id takes no lock.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class SymbolTable {
+
+    //The id used for a null string
+    public static final int NULL_ID = -1;
+
+    //The id returned by find for a string that isn't in the table
+    public static final int MISSING_ID = -2;
+
+    //The id of every string in the table
+    private final ConcurrentHashMap<String, Integer> ids;
+
+    //The string of every id, only the first count entries are used
+    private volatile String[] symbols;
+
+    //The number of strings in the table
+    private volatile int count;
+
+    /**
+     * This is a constructor used to create a new SymbolTable object with no strings in it
+     */
+    public SymbolTable() {
+        this.ids = new ConcurrentHashMap<>();
+        this.symbols = new String[16];
+    }
+
+    /**
+     * This method returns the id of a string, adding the string to the table if it isn't in it yet
+     * @param symbol
+     *  The string to be encoded, may be null
+     * @return
+     *  The id of the string, NULL_ID for null
+     */
+    public int id(String symbol) {
+        if (symbol == null)
+            return NULL_ID;
+        Integer id = ids.get(symbol);
+        return id != null ? id : add(symbol);
+    }
+
+    /**
+     * This method returns the id of a string without adding it to the table
+     * @param symbol
+     *  The string to be looked up, may be null
+     * @return
+     *  The id of the string, NULL_ID for null and MISSING_ID if the table doesn't hold the string
+     */
+    public int find(String symbol) {
+        if (symbol == null)
+            return NULL_ID;
+        Integer id = ids.get(symbol);
+        return id != null ? id : MISSING_ID;
+    }
+
+    /**
+     * This method returns the string of an id
+     * @param id
+     *  An id given out by this table, or NULL_ID
+     * @return
+     *  The string of the id, null for NULL_ID
+     * @throws IllegalArgumentException
+     *  When the id wasn't given out by this table
+     */
+    public String symbol(int id) {
+        if (id == NULL_ID)
+            return null;
+        String[] current = symbols;
+        if (id < 0 || id >= current.length || current[id] == null)
+            throw new IllegalArgumentException("Unknown symbol id " + id);
+        return current[id];
+    }
+
+    /**
+     * This method returns the single copy kept by the table of a string
+     * @param symbol
+     *  The string to be looked up, may be null
+     * @return
+     *  The string held by the table equal to the given one
+     */
+    public String canonical(String symbol) {
+        return symbol(id(symbol));
+    }
+
+    /**
+     * This method determines the number of distinct strings in the table
+     * @return
+     *  The number of strings
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * This method estimates the heap taken by the table itself, its strings included, assuming a
+     * 64-bit JVM with compressed references and compact strings
+     * @return
+     *  The estimated number of bytes
+     */
+    public long footprint() {
+        String[] current = symbols;
+        int buckets = Integer.highestOneBit(Math.max(1, count * 4 / 3)) * 2;
+        //The table and its array of strings, the map and its bucket array
+        long bytes = 24 + align(16 + 4L * current.length) + 64 + align(16 + 4L * buckets);
+        for (int id = 0; id < count; id++) {
+            //A map node, a boxed id and the string
+            bytes += 32 + (id < 128 ? 0 : 16) + stringFootprint(current[id]);
+        }
+        return bytes;
+    }
+
+    /**
+     * This method estimates the heap taken by a string, assuming a 64-bit JVM with compressed
+     * references and compact strings
+     * @param text
+     *  The string to be measured, may be null
+     * @return
+     *  The estimated number of bytes, 0 for null
+     */
+    public static long stringFootprint(String text) {
+        if (text == null)
+            return 0;
+        boolean latin1 = true;
+        for (int i = 0; i < text.length() && latin1; i++)
+            latin1 = text.charAt(i) < 256;
+        long data = (long) text.length() * (latin1 ? 1 : 2);
+        return 24 + align(16 + data);
+    }
+
+    /**
+     * This method rounds a size up to the 8 byte alignment of objects
+     * @param bytes
+     *  The size in bytes
+     * @return
+     *  The size taken once aligned
+     */
+    public static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    //Gives the next id to a string, unless another thread added it first
+    private synchronized int add(String symbol) {
+        Integer id = ids.get(symbol);
+        if (id != null)
+            return id;
+        int next = count;
+        if (next == symbols.length)
+            symbols = Arrays.copyOf(symbols, next * 2);
+        //The string has to be in the array before its id can be seen by another thread
+        symbols[next] = symbol;
+        count = next + 1;
+        ids.put(symbol, next);
+        return next;
+    }
+}
@@ -0,0 +1,204 @@
+package courseplanner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * The <code>TextIndex</code> class is a search index from the text of one field of the courses, such
+ * as their name or instructor, to the labels held in a <code>CourseSequence</code> by those courses.
+ * It finds the courses whose text starts with or contains a query, ignoring case.
+ * <br>The distinct texts are kept sorted, so the texts starting with a prefix are the range of the
+ * sorted texts from the prefix onwards, found in O(log n). Every distinct text is also split into its
+ * trigrams, the runs of 3 letters it contains, and each trigram leads to the texts containing it; a
+ * text containing a query contains every trigram of the query, so only the texts containing its rarest
+ * trigram are checked, and none when one of its trigrams is in no text. Queries shorter than a trigram
+ * check every distinct text.
+ * <br>Like a <code>LabelIndex</code>, a concurrent index can be read while it is being changed.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+public class TextIndex {
+
+    //The length of the runs of letters indexed for substring queries
+    private static final int GRAM = 3;
+
+    //The labels of the courses of every distinct text, the texts in lower case and sorted
+    private final NavigableMap<String, NavigableSet<Long>> texts;
+
+    //The distinct texts containing every trigram
+    private final Map<String, Set<String>> grams;
+
+    //Whether the index can be read while it is being changed
+    private final boolean concurrent;
+
+    /**
+     * This is the default constructor used to create an empty TextIndex object
+     */
+    public TextIndex() {
+        this(false);
+    }
+
+    /**
+     * This is a constructor used to create an empty TextIndex object
+     * @param concurrent
+     *  Whether the index can be read while it is being changed
+     */
+    public TextIndex(boolean concurrent) {
+        this.texts = concurrent ? new ConcurrentSkipListMap<>() : new TreeMap<>();
+        this.grams = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+        this.concurrent = concurrent;
+    }
+
+    /**
+     * This method records that a course with the given text holds a label
+     * @param text
+     *  The text of the course, nothing is recorded if it is null
+     * @param label
+     *  The label held by the course
+     */
+    public void add(String text, long label) {
+        if (text == null)
+            return;
+        String key = normalize(text);
+        NavigableSet<Long> held = texts.get(key);
+        if (held == null) {
+            held = concurrent ? new ConcurrentSkipListSet<>() : new TreeSet<>();
+            held.add(label);
+            texts.put(key, held);
+            for (int i = 0; i + GRAM <= key.length(); i++)
+                grams.computeIfAbsent(key.substring(i, i + GRAM), g -> concurrent
+                        ? ConcurrentHashMap.newKeySet() : new HashSet<>()).add(key);
+        } else {
+            held.add(label);
+        }
+    }
+
+    /**
+     * This method forgets that a course with the given text holds a label
+     * @param text
+     *  The text of the course
+     * @param label
+     *  The label that was held by the course
+     */
+    public void remove(String text, long label) {
+        if (text == null)
+            return;
+        String key = normalize(text);
+        NavigableSet<Long> held = texts.get(key);
+        if (held == null)
+            return;
+        held.remove(label);
+        if (!held.isEmpty())
+            return;
+        texts.remove(key);
+        for (int i = 0; i + GRAM <= key.length(); i++) {
+            String gram = key.substring(i, i + GRAM);
+            Set<String> containing = grams.get(gram);
+            if (containing != null) {
+                containing.remove(key);
+                if (containing.isEmpty())
+                    grams.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * This method finds the courses whose text starts with a prefix, ignoring case
+     * @param prefix
+     *  The prefix we are looking for
+     * @return
+     *  The labels of the matching courses in ascending order
+     */
+    public long[] startingWith(String prefix) {
+        String key = normalize(prefix);
+        Labels found = new Labels();
+        for (Map.Entry<String, NavigableSet<Long>> entry : texts.tailMap(key, true).entrySet()) {
+            if (!entry.getKey().startsWith(key))
+                break;
+            found.addAll(entry.getValue());
+        }
+        return found.sorted();
+    }
+
+    /**
+     * This method finds the courses whose text contains a query, ignoring case
+     * @param query
+     *  The text we are looking for
+     * @return
+     *  The labels of the matching courses in ascending order
+     */
+    public long[] containing(String query) {
+        String key = normalize(query);
+        Labels found = new Labels();
+        for (String text : candidates(key)) {
+            if (text.contains(key)) {
+                NavigableSet<Long> held = texts.get(text);
+                if (held != null)
+                    found.addAll(held);
+            }
+        }
+        return found.sorted();
+    }
+
+    /**
+     * This method forgets every course
+     */
+    public void clear() {
+        texts.clear();
+        grams.clear();
+    }
+
+    //Returns the texts that may contain a query, those sharing its rarest trigram
+    private Iterable<String> candidates(String key) {
+        if (key.length() < GRAM)
+            return texts.keySet();
+        Set<String> rarest = null;
+        for (int i = 0; i + GRAM <= key.length(); i++) {
+            Set<String> containing = grams.get(key.substring(i, i + GRAM));
+            if (containing == null)
+                return Collections.emptySet();
+            if (rarest == null || containing.size() < rarest.size())
+                rarest = containing;
+        }
+        return rarest;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A growing array of labels
+     */
+    private static class Labels {
+        private long[] labels = new long[16];
+        private int size;
+
+        void addAll(Set<Long> more) {
+            for (long label : more) {
+                if (size == labels.length)
+                    labels = Arrays.copyOf(labels, size * 2);
+                labels[size++] = label;
+            }
+        }
+
+        long[] sorted() {
+            long[] ret = Arrays.copyOf(labels, size);
+            Arrays.sort(ret);
+            return ret;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The <code>CatalogImportTest</code> class checks that a <code>CatalogImport</code> split into many
+ * small chunks loads the same courses, in the same order, as a single chunk does, with the bad rows
+ * reported at their line numbers in the file, and that headers and quoted fields are read as described.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class CatalogImportTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void chunksSplitAtLineBreaksKeepOrderAndLineNumbers() throws Exception {
+        StringBuilder csv = new StringBuilder("name,department,code,section,instructor\n");
+        List<Course> expected = new ArrayList<>();
+        List<Integer> badLines = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int line = i + 2;
+            if (i % 37 == 5) {
+                csv.append("Bad ").append(i).append(",CSE,-").append(i).append(",1,Someone\n");
+                badLines.add(line);
+            } else if (i % 53 == 7) {
+                //Blank lines count as lines but not as rows
+                csv.append("\r\n");
+            } else {
+                String department = i % 2 == 0 ? "CSE" : "AMS";
+                csv.append("Course ").append(i).append(',').append(department).append(',').append(100 + i)
+                        .append(",1,\"Instructor, ").append(i % 7).append("\"\r\n");
+                expected.add(new Course("Course " + i, department, 100 + i, (byte) 1, "Instructor, " + i % 7));
+            }
+        }
+        //The last line has no line break
+        csv.append("Last,PHY,131,2,Someone");
+        expected.add(new Course("Last", "PHY", 131, (byte) 2, "Someone"));
+        Path file = write(csv.toString());
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int minChunkBytes : new int[]{1, 40, 500, 1 << 20}) {
+                CatalogImport result = CatalogImport.load(file, 10, pool, minChunkBytes);
+                Planner planner = result.getPlanner();
+                assertEquals(expected.size(), planner.size(), "chunks of at least " + minChunkBytes);
+                for (int i = 0; i < expected.size(); i++)
+                    assertEquals(expected.get(i), planner.getCourse(i + 1));
+                assertEquals(badLines.size(), result.getErrors().size());
+                for (int i = 0; i < badLines.size(); i++)
+                    assertTrue(result.getErrors().get(i).startsWith("line " + badLines.get(i) + ": "),
+                            result.getErrors().get(i) + " should be on line " + badLines.get(i));
+                assertEquals(expected.size() + badLines.size(), result.getRows());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void onlyAFirstLineStartingWithNameIsAHeader() throws Exception {
+        Path file = write("Name,Department,Code,Section,Instructor\nname,CSE,214,1,Someone\n");
+        CatalogImport result = CatalogImport.load(file, 10);
+        assertEquals(1, result.getRows());
+        assertEquals(1, result.getPlanner().size());
+        assertEquals("name", result.getPlanner().getCourse(1).getName());
+
+        file = write("Data Structures,CSE,214,1,Someone\n");
+        result = CatalogImport.load(file, 10);
+        assertEquals(1, result.getRows());
+        assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    void quotedFieldsHoldCommasAndQuotes() throws Exception {
+        Course course = CatalogImport.parseRow(
+                "\"Data Structures, \"\"Honors\"\"\",CSE,214,1,\"Smith, Jane\",\"MW 10:00-11:20, F 13:00-13:53\"");
+        assertEquals("Data Structures, \"Honors\"", course.getName());
+        assertEquals("Smith, Jane", course.getInstructor());
+        assertEquals(MeetingTime.parseAll("MW 10:00-11:20, F 13:00-13:53"), course.getMeetings());
+
+        Path file = write("Good,CSE,214,1,Someone\n\"Open,CSE,214,1,Someone\nTwo,Fields\n");
+        CatalogImport result = CatalogImport.load(file, 10);
+        assertEquals(List.of("line 2: Unterminated quoted field", "line 3: Expected 5 or 6 fields but found 2"),
+                result.getErrors());
+    }
+
+    private Path write(String csv) throws Exception {
+        Path file = Files.createTempFile(dir, "catalog", ".csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,43 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <code>ColumnarPlannerTest</code> class checks that courses copied between a <code>Planner</code>
+ * and a <code>ColumnarPlanner</code> keep every field, their meeting times included.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class ColumnarPlannerTest {
+
+    @Test
+    void meetingTimesFollowTheirCourses() throws Exception {
+        Planner planner = new Planner();
+        for (int i = 0; i < 6; i++) {
+            Course course = new Course("Course " + i, "CSE", 100 + i, (byte) 1, "Instructor");
+            if (i % 2 == 0)
+                course.setMeetings(MeetingTime.parseAll("MW " + (8 + i) + ":00-" + (9 + i) + ":15"));
+            planner.addCourse(course);
+        }
+        ColumnarPlanner columnar = new ColumnarPlanner(planner);
+        columnar.removeCourse(2);
+        planner.removeCourse(2);
+        Course added = new Course("Added", "AMS", 301, (byte) 2, "Someone");
+        added.setMeetings(MeetingTime.parseAll("F 13:00-14:00"));
+        columnar.addCourse(added, 3);
+        planner.addCourse(added, 3);
+
+        Planner copied = columnar.toPlanner();
+        assertEquals(planner, copied);
+        for (int i = 1; i <= planner.size(); i++) {
+            List<MeetingTime> meetings = planner.getCourse(i).getMeetings();
+            assertEquals(meetings, copied.getCourse(i).getMeetings());
+            assertEquals(meetings, columnar.getCourse(i).getMeetings());
+        }
+    }
+}
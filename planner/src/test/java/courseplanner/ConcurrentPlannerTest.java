@@ -0,0 +1,249 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static courseplanner.TestCourses.course;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <code>ConcurrentPlannerTest</code> class checks that a <code>ConcurrentPlanner</code> changed by
+ * several writers while several readers look at it is linearizable: every operation seems to take
+ * effect at a single instant between its call and its return.
+ * <br>Each round, the threads record the calls they made with the time they were made, the time they
+ * returned and what they returned. The history is accepted if some order of the calls keeps every call
+ * that returned before another one was made ahead of it and gives the same results when the calls are
+ * made one at a time on a list. That order is searched for as done by Wing and Gong, trying every call
+ * that may come next and remembering the states already found to lead nowhere.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class ConcurrentPlannerTest {
+
+    //The number of courses the planners can hold, small enough that adds sometimes find them full
+    private static final int MAX_COURSES = 12;
+
+    //The threads of every round and the calls each of them makes
+    private static final int WRITERS = 3;
+    private static final int READERS = 2;
+    private static final int CALLS = 5;
+
+    @Test
+    void writersAndReadersAreLinearizable() throws Exception {
+        Random random = new Random(15);
+        for (int round = 0; round < 400; round++) {
+            List<Course> initial = new ArrayList<>();
+            for (int i = random.nextInt(MAX_COURSES + 1); i > 0; i--)
+                initial.add(course("AMS", round * 100 + i, 1));
+            List<Call> history = run(initial, round, random.nextLong());
+            assertTrue(new Search(history).linearizable(initial),
+                    "round " + round + " isn't linearizable: " + history);
+        }
+    }
+
+    //Runs the writers and readers of a round against a planner holding the initial courses
+    private static List<Call> run(List<Course> initial, int round, long seed) throws Exception {
+        ConcurrentPlanner planner = new ConcurrentPlanner(MAX_COURSES);
+        for (Course course : initial)
+            planner.addCourse(course);
+        List<List<Call>> calls = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[WRITERS + READERS];
+        for (int t = 0; t < threads.length; t++) {
+            List<Call> made = new ArrayList<>();
+            calls.add(made);
+            boolean writer = t < WRITERS;
+            Random random = new Random(seed + t);
+            int thread = t;
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < CALLS; i++) {
+                        Call call = writer ? write(random, round, thread, i) : read(random);
+                        call.invoked = System.nanoTime();
+                        call.result = call.on(planner);
+                        call.returned = System.nanoTime();
+                        made.add(call);
+                    }
+                } catch (Throwable ex) {
+                    failure.compareAndSet(null, ex);
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads)
+            thread.join();
+        assertNull(failure.get());
+        List<Call> history = new ArrayList<>();
+        for (List<Call> made : calls)
+            history.addAll(made);
+        return history;
+    }
+
+    //Picks the next change of a writer, its courses are numbered so no two are equal
+    private static Call write(Random random, int round, int thread, int i) {
+        if (random.nextInt(5) < 3) {
+            Course course = course("CSE", round * 100 + 50 + thread * CALLS + i, 1);
+            return new Call(Kind.ADD, course, 1 + random.nextInt(MAX_COURSES + 1));
+        }
+        return new Call(Kind.REMOVE, null, 1 + random.nextInt(MAX_COURSES));
+    }
+
+    //Picks the next read of a reader
+    private static Call read(Random random) {
+        Kind kind = Kind.values()[Kind.VIEW.ordinal() + random.nextInt(3)];
+        return new Call(kind, null, 0);
+    }
+
+    /**
+     * The kinds of calls made on the planner
+     */
+    private enum Kind {
+        ADD, REMOVE, VIEW, FILTER, SIZE
+    }
+
+    /**
+     * A call made on the planner, with the times it was made and returned and what it returned
+     */
+    private static class Call {
+        private final Kind kind;
+        private final Course course;
+        private final int position;
+        private long invoked;
+        private long returned;
+        private String result;
+
+        Call(Kind kind, Course course, int position) {
+            this.kind = kind;
+            this.course = course;
+            this.position = position;
+        }
+
+        //Makes the call on the concurrent planner
+        String on(ConcurrentPlanner planner) {
+            try {
+                switch (kind) {
+                    case ADD:
+                        planner.addCourse(course, position);
+                        return "added";
+                    case REMOVE:
+                        return "removed " + planner.removeCourse(position).getCode();
+                    case VIEW:
+                        return codes(planner.view());
+                    case FILTER:
+                        return entries(planner.filter("CSE"));
+                    default:
+                        return "size " + planner.size();
+                }
+            } catch (Exception ex) {
+                return ex.getClass().getSimpleName();
+            }
+        }
+
+        //Makes the call on a list holding the courses of a planner, as a planner does it
+        String on(List<Course> model) {
+            switch (kind) {
+                case ADD:
+                    if (model.size() >= MAX_COURSES)
+                        return FullPlannerException.class.getSimpleName();
+                    if (position > model.size() + 1)
+                        return IllegalArgumentException.class.getSimpleName();
+                    model.add(position - 1, course);
+                    return "added";
+                case REMOVE:
+                    if (model.isEmpty())
+                        return EmptyPlannerException.class.getSimpleName();
+                    if (position > model.size())
+                        return IllegalArgumentException.class.getSimpleName();
+                    return "removed " + model.remove(position - 1).getCode();
+                case VIEW:
+                    return codes(model);
+                case FILTER: {
+                    List<PlannerEntry> found = new ArrayList<>();
+                    for (int i = 0; i < model.size(); i++) {
+                        if (model.get(i).getDepartment().equals("CSE"))
+                            found.add(new PlannerEntry(i + 1, model.get(i)));
+                    }
+                    return entries(found);
+                }
+                default:
+                    return "size " + model.size();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return kind + (course == null ? "" : " " + course.getCode())
+                    + (position == 0 ? "" : " at " + position) + " [" + invoked + ", " + returned + "] -> "
+                    + result;
+        }
+
+        private static String codes(List<Course> courses) {
+            StringBuilder ret = new StringBuilder("courses");
+            for (Course course : courses)
+                ret.append(' ').append(course.getCode());
+            return ret.toString();
+        }
+
+        private static String entries(List<PlannerEntry> entries) {
+            StringBuilder ret = new StringBuilder("found");
+            for (PlannerEntry entry : entries)
+                ret.append(' ').append(entry.getPosition()).append('=').append(entry.getCourse().getCode());
+            return ret.toString();
+        }
+    }
+
+    /**
+     * The search for an order of the calls of a history that a list could have answered one at a time
+     */
+    private static class Search {
+        private final List<Call> history;
+
+        //The calls that must come before each call, as a set of bits
+        private final long[] before;
+
+        //The calls made so far and the courses they left, for the states found to lead nowhere
+        private final Set<String> deadEnds = new HashSet<>();
+
+        Search(List<Call> history) {
+            this.history = history;
+            this.before = new long[history.size()];
+            for (int i = 0; i < history.size(); i++) {
+                for (int j = 0; j < history.size(); j++) {
+                    if (history.get(j).returned < history.get(i).invoked)
+                        before[i] |= 1L << j;
+                }
+            }
+        }
+
+        boolean linearizable(List<Course> initial) {
+            return search(0, new ArrayList<>(initial));
+        }
+
+        private boolean search(long done, List<Course> model) {
+            if (done == (1L << history.size()) - 1)
+                return true;
+            if (!deadEnds.add(done + ":" + Call.codes(model)))
+                return false;
+            for (int i = 0; i < history.size(); i++) {
+                if ((done & 1L << i) != 0 || (before[i] & ~done) != 0)
+                    continue;
+                List<Course> next = new ArrayList<>(model);
+                if (history.get(i).on(next).equals(history.get(i).result) && search(done | 1L << i, next))
+                    return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static courseplanner.TestCourses.DEPARTMENTS;
+import static courseplanner.TestCourses.course;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <code>CourseSequenceTest</code> class checks a <code>CourseSequence</code> against a list
+ * holding the same courses, after random adds, removes, bulk changes and snapshots.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class CourseSequenceTest {
+
+    @Test
+    void randomChangesMatchList() {
+        Random random = new Random(1);
+        for (int round = 0; round < 50; round++) {
+            CourseSequence sequence = new CourseSequence();
+            List<Course> model = new ArrayList<>();
+            for (int step = 0; step < 300; step++) {
+                int op = random.nextInt(10);
+                if (op < 4 || model.isEmpty()) {
+                    int index = random.nextInt(model.size() + 1);
+                    Course course = course(random);
+                    long label = sequence.add(index, course);
+                    model.add(index, course);
+                    assertEquals(label, sequence.labelAt(index));
+                } else if (op < 6) {
+                    int index = random.nextInt(model.size());
+                    assertSame(model.remove(index), sequence.remove(index));
+                } else if (op == 6) {
+                    int index = random.nextInt(model.size() + 1);
+                    Course[] added = new Course[1 + random.nextInt(5)];
+                    for (int i = 0; i < added.length; i++)
+                        added[i] = course(random);
+                    sequence.addAll(index, added, added.length);
+                    model.addAll(index, List.of(added));
+                } else if (op == 7) {
+                    int from = random.nextInt(model.size() + 1);
+                    int to = from + random.nextInt(model.size() - from + 1);
+                    CourseSequence removed = sequence.removeRange(from, to);
+                    assertEquals(model.subList(from, to), toList(removed));
+                    model.subList(from, to).clear();
+                } else if (op == 8) {
+                    String department = DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+                    int[] calls = {0};
+                    int count = sequence.removeIf(course -> department.equals(course.getDepartment()),
+                            (course, label) -> calls[0]++);
+                    int before = model.size();
+                    model.removeIf(course -> department.equals(course.getDepartment()));
+                    assertEquals(before - model.size(), count);
+                    assertEquals(count, calls[0]);
+                } else {
+                    CourseSequence snapshot = sequence.snapshot();
+                    List<Course> frozen = new ArrayList<>(model);
+                    Course added = course(random);
+                    sequence.add(0, added);
+                    model.add(0, added);
+                    assertEquals(frozen, toList(snapshot));
+                }
+                check(sequence, model);
+            }
+        }
+    }
+
+    @Test
+    void recordsAreDecodedWhenNeeded() {
+        Course[] courses = new Course[100];
+        Random random = new Random(2);
+        for (int i = 0; i < courses.length; i++)
+            courses[i] = course(random);
+        int[] decoded = {0};
+        CourseSequence sequence = new CourseSequence();
+        sequence.setAll(record -> {
+            decoded[0]++;
+            return courses[record];
+        }, courses.length);
+        assertEquals(0, decoded[0]);
+        assertSame(courses[42], sequence.get(42));
+        assertEquals(1, decoded[0]);
+        sequence.remove(0);
+        sequence.add(50, courses[0]);
+        List<Course> model = new ArrayList<>(List.of(courses).subList(1, courses.length));
+        model.add(50, courses[0]);
+        check(sequence, model);
+    }
+
+    @Test
+    void decodedSnapshotsNeverDecodeAgain() {
+        Course[] courses = new Course[50];
+        Random random = new Random(16);
+        for (int i = 0; i < courses.length; i++)
+            courses[i] = course(random);
+        int[] decoded = {0};
+        CourseSequence sequence = new CourseSequence();
+        sequence.setAll(record -> {
+            decoded[0]++;
+            return courses[record];
+        }, courses.length);
+        sequence.get(7);
+        CourseSequence snapshot = sequence.snapshot();
+        snapshot.decodeAll();
+        assertEquals(courses.length, decoded[0]);
+        check(snapshot, List.of(courses));
+        check(sequence, List.of(courses));
+        assertEquals(courses.length, decoded[0]);
+    }
+
+    @Test
+    void badIndexesAreRejected() {
+        CourseSequence sequence = new CourseSequence();
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence.add(1, course(new Random(3))));
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence.removeRange(0, 1));
+        assertNull(sequence.getByLabel(0));
+        assertEquals(-1, sequence.indexOfLabel(0));
+    }
+
+    //Checks the courses, the labels and the fingerprint of a sequence against the list
+    private static void check(CourseSequence sequence, List<Course> model) {
+        assertEquals(model.size(), sequence.size());
+        assertEquals(model, toList(sequence));
+        for (int i = 0; i < model.size(); i++) {
+            long label = sequence.labelAt(i);
+            if (i > 0)
+                assertTrue(sequence.labelAt(i - 1) < label, "labels must follow the positions");
+            assertEquals(i, sequence.indexOfLabel(label));
+            assertSame(model.get(i), sequence.getByLabel(label));
+        }
+        CourseSequence rebuilt = new CourseSequence();
+        rebuilt.setAll(model.toArray(new Course[0]), model.size());
+        assertEquals(rebuilt.fingerprint(), sequence.fingerprint());
+    }
+
+    private static List<Course> toList(CourseSequence sequence) {
+        List<Course> ret = new ArrayList<>();
+        for (Course course : sequence)
+            ret.add(course);
+        return ret;
+    }
+}
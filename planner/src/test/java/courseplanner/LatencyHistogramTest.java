@@ -0,0 +1,66 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <code>LatencyHistogramTest</code> class checks the count, the largest value and the percentiles
+ * of a <code>LatencyHistogram</code> against the sorted values recorded, from one thread and from many.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class LatencyHistogramTest {
+
+    @Test
+    void percentilesAreWithinABucket() {
+        Random random = new Random(14);
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] values = new long[100000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * 25);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        assertEquals(values.length, histogram.count());
+        assertWithinABucket(values[values.length - 1], histogram.max());
+        for (double percentile : new double[]{1, 50, 90, 99, 99.9, 100}) {
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * values.length));
+            assertWithinABucket(values[(int) rank - 1], histogram.percentile(percentile));
+        }
+
+        histogram.reset();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.max());
+        assertEquals(0, histogram.percentile(50));
+    }
+
+    @Test
+    void threadsRecordingAtOnceAreAllCounted() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 50000; i++)
+                    histogram.record(1000 + i % 64 + offset);
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        assertEquals(8 * 50000, histogram.count());
+        assertWithinABucket(1000 + 63 + 7, histogram.max());
+    }
+
+    //Checks a value read from the histogram is the highest value of the bucket of the exact one
+    private static void assertWithinABucket(long exact, long found) {
+        assertEquals(LatencyHistogram.highest(LatencyHistogram.bucket(exact)), found);
+        assertTrue(found >= exact && found <= exact + exact / 16 + 1, exact + " read as " + found);
+    }
+}
@@ -0,0 +1,102 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <code>PlannerBatchTest</code> class runs command files through a <code>PlannerBatch</code> and
+ * checks what it writes for every command, the bad ones reported with their line numbers and the run
+ * going on after them, and that reverting without backups keeps the limit of the planner.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class PlannerBatchTest {
+
+    @Test
+    void commandsAndErrorsAreReportedInOrder() throws Exception {
+        List<String> output = run(new Planner(3),
+                "A|Data Structures|CSE|214|1|Esmaili|1|MW 10:00-11:20",
+                "A|Calculus|AMS|161|1|Smith|x",
+                "A|Calculus|AMS|161|1|Smith|5",
+                "A|Calculus|AMS|161|1|Smith|1|M 11:00-12:00",
+                "A|Physics|PHY|131|1|Jones|3",
+                "# Comments and blank lines are skipped",
+                "",
+                "A|Extra|PHY|132|1|Jones|1",
+                "S",
+                "L|Calculus|AMS|161|1|Smith",
+                "L|Calculus|XYZ|161|1|Nobody",
+                "SC",
+                "PR|CSE|214|AMS|161",
+                "VP",
+                "ZZ");
+        assertEquals(List.of(
+                "CSE 214.1 successfully added to planner.",
+                "line 2: Invalid position!! Please enter an integer",
+                "line 3: " + PlannerManager.addPositionMessage(planner(1)),
+                "AMS 161.1 successfully added to planner.",
+                "Warning: AMS 161.1 meets at the same time as CSE 214.1 at position 2",
+                "PHY 131.1 successfully added to planner.",
+                "line 8: " + PlannerManager.FULL_PLANNER_MESSAGE,
+                "There are 3 courses in the planner",
+                "AMS 161.1 is found in the planner at position 1",
+                "Course not found in planner...",
+                "AMS 161.1 at position 1 and CSE 214.1 at position 2 both meet on Mon 11:00-11:20",
+                "CSE 214 now requires AMS 161.",
+                "Every course in the planner comes after its prerequisites...",
+                "line 15: Invalid input!!! unknown command ZZ"), output);
+    }
+
+    @Test
+    void undoRedoAndRevertKeepTheLimit() throws Exception {
+        Planner planner = new Planner(2);
+        StringWriter out = new StringWriter();
+        PlannerBatch batch = new PlannerBatch(planner, out);
+        batch.run(new BufferedReader(new StringReader(String.join("\n",
+                "A|One|CSE|1|1|X|1",
+                "A|Two|CSE|2|1|X|1",
+                "U",
+                "S",
+                "RD",
+                "RB",
+                "A|One|CSE|1|1|X|1",
+                "A|Two|CSE|2|1|X|1",
+                "A|Three|CSE|3|1|X|1",
+                "Q",
+                "S"))));
+        assertEquals(List.of(
+                "CSE 1.1 successfully added to planner.",
+                "CSE 2.1 successfully added to planner.",
+                "Undid the last change, 1 more can be undone.",
+                "There are 1 courses in the planner",
+                "Redid the last undone change, 0 more can be redone.",
+                "CSE 1.1 successfully added to planner.",
+                "CSE 2.1 successfully added to planner.",
+                "line 9: " + PlannerManager.FULL_PLANNER_MESSAGE), out.toString().lines().toList());
+        assertEquals(2, batch.getPlanner().getMaxCourses());
+        assertTrue(batch.summary(1).startsWith("Processed 10 commands (1 failed)"), batch.summary(1));
+    }
+
+    //Runs the commands on a planner and returns the lines written
+    private static List<String> run(Planner planner, String... commands) throws Exception {
+        StringWriter out = new StringWriter();
+        new PlannerBatch(planner, out).run(new BufferedReader(new StringReader(String.join("\n", commands))));
+        return out.toString().lines().toList();
+    }
+
+    //Builds a planner holding some courses, for the messages depending on its size
+    private static Planner planner(int size) throws Exception {
+        Planner planner = new Planner(10);
+        for (int i = 0; i < size; i++)
+            planner.addCourse(TestCourses.course(i));
+        return planner;
+    }
+}
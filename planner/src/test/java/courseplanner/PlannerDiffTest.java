@@ -0,0 +1,160 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <code>PlannerDiffTest</code> class checks the changes found by <code>PlannerDiff</code> against
+ * the longest common subsequence of both planners, computed by dynamic programming: the courses kept in
+ * place must be a common subsequence of that length, and every other course must be reported once.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class PlannerDiffTest {
+
+    @Test
+    void keptCoursesAreALongestCommonSubsequence() throws Exception {
+        Random random = new Random(5);
+        for (int round = 0; round < 500; round++) {
+            Planner from = planner(random, random.nextInt(30));
+            Planner to = random.nextBoolean() ? edit(from, random) : planner(random, random.nextInt(30));
+            check(from, to);
+        }
+    }
+
+    @Test
+    void equalPlannersHaveNoChanges() throws Exception {
+        Planner from = planner(new Random(6), 20);
+        assertEquals(0, PlannerDiff.diff(from, from.snapshot(), new Recorder(20, 20)));
+    }
+
+    @Test
+    void largePlannersWithFewChanges() throws Exception {
+        Random random = new Random(7);
+        Planner from = planner(random, 2000);
+        Planner to = from.snapshot();
+        to.removeCourse(10);
+        to.addCourse(from.getCourse(1500), 1000);
+        to.addCourse(new Course("New", "AMS", 999, (byte) 1, "Someone"), 1);
+        check(from, to);
+    }
+
+    //Checks the changes between two planners against the longest common subsequence of their courses
+    private static void check(Planner from, Planner to) throws Exception {
+        Recorder recorder = new Recorder(from.size(), to.size());
+        int changes = PlannerDiff.diff(from, to, recorder);
+        int lcs = lcs(from.getCourses(), to.getCourses());
+
+        List<Course> keptFrom = new ArrayList<>();
+        for (int i = 1; i <= from.size(); i++) {
+            if (!recorder.changedFrom[i])
+                keptFrom.add(from.getCourse(i));
+        }
+        List<Course> keptTo = new ArrayList<>();
+        for (int j = 1; j <= to.size(); j++) {
+            if (!recorder.changedTo[j])
+                keptTo.add(to.getCourse(j));
+        }
+        assertEquals(keptFrom, keptTo);
+        assertEquals(lcs, keptFrom.size());
+        assertEquals(recorder.count, changes);
+        assertEquals(from.size() - lcs, recorder.removed + recorder.moved);
+        assertEquals(to.size() - lcs, recorder.added + recorder.moved);
+        for (int[] move : recorder.moves)
+            assertEquals(from.getCourse(move[0]), to.getCourse(move[1]));
+    }
+
+    //The length of the longest common subsequence of the courses from index 1 on
+    private static int lcs(Course[] a, Course[] b) {
+        int[][] length = new int[a.length][b.length];
+        for (int i = 1; i < a.length; i++) {
+            for (int j = 1; j < b.length; j++) {
+                length[i][j] = a[i].equals(b[j]) ? length[i - 1][j - 1] + 1
+                        : Math.max(length[i - 1][j], length[i][j - 1]);
+            }
+        }
+        return length[a.length - 1][b.length - 1];
+    }
+
+    private static Planner planner(Random random, int size) throws Exception {
+        Planner planner = new Planner(size + 10);
+        for (int i = 0; i < size; i++)
+            planner.addCourse(course(random));
+        return planner;
+    }
+
+    //Returns a copy of a planner with a few random changes
+    private static Planner edit(Planner planner, Random random) throws Exception {
+        Planner ret = planner.snapshot();
+        for (int i = random.nextInt(6); i > 0; i--) {
+            if (ret.size() > 0 && random.nextBoolean())
+                ret.removeCourse(1 + random.nextInt(ret.size()));
+            else if (ret.size() < ret.getMaxCourses())
+                ret.addCourse(course(random), 1 + random.nextInt(ret.size() + 1));
+        }
+        return ret;
+    }
+
+    //Draws one of 8 courses, so the planners share many of them
+    private static Course course(Random random) {
+        return TestCourses.course(100 + random.nextInt(8));
+    }
+
+    /**
+     * Records the changes reported by a diff, checking each position is reported at most once
+     */
+    private static class Recorder implements PlannerDiff.Listener {
+        private final boolean[] changedFrom;
+        private final boolean[] changedTo;
+        private final List<int[]> moves = new ArrayList<>();
+        private int removed;
+        private int added;
+        private int moved;
+        private int count;
+
+        Recorder(int fromSize, int toSize) {
+            this.changedFrom = new boolean[fromSize + 1];
+            this.changedTo = new boolean[toSize + 1];
+        }
+
+        @Override
+        public void removed(int from, Course course) {
+            markFrom(from);
+            removed++;
+            count++;
+        }
+
+        @Override
+        public void added(int to, Course course) {
+            markTo(to);
+            added++;
+            count++;
+        }
+
+        @Override
+        public void moved(int from, int to, Course course) {
+            markFrom(from);
+            markTo(to);
+            moves.add(new int[]{from, to});
+            moved++;
+            count++;
+        }
+
+        private void markFrom(int from) {
+            assertFalse(changedFrom[from]);
+            changedFrom[from] = true;
+        }
+
+        private void markTo(int to) {
+            assertFalse(changedTo[to]);
+            changedTo[to] = true;
+        }
+    }
+}
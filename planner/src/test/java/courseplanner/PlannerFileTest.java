@@ -0,0 +1,151 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The <code>PlannerFileTest</code> class checks that planners saved by <code>PlannerFile</code> load
+ * back equal, and that files which aren't planner files are refused.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class PlannerFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void savedPlannerLoadsBackEqual() throws Exception {
+        Random random = new Random(8);
+        for (int size : new int[]{0, 1, 2, 50, 3000}) {
+            Planner planner = new Planner(size + 7);
+            for (int i = 0; i < size; i++) {
+                planner.addCourse(new Course("Course " + random.nextInt(100), "D" + random.nextInt(5),
+                        random.nextInt(1000), (byte) random.nextInt(128), "Instructor " + random.nextInt(40)));
+            }
+            Path file = dir.resolve("planner-" + size + ".pln");
+            PlannerFile.save(planner, file);
+            Planner loaded = PlannerFile.load(file);
+            assertEquals(planner, loaded);
+            assertEquals(planner.getMaxCourses(), loaded.getMaxCourses());
+            assertEquals(planner.toString(), loaded.toString());
+        }
+    }
+
+    @Test
+    void textIsKeptAsWritten() throws Exception {
+        Planner planner = new Planner();
+        planner.addCourse(new Course("Évolution des systèmes", "FRN", 101, (byte) 1, "Zoë Ñúñez"));
+        planner.addCourse(new Course("数据结构", "CSE", 214, (byte) 2, ""));
+        Path file = dir.resolve("text.pln");
+        PlannerFile.save(planner, file);
+        assertEquals(planner, PlannerFile.load(file));
+    }
+
+    @Test
+    void loadedPlannerCanBeChangedAndSavedElsewhere() throws Exception {
+        Planner planner = new Planner(20);
+        for (int i = 0; i < 10; i++)
+            planner.addCourse(new Course("Course " + i, "CSE", 100 + i, (byte) 1, "Instructor"));
+        Path first = dir.resolve("first.pln");
+        PlannerFile.save(planner, first);
+
+        Planner loaded = PlannerFile.load(first);
+        loaded.removeCourse(3);
+        loaded.addCourse(new Course("Added", "AMS", 301, (byte) 1, "Someone"), 1);
+        Path second = dir.resolve("second.pln");
+        PlannerFile.save(loaded, second);
+        assertEquals(loaded, PlannerFile.load(second));
+        assertEquals(planner, PlannerFile.load(first));
+    }
+
+    @Test
+    void meetingTimesAreKept() throws Exception {
+        Planner planner = new Planner();
+        Course lecture = new Course("Data Structures", "CSE", 214, (byte) 1, "Instructor");
+        lecture.setMeetings(MeetingTime.parseAll("MWF 10:00-10:53, R 14:00-15:20"));
+        Course late = new Course("Night Lab", "CSE", 215, (byte) 2, "Instructor");
+        late.setMeetings(MeetingTime.parseAll("SU 22:00-24:00"));
+        planner.addCourse(lecture);
+        planner.addCourse(new Course("No Meetings", "AMS", 161, (byte) 1, "Someone"));
+        planner.addCourse(late);
+        Path file = dir.resolve("meetings.pln");
+        PlannerFile.save(planner, file);
+
+        Planner loaded = PlannerFile.load(file);
+        assertEquals(planner, loaded);
+        for (int i = 1; i <= planner.size(); i++)
+            assertEquals(planner.getCourse(i).getMeetings(), loaded.getCourse(i).getMeetings());
+    }
+
+    @Test
+    void version1FilesAreRead() throws Exception {
+        //A version 1 file holding one course, whose record has no meetings id
+        String[] strings = {"Course", "CSE", "Instructor"};
+        ByteBuffer out = ByteBuffer.allocate(5 * 4 + 17 + strings.length * 4 + 3 * 4 + 19);
+        out.putInt(0x43504C4E).putInt(1).putInt(10).putInt(1).putInt(strings.length);
+        out.putInt(0).putInt(1).putInt(2).putInt(114).put((byte) 3);
+        int offset = out.position() + strings.length * 4;
+        for (String string : strings) {
+            out.putInt(offset);
+            offset += 4 + string.length();
+        }
+        for (String string : strings)
+            out.putInt(string.length()).put(string.getBytes(StandardCharsets.UTF_8));
+        Path file = Files.write(dir.resolve("v1.pln"), out.array());
+
+        Planner loaded = PlannerFile.load(file);
+        assertEquals(10, loaded.getMaxCourses());
+        assertEquals(new Course("Course", "CSE", 114, (byte) 3, "Instructor"), loaded.getCourse(1));
+        assertEquals(List.of(), loaded.getCourse(1).getMeetings());
+    }
+
+    @Test
+    void savingOverALoadedFileReplacesIt() throws Exception {
+        Planner planner = new Planner(200);
+        for (int i = 0; i < 100; i++)
+            planner.addCourse(new Course("Course " + i, "CSE", 100 + i, (byte) 1, "Instructor " + i));
+        Path file = dir.resolve("shared.pln");
+        PlannerFile.save(planner, file);
+        Planner loaded = PlannerFile.load(file);
+
+        //The loaded planner still decodes its courses from the file that was replaced
+        Planner other = new Planner(5);
+        other.addCourse(new Course("Other", "AMS", 161, (byte) 2, "Someone"));
+        PlannerFile.save(other, file);
+        assertEquals(planner, loaded);
+        assertEquals(other, PlannerFile.load(file));
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void otherFilesAreRefused() throws Exception {
+        Path empty = Files.write(dir.resolve("empty.pln"), new byte[0]);
+        assertThrows(IOException.class, () -> PlannerFile.load(empty));
+        Path text = Files.writeString(dir.resolve("text.pln"), "not a planner file at all");
+        assertThrows(IOException.class, () -> PlannerFile.load(text));
+
+        Planner planner = new Planner();
+        planner.addCourse(new Course("Course", "CSE", 114, (byte) 1, "Instructor"));
+        Path file = dir.resolve("cut.pln");
+        PlannerFile.save(planner, file);
+        byte[] bytes = Files.readAllBytes(file);
+        Path cut = Files.write(dir.resolve("cut-short.pln"), Arrays.copyOf(bytes, 24));
+        assertThrows(IOException.class, () -> PlannerFile.load(cut));
+    }
+}
@@ -0,0 +1,182 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static courseplanner.TestCourses.course;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <code>PlannerHistoryTest</code> class checks that undoing and redoing the changes recorded in a
+ * <code>PlannerHistory</code> walks a planner back and forth through the states it went through, and
+ * that the history stays within its budget.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class PlannerHistoryTest {
+
+    //Ignores the changes made by an undo or a redo
+    private static final PlannerHistory.Listener IGNORED = new PlannerHistory.Listener() {
+        @Override
+        public void added(int position, List<Course> courses) {
+        }
+
+        @Override
+        public void removed(int position, int count) {
+        }
+
+        @Override
+        public void replaced(Planner planner) {
+        }
+    };
+
+    @Test
+    void undoAndRedoWalkThroughEveryState() throws Exception {
+        Random random = new Random(4);
+        for (int round = 0; round < 30; round++) {
+            Planner planner = new Planner(1000);
+            PlannerHistory history = new PlannerHistory(Long.MAX_VALUE);
+            List<List<Course>> states = new ArrayList<>();
+            states.add(planner.view());
+            for (int step = 0; step < 40; step++) {
+                int recorded = history.undoCount();
+                planner = change(planner, history, random);
+                //A removal matching nothing isn't recorded
+                if (history.undoCount() > recorded)
+                    states.add(planner.view());
+            }
+
+            for (int i = states.size() - 1; i > 0; i--) {
+                assertTrue(history.canUndo());
+                planner = history.undo(planner, IGNORED);
+                assertEquals(states.get(i - 1), planner.view());
+            }
+            assertFalse(history.canUndo());
+            for (int i = 1; i < states.size(); i++) {
+                planner = history.redo(planner, IGNORED);
+                assertEquals(states.get(i), planner.view());
+            }
+            assertFalse(history.canRedo());
+        }
+    }
+
+    @Test
+    void newChangeDropsTheRedos() throws Exception {
+        Planner planner = new Planner();
+        PlannerHistory history = new PlannerHistory();
+        Course first = course(1);
+        planner.addCourse(first, 1);
+        history.recordAdd(first, 1);
+        planner = history.undo(planner, IGNORED);
+        assertTrue(history.canRedo());
+
+        Course second = course(2);
+        planner.addCourse(second, 1);
+        history.recordAdd(second, 1);
+        assertFalse(history.canRedo());
+        assertThrows(IllegalStateException.class, () -> history.redo(new Planner(), IGNORED));
+    }
+
+    @Test
+    void oldestChangesAreForgottenPastTheBudget() throws Exception {
+        Planner planner = new Planner(1000);
+        PlannerHistory history = new PlannerHistory(4096);
+        for (int i = 0; i < 500; i++) {
+            Course course = course(i);
+            planner.addCourse(course, 1);
+            history.recordAdd(course, 1);
+            assertTrue(history.getBytes() <= history.getBudgetBytes());
+        }
+        int kept = history.undoCount();
+        assertTrue(kept > 0 && kept < 500);
+        for (int i = 0; i < kept; i++)
+            planner = history.undo(planner, IGNORED);
+        assertEquals(500 - kept, planner.size());
+        assertEquals(course(500 - kept - 1), planner.getCourse(1));
+    }
+
+    @Test
+    void replacedPlannerIsSwappedBack() throws Exception {
+        Planner planner = new Planner();
+        planner.addCourse(course(1));
+        PlannerHistory history = new PlannerHistory();
+        Planner loaded = new Planner();
+        loaded.addCourse(course(2));
+        history.recordReplace(planner);
+
+        Planner[] replaced = new Planner[1];
+        PlannerHistory.Listener listener = new PlannerHistory.Listener() {
+            @Override
+            public void added(int position, List<Course> courses) {
+            }
+
+            @Override
+            public void removed(int position, int count) {
+            }
+
+            @Override
+            public void replaced(Planner now) {
+                replaced[0] = now;
+            }
+        };
+        assertSame(planner, history.undo(loaded, listener));
+        assertSame(planner, replaced[0]);
+        assertSame(loaded, history.redo(planner, listener));
+    }
+
+    //Makes a random recorded change to a planner and returns the planner in use afterwards
+    private static Planner change(Planner planner, PlannerHistory history, Random random) throws Exception {
+        int size = planner.size();
+        switch (size == 0 ? 0 : random.nextInt(6)) {
+            case 0:
+            case 1: {
+                Course course = course(random.nextInt(30));
+                int position = 1 + random.nextInt(size + 1);
+                planner.addCourse(course, position);
+                history.recordAdd(course, position);
+                return planner;
+            }
+            case 2: {
+                int position = 1 + random.nextInt(size);
+                Course removed = planner.getCourse(position);
+                planner.removeCourse(position);
+                history.recordRemove(removed, position);
+                return planner;
+            }
+            case 3: {
+                List<Course> added = new ArrayList<>();
+                for (int i = random.nextInt(4); i >= 0; i--)
+                    added.add(course(random.nextInt(30)));
+                int position = 1 + random.nextInt(size + 1);
+                planner.addAll(position, added);
+                history.recordAddAll(added, position);
+                return planner;
+            }
+            case 4: {
+                int from = 1 + random.nextInt(size);
+                int to = from + random.nextInt(size - from + 1);
+                history.recordRemoveRange(planner.removeRange(from, to), from);
+                return planner;
+            }
+            default: {
+                int code = random.nextInt(30);
+                if (random.nextBoolean()) {
+                    history.recordRemoveAll(planner.removeIf(course -> course.getCode() % 3 == code % 3));
+                    return planner;
+                }
+                Planner loaded = new Planner(1000);
+                loaded.addCourse(course(code));
+                history.recordReplace(planner);
+                return loaded;
+            }
+        }
+    }
+}
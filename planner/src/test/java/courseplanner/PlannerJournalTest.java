@@ -0,0 +1,188 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static courseplanner.TestCourses.course;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The <code>PlannerJournalTest</code> class checks that a <code>PlannerJournal</code> restores the
+ * planner and backups it recorded, through checkpoints, and that a torn or corrupted tail left by a crash
+ * is cut off so only the changes before it are replayed.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class PlannerJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replayRestoresEveryChange() throws Exception {
+        Random random = new Random(9);
+        Planner planner = new Planner(100);
+        PlannerBackups backups = new PlannerBackups();
+        try (PlannerJournal journal = PlannerJournal.open(dir, 100, 0, Long.MAX_VALUE)) {
+            for (int i = 0; i < 200; i++)
+                planner = change(planner, backups, journal, random);
+        }
+        try (PlannerJournal journal = PlannerJournal.open(dir, 100, 0, Long.MAX_VALUE)) {
+            assertEquals(planner, journal.getRecoveredPlanner());
+            assertEquals(backups.names(), journal.getRecoveredBackups().names());
+            for (String name : backups.names())
+                assertEquals(backups.get(name), journal.getRecoveredBackups().get(name));
+        }
+    }
+
+    @Test
+    void checkpointsAndLaterChangesAreRestored() throws Exception {
+        Random random = new Random(10);
+        Planner planner = new Planner(100);
+        PlannerBackups backups = new PlannerBackups();
+        try (PlannerJournal journal = PlannerJournal.open(dir, 100, 0, 512)) {
+            for (int i = 0; i < 300; i++) {
+                planner = change(planner, backups, journal, random);
+                journal.compactIfNeeded(planner, backups);
+            }
+        }
+        try (PlannerJournal journal = PlannerJournal.open(dir, 100, 0, 512)) {
+            assertEquals(planner, journal.getRecoveredPlanner());
+            assertEquals(backups.names(), journal.getRecoveredBackups().names());
+        }
+    }
+
+    @Test
+    void meetingTimesAreReplayed() throws Exception {
+        Course lecture = course(1);
+        lecture.setMeetings(MeetingTime.parseAll("TR 09:30-10:50"));
+        Planner planner = new Planner(100);
+        PlannerBackups backups = new PlannerBackups();
+        try (PlannerJournal journal = PlannerJournal.open(dir, 100, 0, Long.MAX_VALUE)) {
+            add(planner, journal, course(0), 1);
+            add(planner, journal, lecture, 2);
+            //The checkpoint keeps them too
+            journal.checkpoint(planner, backups);
+            add(planner, journal, lecture, 1);
+        }
+        try (PlannerJournal journal = PlannerJournal.open(dir, 100, 0, Long.MAX_VALUE)) {
+            Planner recovered = journal.getRecoveredPlanner();
+            assertEquals(planner, recovered);
+            for (int i = 1; i <= planner.size(); i++)
+                assertEquals(planner.getCourse(i).getMeetings(), recovered.getCourse(i).getMeetings());
+        }
+    }
+
+    @Test
+    void revertWithoutBackupsKeepsTheLimit() throws Exception {
+        Planner planner = new Planner(3);
+        PlannerBackups backups = new PlannerBackups();
+        try (PlannerJournal journal = PlannerJournal.open(dir, 3, 0, Long.MAX_VALUE)) {
+            add(planner, journal, course(0), 1);
+            journal.logRevert(null);
+            planner = backups.restoreLatest(planner.getMaxCourses());
+        }
+        assertEquals(3, planner.getMaxCourses());
+        try (PlannerJournal journal = PlannerJournal.open(dir, 3, 0, Long.MAX_VALUE)) {
+            Planner recovered = journal.getRecoveredPlanner();
+            assertEquals(0, recovered.size());
+            assertEquals(3, recovered.getMaxCourses());
+        }
+    }
+
+    @Test
+    void tornTailIsCutOff() throws Exception {
+        Planner planner = new Planner(100);
+        Planner beforeLast;
+        try (PlannerJournal journal = PlannerJournal.open(dir, 100, 0, Long.MAX_VALUE)) {
+            for (int i = 0; i < 9; i++)
+                add(planner, journal, course(i), 1);
+            beforeLast = planner.snapshot();
+            add(planner, journal, course(9), 5);
+        }
+        Path log = onlyJournal();
+        byte[] full = Files.readAllBytes(log);
+
+        //Every cut inside the last record loses that record and nothing else
+        for (int cut = full.length - 1; cut > full.length - 20; cut -= 3) {
+            Files.write(log, Arrays.copyOf(full, cut));
+            try (PlannerJournal journal = PlannerJournal.open(dir, 100, 0, Long.MAX_VALUE)) {
+                assertEquals(beforeLast, journal.getRecoveredPlanner());
+            }
+            assertTrue(Files.size(log) < cut);
+        }
+
+        //The journal was cut back to its last whole record, so new records replay after it
+        try (PlannerJournal journal = PlannerJournal.open(dir, 100, 0, Long.MAX_VALUE)) {
+            Planner recovered = journal.getRecoveredPlanner();
+            add(recovered, journal, course(42), 2);
+            beforeLast.addCourse(course(42), 2);
+        }
+        try (PlannerJournal journal = PlannerJournal.open(dir, 100, 0, Long.MAX_VALUE)) {
+            assertEquals(beforeLast, journal.getRecoveredPlanner());
+        }
+    }
+
+    @Test
+    void corruptedRecordEndsTheReplay() throws Exception {
+        Planner planner = new Planner(100);
+        Planner beforeLast;
+        try (PlannerJournal journal = PlannerJournal.open(dir, 100, 0, Long.MAX_VALUE)) {
+            for (int i = 0; i < 5; i++)
+                add(planner, journal, course(i), i + 1);
+            beforeLast = planner.snapshot();
+            add(planner, journal, course(5), 3);
+        }
+        Path log = onlyJournal();
+        byte[] bytes = Files.readAllBytes(log);
+        //Flips a byte of the name of the last course, so its checksum no longer matches
+        bytes[bytes.length - 8] ^= 0x55;
+        Files.write(log, bytes);
+        try (PlannerJournal journal = PlannerJournal.open(dir, 100, 0, Long.MAX_VALUE)) {
+            assertEquals(beforeLast, journal.getRecoveredPlanner());
+        }
+    }
+
+    private Path onlyJournal() throws Exception {
+        try (var files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("journal-"))
+                    .findFirst().orElseThrow();
+        }
+    }
+
+    private static void add(Planner planner, PlannerJournal journal, Course course, int position)
+            throws Exception {
+        planner.addCourse(course, position);
+        journal.logAdd(course, position);
+    }
+
+    //Makes a random change to a planner and its backups, recording it in the journal
+    private static Planner change(Planner planner, PlannerBackups backups, PlannerJournal journal,
+                                  Random random) throws Exception {
+        int op = random.nextInt(10);
+        if (op < 5 || planner.size() == 0) {
+            if (planner.size() < planner.getMaxCourses())
+                add(planner, journal, course(random.nextInt(50)), 1 + random.nextInt(planner.size() + 1));
+        } else if (op < 8) {
+            int position = 1 + random.nextInt(planner.size());
+            planner.removeCourse(position);
+            journal.logRemove(position);
+        } else if (op == 8) {
+            String name = "backup " + random.nextInt(3);
+            backups.save(name, planner);
+            journal.logBackup(name);
+        } else if (!backups.names().isEmpty()) {
+            String name = backups.names().iterator().next();
+            journal.logRevert(name);
+            return backups.restore(name);
+        }
+        return planner;
+    }
+}
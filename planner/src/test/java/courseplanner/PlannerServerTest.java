@@ -0,0 +1,37 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <code>PlannerServerTest</code> class checks that requests answered by a <code>PlannerServer</code>
+ * only give students a planner when a command may change it.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class PlannerServerTest {
+
+    @Test
+    void readsOfUnknownStudentsCreateNoPlanner() throws Exception {
+        PlannerRegistry registry = new PlannerRegistry(4, 10);
+        try (PlannerServer server = new PlannerServer(registry, 0)) {
+            for (String command : new String[]{"P", "S", "G|1", "F|CSE", "LB", "PB", "DB", "SC"}) {
+                String reply = server.handle("ghost|" + command);
+                assertTrue(reply.startsWith("ERR No planner exists for student ghost"), command + ": " + reply);
+            }
+            assertEquals(0, registry.size());
+            assertNull(registry.find("ghost"));
+
+            assertEquals("OK 1", server.handle("ada|A|Data Structures|CSE|214|1|Instructor|1").lines()
+                    .findFirst().orElseThrow());
+            assertEquals(1, registry.size());
+            assertEquals("OK 1\nThere are 1 courses in the planner", server.handle("ada|S"));
+            assertTrue(server.handle("ada|F|CSE").startsWith("OK 1\n"));
+            assertEquals(1, registry.size());
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static courseplanner.TestCourses.DEPARTMENTS;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <code>PlannerTest</code> class checks the answers of the indexes of a <code>Planner</code>
+ * against a scan of its courses, after many courses were added at the same spot so the labels around
+ * it had to be spread out again and again, and after a removal whose condition failed midway.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class PlannerTest {
+
+    @Test
+    void repeatedInsertsAtOneSpotKeepTheIndexes() throws Exception {
+        Random random = new Random(11);
+        for (int spot : new int[]{2, 500, 1001}) {
+            Planner planner = new Planner(4000);
+            for (int i = 0; i < 1000; i++)
+                planner.addCourse(course(random));
+            //Builds the indexes, so every later add has to keep them up to date
+            planner.filter("CSE");
+            for (int i = 0; i < 2000; i++) {
+                planner.addCourse(course(random), spot);
+                if (i % 250 == 0)
+                    check(planner);
+            }
+            check(planner);
+        }
+    }
+
+    @Test
+    void repeatedInsertsAtOneSpotRelabelFewCourses() {
+        CourseSequence sequence = new CourseSequence();
+        Random random = new Random(12);
+        for (int i = 0; i < 10000; i++)
+            sequence.add(i, course(random));
+        long[] relabeled = {0};
+        for (int i = 0; i < 10000; i++) {
+            sequence.add(5000, course(random), (courses, from, to) -> relabeled[0] += courses.length);
+            assertTrue(sequence.labelAt(4999) < sequence.labelAt(5000)
+                    && sequence.labelAt(5000) < sequence.labelAt(5001));
+        }
+        //Relabeling every course on each add would take 10000 times more
+        assertTrue(relabeled[0] < 100L * 10000, "relabeled " + relabeled[0] + " courses");
+    }
+
+    @Test
+    void failedRemoveIfLeavesThePlannerAsItWas() throws Exception {
+        Random random = new Random(13);
+        Planner planner = new Planner(500);
+        for (int i = 0; i < 300; i++)
+            planner.addCourse(course(random));
+        planner.filter("CSE");
+        Course[] before = planner.getCourses();
+
+        int[] tested = {0};
+        assertThrows(IllegalStateException.class, () -> planner.removeIf(course -> {
+            if (++tested[0] == 200)
+                throw new IllegalStateException("condition failed");
+            return "CSE".equals(course.getDepartment());
+        }));
+        assertArrayEquals(before, planner.getCourses());
+        check(planner);
+
+        planner.removeIf(course -> "CSE".equals(course.getDepartment()));
+        assertTrue(planner.filter("CSE").isEmpty());
+        check(planner);
+    }
+
+    @Test
+    void storedCoursesRefuseChanges() throws Exception {
+        Planner planner = new Planner(10);
+        Course course = new Course("Data Structures", "CSE", 214, (byte) 1, "Ahmad Esmaili");
+        planner.addCourse(course);
+        assertThrows(IllegalStateException.class, () -> course.setCode(220));
+        assertThrows(IllegalStateException.class, () -> course.setDepartment("AMS"));
+        assertThrows(IllegalStateException.class, () -> course.setMeetings(List.of()));
+        assertEquals(1, planner.rangeQuery("CSE", 214, 214).size());
+
+        Course copy = (Course) course.clone();
+        copy.setCode(220);
+        planner.removeCourse(1);
+        planner.addCourse(copy);
+        assertEquals(1, planner.rangeQuery("CSE", 220, 220).size());
+        assertTrue(planner.rangeQuery("CSE", 214, 214).isEmpty());
+    }
+
+    @Test
+    void lookupsDontGrowTheDictionaries() throws Exception {
+        Planner planner = new Planner(10);
+        planner.addCourse(new Course("Data Structures", "CSE", 214, (byte) 1, "Ahmad Esmaili"));
+        int departments = Course.DEPARTMENTS.size();
+        int instructors = Course.INSTRUCTORS.size();
+        assertEquals("Course not found in planner...",
+                PlannerManager.searchMessage(planner, Course.probe("Data Structures", "QQZ", 214, (byte) 1,
+                        "Nobody Known")));
+        assertEquals(departments, Course.DEPARTMENTS.size());
+        assertEquals(instructors, Course.INSTRUCTORS.size());
+        assertEquals(1, planner.indexOf(Course.probe("Data Structures", "CSE", 214, (byte) 1, "Ahmad Esmaili")));
+    }
+
+    @Test
+    void conflictReportFindsEveryOverlappingPair() throws Exception {
+        Random random = new Random(14);
+        String[] days = {"M", "T", "W", "R", "F", "MW", "TR", "MWF"};
+        for (int round = 0; round < 50; round++) {
+            Planner planner = new Planner(100);
+            for (int i = random.nextInt(40); i > 0; i--) {
+                Course course = TestCourses.course(random);
+                List<MeetingTime> meetings = new ArrayList<>();
+                for (int m = random.nextInt(3); m > 0; m--) {
+                    int start = 480 + 10 * random.nextInt(40);
+                    meetings.add(new MeetingTime(days[random.nextInt(days.length)], start,
+                            start + 10 * (1 + random.nextInt(12))));
+                }
+                course.setMeetings(meetings);
+                planner.addCourse(course, 1 + random.nextInt(planner.size() + 1));
+            }
+
+            List<String> expected = new ArrayList<>();
+            for (int i = 1; i <= planner.size(); i++) {
+                for (int j = i + 1; j <= planner.size(); j++) {
+                    String overlap = firstOverlap(planner.getCourse(i), planner.getCourse(j));
+                    if (overlap != null)
+                        expected.add(i + " " + j + " " + overlap);
+                }
+            }
+            List<String> found = new ArrayList<>();
+            for (CourseConflict conflict : planner.conflictReport()) {
+                assertEquals(planner.getCourse(conflict.getFirst().getPosition()), conflict.getFirst().getCourse());
+                assertTrue(meets(conflict.getFirst().getCourse(), conflict)
+                        && meets(conflict.getSecond().getCourse(), conflict), "round " + round + ": " + conflict);
+                found.add(conflict.getFirst().getPosition() + " " + conflict.getSecond().getPosition() + " "
+                        + conflict.getDay() + " " + conflict.getStart());
+            }
+            assertEquals(expected, found, "round " + round);
+        }
+    }
+
+    //Finds the first day and time two courses both meet at by comparing all their meetings
+    private static String firstOverlap(Course first, Course second) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            int earliest = Integer.MAX_VALUE;
+            for (MeetingTime a : first.getMeetings()) {
+                for (MeetingTime b : second.getMeetings()) {
+                    int start = Math.max(a.getStart(), b.getStart());
+                    if (a.meetsOn(day) && b.meetsOn(day) && start < Math.min(a.getEnd(), b.getEnd()))
+                        earliest = Math.min(earliest, start);
+                }
+            }
+            if (earliest != Integer.MAX_VALUE)
+                return day + " " + earliest;
+        }
+        return null;
+    }
+
+    //Checks that a course meets for the whole time of a conflict
+    private static boolean meets(Course course, CourseConflict conflict) {
+        for (MeetingTime meeting : course.getMeetings()) {
+            if (meeting.meetsOn(conflict.getDay()) && meeting.getStart() <= conflict.getStart()
+                    && conflict.getStart() < conflict.getEnd() && conflict.getEnd() <= meeting.getEnd())
+                return true;
+        }
+        return false;
+    }
+
+    @Test
+    void setCoursesRefusesArraysWithHoles() throws Exception {
+        Random random = new Random(16);
+        Planner planner = new Planner(3);
+        Course[] courses = new Course[5];
+        courses[1] = course(random);
+        courses[2] = course(random);
+        planner.setCourses(courses);
+        assertArrayEquals(new Course[]{null, courses[1], courses[2]}, planner.getCourses());
+        check(planner);
+
+        courses[4] = course(random);
+        assertThrows(IllegalArgumentException.class, () -> planner.setCourses(courses));
+        courses[3] = course(random);
+        assertThrows(IllegalArgumentException.class, () -> planner.setCourses(courses));
+        assertEquals(2, planner.size());
+    }
+
+    //Checks every index against a scan of the courses of a planner
+    private static void check(Planner planner) throws Exception {
+        Course[] courses = planner.getCourses();
+        for (String department : DEPARTMENTS) {
+            List<PlannerEntry> expected = new ArrayList<>();
+            for (int i = 1; i <= planner.size(); i++) {
+                if (department.equals(courses[i].getDepartment()))
+                    expected.add(new PlannerEntry(i, courses[i]));
+            }
+            assertEntries(expected, planner.filter(department));
+
+            List<PlannerEntry> inRange = new ArrayList<>();
+            for (int code = 110; code <= 114; code++) {
+                for (PlannerEntry entry : expected) {
+                    if (entry.getCourse().getCode() == code)
+                        inRange.add(entry);
+                }
+            }
+            assertEntries(inRange, planner.rangeQuery(department, 110, 114));
+        }
+
+        List<PlannerEntry> named = new ArrayList<>();
+        for (int i = 1; i <= planner.size(); i++) {
+            if (courses[i].getName().contains("11"))
+                named.add(new PlannerEntry(i, courses[i]));
+        }
+        assertEntries(named, planner.searchNames("11", false));
+
+        for (int i = 1; i <= planner.size(); i += 97) {
+            assertEquals(courses[i], planner.getCourse(i));
+            assertTrue(planner.indexOf(courses[i]) <= i);
+            assertEquals(courses[planner.indexOf(courses[i])], courses[i]);
+        }
+        Course allDay = new Course("Any", "CSE", 1, (byte) 1, "Someone");
+        allDay.setMeetings(List.of(new MeetingTime("M", 0, 24 * 60)));
+        assertEquals(planner.size(), planner.conflicts(allDay).size());
+    }
+
+    private static void assertEntries(List<PlannerEntry> expected, List<PlannerEntry> found) {
+        assertEquals(expected.size(), found.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getPosition(), found.get(i).getPosition());
+            assertEquals(expected.get(i).getCourse(), found.get(i).getCourse());
+        }
+    }
+
+    //Draws a course meeting at the same time as every other one
+    private static Course course(Random random) {
+        Course course = TestCourses.course(random);
+        course.setMeetings(List.of(new MeetingTime("MWF", 600, 650)));
+        return course;
+    }
+}
@@ -0,0 +1,135 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static courseplanner.TestCourses.course;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <code>PrerequisiteGraphTest</code> class checks the closures of a <code>PrerequisiteGraph</code>
+ * against a search of its direct prerequisites as they are added in any order, that prerequisites making
+ * a course require itself are refused, and the violations found in planners holding several sections of
+ * a course or missing some prerequisites.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class PrerequisiteGraphTest {
+
+    @Test
+    void closuresReachCoursesRequiringTheNewPrerequisite() {
+        PrerequisiteGraph graph = new PrerequisiteGraph();
+        graph.addPrerequisite("CSE", 320, "CSE", 220);
+        graph.addPrerequisite("CSE", 220, "CSE", 214);
+        //CSE 320 already required CSE 220, so it now requires CSE 214 as well
+        assertTrue(graph.isRequiredBefore("CSE", 214, "CSE", 320));
+        graph.addPrerequisite("CSE", 214, "AMS", 161);
+        assertTrue(graph.isRequiredBefore("AMS", 161, "CSE", 320));
+        assertFalse(graph.isRequiredBefore("CSE", 320, "AMS", 161));
+
+        Random random = new Random(25);
+        for (int round = 0; round < 20; round++) {
+            //Courses only require courses with lower codes, so no order of the edges makes a cycle
+            int courses = 30;
+            List<int[]> edges = new ArrayList<>();
+            for (int course = 1; course < courses; course++) {
+                for (int i = random.nextInt(3); i > 0; i--)
+                    edges.add(new int[]{course, random.nextInt(course)});
+            }
+            Collections.shuffle(edges, random);
+            PrerequisiteGraph shuffled = new PrerequisiteGraph();
+            boolean[][] direct = new boolean[courses][courses];
+            for (int[] edge : edges) {
+                shuffled.addPrerequisite("MAT", edge[0], "MAT", edge[1]);
+                direct[edge[0]][edge[1]] = true;
+            }
+            for (int course = 0; course < courses; course++) {
+                boolean[] required = reachable(direct, course);
+                for (int other = 0; other < courses; other++)
+                    assertEquals(required[other], shuffled.isRequiredBefore("MAT", other, "MAT", course),
+                            "round " + round + ": MAT " + other + " before MAT " + course);
+            }
+        }
+    }
+
+    @Test
+    void cyclesAreRefused() {
+        PrerequisiteGraph graph = new PrerequisiteGraph();
+        assertThrows(IllegalArgumentException.class, () -> graph.addPrerequisite("CSE", 214, "CSE", 214));
+        graph.addPrerequisite("CSE", 220, "CSE", 214);
+        graph.addPrerequisite("CSE", 320, "CSE", 220);
+        assertThrows(IllegalArgumentException.class, () -> graph.addPrerequisite("CSE", 214, "CSE", 220));
+        assertThrows(IllegalArgumentException.class, () -> graph.addPrerequisite("CSE", 214, "CSE", 320));
+        assertEquals(2, graph.prerequisiteCount());
+        assertFalse(graph.isRequiredBefore("CSE", 320, "CSE", 214));
+
+        //A prerequisite already implied adds nothing
+        graph.addPrerequisite("CSE", 320, "CSE", 214);
+        assertEquals(2, graph.prerequisiteCount());
+    }
+
+    @Test
+    void oneSectionBeforeTheCourseIsEnough() throws Exception {
+        PrerequisiteGraph graph = new PrerequisiteGraph();
+        graph.addPrerequisite("CSE", 220, "CSE", 214);
+
+        Planner planner = planner(course("CSE", 214, 2), course("CSE", 220, 1), course("CSE", 214, 1));
+        assertTrue(graph.validate(planner).isEmpty());
+
+        planner = planner(course("CSE", 220, 1), course("CSE", 214, 1), course("CSE", 214, 2));
+        List<PrerequisiteViolation> violations = graph.validate(planner);
+        assertEquals(1, violations.size());
+        assertEquals(1, violations.get(0).getCourse().getPosition());
+        //The prerequisite is reported at the first position it is planned at
+        assertEquals(2, violations.get(0).getPrerequisite().getPosition());
+        assertEquals(1, violations.get(0).getPrerequisite().getCourse().getSection());
+    }
+
+    @Test
+    void prerequisitesOutsideThePlannerAreNotReported() throws Exception {
+        PrerequisiteGraph graph = new PrerequisiteGraph();
+        graph.addPrerequisite("CSE", 320, "CSE", 220);
+        graph.addPrerequisite("CSE", 220, "CSE", 214);
+        graph.addPrerequisite("CSE", 320, "AMS", 301);
+
+        //CSE 220 may have been taken already, CSE 214 planned after CSE 320 is still required before it
+        Planner planner = planner(course("CSE", 320, 1), course("PHY", 131, 1), course("CSE", 214, 1));
+        List<PrerequisiteViolation> violations = graph.validate(planner);
+        assertEquals(1, violations.size());
+        assertEquals(1, violations.get(0).getCourse().getPosition());
+        assertEquals(3, violations.get(0).getPrerequisite().getPosition());
+
+        assertTrue(graph.validate(planner(course("CSE", 320, 1))).isEmpty());
+    }
+
+    //Finds every course required before a course by a search of the direct prerequisites
+    private static boolean[] reachable(boolean[][] direct, int course) {
+        boolean[] seen = new boolean[direct.length];
+        List<Integer> stack = new ArrayList<>(List.of(course));
+        while (!stack.isEmpty()) {
+            int next = stack.remove(stack.size() - 1);
+            for (int other = 0; other < direct.length; other++) {
+                if (direct[next][other] && !seen[other]) {
+                    seen[other] = true;
+                    stack.add(other);
+                }
+            }
+        }
+        return seen;
+    }
+
+    private static Planner planner(Course... courses) throws Exception {
+        Planner planner = new Planner(10);
+        for (Course course : courses)
+            planner.addCourse(course);
+        return planner;
+    }
+}
@@ -0,0 +1,104 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static courseplanner.TestCourses.course;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <code>SortedViewTest</code> class checks the sorted views of a <code>Planner</code>, kept up to
+ * date through random adds and removes, against a stable sort of its courses, and that a
+ * <code>SortedView</code> keeps courses equal in its order apart by their labels.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class SortedViewTest {
+
+    @Test
+    void viewsKeptUpToDateMatchASortOfTheCourses() throws Exception {
+        Random random = new Random(17);
+        for (boolean concurrent : new boolean[]{false, true}) {
+            Planner planner = new Planner(400, concurrent);
+            //The views are built while the planner is empty, so every later change has to keep them
+            for (CourseOrder order : CourseOrder.values())
+                planner.sorted(order);
+            for (int step = 0; step < 600; step++) {
+                int op = random.nextInt(10);
+                if (op < 5 || planner.size() == 0) {
+                    if (planner.size() < planner.getMaxCourses())
+                        planner.addCourse(course(random), 1 + random.nextInt(planner.size() + 1));
+                } else if (op < 7) {
+                    planner.removeCourse(1 + random.nextInt(planner.size()));
+                } else if (op == 7 && planner.size() + 5 <= planner.getMaxCourses()) {
+                    List<Course> added = new ArrayList<>();
+                    for (int i = 0; i < 5; i++)
+                        added.add(course(random));
+                    planner.addAll(1 + random.nextInt(planner.size() + 1), added);
+                } else if (op == 8) {
+                    int from = 1 + random.nextInt(planner.size());
+                    planner.removeRange(from, Math.min(planner.size(), from + random.nextInt(4)));
+                } else {
+                    int code = 100 + random.nextInt(20);
+                    planner.removeIf(course -> course.getCode() == code);
+                }
+                if (step % 50 == 0)
+                    check(planner);
+            }
+            check(planner);
+        }
+    }
+
+    @Test
+    void equalCoursesAreKeptInTheOrderOfTheirLabels() {
+        for (boolean concurrent : new boolean[]{false, true}) {
+            SortedView view = new SortedView(CourseOrder.DEPARTMENT, concurrent);
+            Course first = course("CSE", 214, 1);
+            Course same = course("CSE", 214, 1);
+            Course earlier = course("AMS", 161, 1);
+            view.add(same, 30);
+            view.add(first, 10);
+            view.add(earlier, 20);
+            assertEquals(3, view.size());
+            Iterator<SortedView.Entry> entries = view.iterator();
+            assertSame(earlier, entries.next().getCourse());
+            assertEquals(10, entries.next().getLabel());
+            assertEquals(30, entries.next().getLabel());
+
+            //Only the course holding the label is forgotten
+            view.remove(first, 30);
+            assertEquals(2, view.size());
+            entries = view.iterator();
+            entries.next();
+            assertEquals(10, entries.next().getLabel());
+            view.clear();
+            assertEquals(0, view.size());
+        }
+    }
+
+    //Checks the courses of every order against a stable sort of the courses of the planner
+    private static void check(Planner planner) {
+        List<PlannerEntry> positions = new ArrayList<>();
+        int position = 0;
+        for (Course course : planner.courses())
+            positions.add(new PlannerEntry(++position, course));
+        for (CourseOrder order : CourseOrder.values()) {
+            List<PlannerEntry> expected = new ArrayList<>(positions);
+            expected.sort((a, b) -> order.comparator().compare(a.getCourse(), b.getCourse()));
+            List<PlannerEntry> found = new ArrayList<>();
+            for (PlannerEntry entry : planner.sorted(order))
+                found.add(entry);
+            assertEquals(expected.size(), found.size(), order.toString());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getPosition(), found.get(i).getPosition(), order + " at " + i);
+                assertSame(expected.get(i).getCourse(), found.get(i).getCourse(), order + " at " + i);
+            }
+        }
+    }
+}
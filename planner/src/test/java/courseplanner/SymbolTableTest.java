@@ -0,0 +1,110 @@
+package courseplanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <code>SymbolTableTest</code> class checks the ids handed out by a <code>SymbolTable</code>, also
+ * when several threads add the same strings at once, that looking strings up doesn't add them, and the
+ * estimates of the heap taken by the table and its strings.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+class SymbolTableTest {
+
+    @Test
+    void equalStringsShareAnId() {
+        SymbolTable table = new SymbolTable();
+        int cse = table.id("CSE");
+        assertEquals(0, cse);
+        assertEquals(1, table.id("AMS"));
+        assertEquals(cse, table.id(new String("CSE")));
+        assertEquals(SymbolTable.NULL_ID, table.id(null));
+        assertNull(table.symbol(SymbolTable.NULL_ID));
+        assertEquals("AMS", table.symbol(1));
+        assertThrows(IllegalArgumentException.class, () -> table.symbol(2));
+
+        String copy = new String("CSE");
+        assertSame(table.symbol(cse), table.canonical(copy));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void findDoesNotAddStrings() {
+        SymbolTable table = new SymbolTable();
+        table.id("CSE");
+        assertEquals(SymbolTable.MISSING_ID, table.find("PHY"));
+        assertEquals(SymbolTable.NULL_ID, table.find(null));
+        assertEquals(0, table.find("CSE"));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void concurrentAddsAgreeOnTheIds() throws Exception {
+        SymbolTable table = new SymbolTable();
+        int[][] ids = new int[4][500];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] threads = new Thread[ids.length];
+        for (int t = 0; t < threads.length; t++) {
+            int thread = t;
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < ids[thread].length; i++) {
+                        ids[thread][i] = table.id("Instructor " + i);
+                        assertEquals("Instructor " + i, table.symbol(ids[thread][i]));
+                    }
+                } catch (Throwable ex) {
+                    failure.compareAndSet(null, ex);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        assertNull(failure.get());
+        assertEquals(500, table.size());
+        for (int[] seen : ids) {
+            for (int i = 0; i < seen.length; i++)
+                assertEquals(ids[0][i], seen[i]);
+        }
+    }
+
+    @Test
+    void footprintCountsEveryString() {
+        //A 24 byte string and its array of 16 bytes of header and one byte per Latin-1 letter
+        assertEquals(48, SymbolTable.stringFootprint("CSE"));
+        assertEquals(24 + 48, SymbolTable.stringFootprint("Data Structures and Algorithms"));
+        //Letters past Latin-1 take two bytes each
+        assertEquals(24 + 24, SymbolTable.stringFootprint("ΣΣΣ"));
+        assertEquals(0, SymbolTable.stringFootprint(null));
+        assertEquals(16, SymbolTable.align(9));
+        assertEquals(16, SymbolTable.align(16));
+
+        SymbolTable table = new SymbolTable();
+        long empty = table.footprint();
+        long strings = 0;
+        long last = empty;
+        for (int i = 0; i < 300; i++) {
+            String symbol = "Instructor " + i;
+            table.id(symbol);
+            strings += SymbolTable.stringFootprint(symbol);
+            long footprint = table.footprint();
+            assertTrue(footprint > last, "adding " + symbol);
+            last = footprint;
+        }
+        assertTrue(last >= empty + strings, last + " bytes can't hold " + strings + " bytes of strings");
+        //The map nodes and boxed ids cost less than 100 bytes more per string
+        assertTrue(last < empty + strings + 100L * 300 + 4096, last + " bytes for " + strings);
+        //Looking strings up doesn't change it
+        table.find("Nobody");
+        assertEquals(last, table.footprint());
+    }
+}
@@ -0,0 +1,58 @@
+package courseplanner;
+
+import java.util.Random;
+
+/**
+ * The <code>TestCourses</code> class builds the courses the tests fill their planners and sequences
+ * with, so that every test draws them the same way.
+ *
+ * @author CodeReDarsh
+ * <br>email: adarshcp2077@gmail.com
+ **/
+final class TestCourses {
+
+    //The departments the courses are drawn from
+    static final String[] DEPARTMENTS = {"CSE", "AMS", "MAT", "PHY"};
+
+    private TestCourses() {
+    }
+
+    /**
+     * This method draws a course with a code from 100 to 119, so that equal courses come up often
+     * @param random
+     *  The source of the fields of the course
+     * @return
+     *  A course of one of the departments, with a section from 1 to 3 and one of 5 instructors
+     */
+    static Course course(Random random) {
+        int code = 100 + random.nextInt(20);
+        return new Course("Course " + code, DEPARTMENTS[random.nextInt(DEPARTMENTS.length)], code,
+                (byte) (1 + random.nextInt(3)), "Instructor " + random.nextInt(5));
+    }
+
+    /**
+     * This method builds the course numbered i, courses with the same number being equal
+     * @param i
+     *  The number of the course, also its code
+     * @return
+     *  The course
+     */
+    static Course course(int i) {
+        return new Course("Course " + i, DEPARTMENTS[i % DEPARTMENTS.length], i, (byte) 1, "Instructor " + i % 7);
+    }
+
+    /**
+     * This method builds a section of a course of a given department
+     * @param department
+     *  The department of the course
+     * @param code
+     *  The code of the course
+     * @param section
+     *  The section
+     * @return
+     *  The course
+     */
+    static Course course(String department, int code, int section) {
+        return new Course("Course " + code, department, code, (byte) section, "Instructor");
+    }
+}